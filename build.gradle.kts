@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,6 +24,7 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -34,12 +36,15 @@ dependencies {
 }
 
 // about source and compilation
+// 가상 스레드(spring.threads.virtual.enabled) 를 쓰기 위해 21 로 올림(lombok 1.18.30, jacoco 0.8.11 부터 21 지원)
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
 }
 
 // bundling tasks
@@ -49,6 +54,35 @@ tasks.getByName("bootJar") {
 tasks.getByName("jar") {
     enabled = false
 }
+// benchmark tasks(src/jmh, ./gradlew jmh)
+// 커밋 간 회귀를 비교할 수 있도록 결과를 JSON 으로 남긴다
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    fork = 1
+    warmupIterations = 2
+    iterations = 3
+    // gc.alloc.rate.norm(요청 한 번의 할당 바이트)도 결과에 남김
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
+
+// load test tasks(src/loadtest, ./gradlew loadTest --args="rate=2000 duration=60s")
+// 앱을 localhost 에 띄우고 HTTP 로 open-loop 혼합 부하를 건 뒤, SLO 판정과 잔고 검증 결과를 build/reports/loadtest 에 남긴다
+val loadtest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[loadtest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadtest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "PointController 부하 테스트(SLO 미달 또는 잔고 불일치면 실패)"
+    classpath = loadtest.runtimeClasspath
+    mainClass = "io.hhplus.tdd.loadtest.PointLoadTest"
+}
+
 // test tasks
 tasks.test {
     ignoreFailures = true
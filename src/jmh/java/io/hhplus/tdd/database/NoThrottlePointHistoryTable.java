@@ -0,0 +1,40 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 PointHistoryTable
+ * - 원본의 throttle(sleep) 없이 유저별 목록에 저장하여 PointService 자체 비용만 측정한다.
+ */
+public class NoThrottlePointHistoryTable extends PointHistoryTable {
+
+    private final ConcurrentHashMap<Long, List<PointHistory>> table = new ConcurrentHashMap<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+        List<PointHistory> histories = table.computeIfAbsent(userId, id -> new ArrayList<>());
+        synchronized (histories) {
+            histories.add(pointHistory);
+        }
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        List<PointHistory> histories = table.get(userId);
+        if (histories == null) {
+            return List.of();
+        }
+        synchronized (histories) {
+            return List.copyOf(histories);
+        }
+    }
+}
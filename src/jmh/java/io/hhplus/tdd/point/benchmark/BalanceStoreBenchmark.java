@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.point.balance.BalanceStore;
+import io.hhplus.tdd.point.balance.PrimitiveBalanceStore;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔고 저장소 메모리/할당 벤치마크
+ * - setUp 에서 userCount 명을 채우기 전후의 heap 사용량(GC 직후)으로 유저당 바이트를 계산해 출력한다.
+ * - update 는 이미 있는 유저의 잔고를 갱신하며, gc 프로파일러의 gc.alloc.rate.norm(B/op) 으로 갱신 한 번의 할당량을 본다.
+ * - TABLE 은 sleep 없는 UserPointTable(Long 키 -> UserPoint 맵)로 기존 구조의 메모리를 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class BalanceStoreBenchmark {
+
+    @Param({"TABLE", "PRIMITIVE"})
+    public String store;
+
+    @Param({"10000000"})
+    public int userCount;
+
+    private BalanceStore balanceStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        balanceStore = store.equals("PRIMITIVE")
+                ? new PrimitiveBalanceStore(userCount)
+                : new UserPointTableBalanceStore(new NoThrottleUserPointTable());
+        for (long userId = 1; userId <= userCount; userId++) {
+            balanceStore.insertOrUpdate(userId, userId % 5000);
+        }
+        long after = usedHeap();
+        System.out.printf("%n[%s] users=%d, heap=%dMB, bytes/user=%.1f%n",
+                store, userCount, (after - before) >> 20, (double) (after - before) / userCount);
+    }
+
+    @Benchmark
+    public UserPoint update() {
+        long userId = ThreadLocalRandom.current().nextLong(userCount) + 1;
+        return balanceStore.insertOrUpdate(userId, userId % 5000);
+    }
+
+    @Benchmark
+    public UserPoint select() {
+        return balanceStore.selectById(ThreadLocalRandom.current().nextLong(userCount) + 1);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
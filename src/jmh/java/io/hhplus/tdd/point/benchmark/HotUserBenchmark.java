@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.admission.PointAdmissionProperties;
+import io.hhplus.tdd.point.balance.BalanceCells;
+import io.hhplus.tdd.point.balance.BalanceStore;
+import io.hhplus.tdd.point.balance.PrimitiveBalanceStore;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.history.PointHistoryWriterProperties;
+import io.hhplus.tdd.point.lock.RefCountedUserLockRegistry;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.service.PointConcurrencyProperties;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 유저에게 charge/use 가 몰릴 때 LOCK / OPTIMISTIC / COMBINING 모드 비교
+ * - tables=PRIMITIVE 면 잔고는 PrimitiveBalanceStore, TABLE 이면 sleep 이 있는 UserPointTable 에 저장한다.
+ *   TABLE 에서는 잔고 저장을 모아서 하는 모드(OPTIMISTIC, COMBINING)의 처리량이 스레드 수를 따라 늘어난다.
+ * - 내역은 sleep 없는 테이블에 동기 모드로 저장한다.
+ * - 8 스레드가 같은 유저에게 충전 100 과 사용 100 을 차례로 요청한다(잔고가 2500 근처에 머물러 거절되지 않음).
+ * - -p maxRetries=0 으로 실행하면 충돌할 때마다 lock 으로 넘어가는 경우를 볼 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(time = 2)
+@Measurement(time = 3)
+public class HotUserBenchmark {
+
+    private static final long USER_ID = 1;
+    private static final long AMOUNT = 100;
+
+    @Param({"LOCK", "OPTIMISTIC", "COMBINING"})
+    public String mode;
+
+    @Param({"PRIMITIVE", "TABLE"})
+    public String tables;
+
+    @Param({"8"})
+    public int maxRetries;
+
+    private PointService pointService;
+    private PointHistoryWriter pointHistoryWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(new NoThrottlePointHistoryTable());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryIndex,
+                new PointHistoryWriterProperties(false, 100, Duration.ofMillis(5), 100, Duration.ofSeconds(1)), pointMetrics, List.of());
+        BalanceStore balanceStore = tables.equals("TABLE")
+                ? new UserPointTableBalanceStore(new UserPointTable())
+                : new PrimitiveBalanceStore(16);
+        pointService = new PointService(balanceStore, pointHistoryWriter, pointHistoryIndex,
+                new UserPointCache(new UserPointCacheProperties(16)), new RefCountedUserLockRegistry(), pointMetrics,
+                new BalanceCells(), new PointConcurrencyProperties(PointConcurrencyProperties.Mode.valueOf(mode), maxRetries, 256),
+                new PointAdmissionControl(new PointAdmissionProperties(10000, 64, Duration.ofSeconds(2)), pointMetrics, meterRegistry));
+        pointService.charge(new PointHistoryDto(USER_ID, 2500, TransactionType.CHARGE));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pointHistoryWriter.close();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void chargeThenUse(Blackhole blackhole) {
+        blackhole.consume(pointService.charge(new PointHistoryDto(USER_ID, AMOUNT, TransactionType.CHARGE)));
+        blackhole.consume(pointService.use(new PointHistoryDto(USER_ID, AMOUNT, TransactionType.USE)));
+    }
+}
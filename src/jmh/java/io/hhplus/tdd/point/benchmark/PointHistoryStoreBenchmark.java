@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역 저장소 메모리/조회 벤치마크
+ * - setUp 에서 entries 건을 userCount 명에게 번갈아 저장하기 전후의 heap 사용량(GC 직후)으로 내역당 바이트를 계산해 출력한다.
+ * - TABLE 은 sleep 없는 PointHistoryTable + 유저별 인덱스(PointHistory 객체 보관), COLUMNAR 는 열 단위 압축 저장소.
+ * - page 는 임의 유저의 첫 페이지를 조회한다(COLUMNAR 는 이때 PointHistory 를 만든다).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class PointHistoryStoreBenchmark {
+
+    @Param({"TABLE", "COLUMNAR"})
+    public String store;
+
+    @Param({"100000000"})
+    public int entries;
+
+    @Param({"1000000"})
+    public int userCount;
+
+    private PointHistoryStore pointHistoryStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        pointHistoryStore = store.equals("COLUMNAR")
+                ? new ColumnarPointHistoryStore()
+                : new PointHistoryIndex(new NoThrottlePointHistoryTable());
+        // 충전/사용이 섞이고 시각은 조금씩 증가하는 내역
+        long updateMillis = 1_700_000_000_000L;
+        for (long i = 0; i < entries; i++) {
+            updateMillis += i & 3;
+            pointHistoryStore.insert(i % userCount + 1, 100 * (i % 50 + 1), i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, updateMillis);
+        }
+        long after = usedHeap();
+        System.out.printf("%n[%s] entries=%d, users=%d, heap=%dMB, bytes/entry=%.1f%n",
+                store, entries, userCount, (after - before) >> 20, (double) (after - before) / entries);
+    }
+
+    @Benchmark
+    public PointHistorySlice page() {
+        return pointHistoryStore.page(ThreadLocalRandom.current().nextInt(userCount) + 1, PointHistoryQuery.firstPage());
+    }
+
+    @Benchmark
+    public PointHistory insert() {
+        return pointHistoryStore.insert(ThreadLocalRandom.current().nextInt(userCount) + 1, 100, TransactionType.CHARGE, System.currentTimeMillis());
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.journal.PointJournalProperties;
+import io.hhplus.tdd.point.journal.PointJournalProperties.FsyncPolicy;
+import io.hhplus.tdd.point.journal.PointSnapshotProperties;
+import io.hhplus.tdd.point.journal.PointSnapshotStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 저널 재생 시간 벤치마크
+ * - records 건의 저널을 미리 만들어 두고, 기동 시 복구처럼 처음부터 끝까지 재생하는 시간을 잰다.
+ * - snapshot=true 면 마지막에 스냅샷을 저장해 두고, 스냅샷을 불러와 꼬리만 재생하는 시간을 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class PointJournalReplayBenchmark {
+
+    @Param({"10000000"})
+    public int records;
+
+    @Param({"100000"})
+    public int userCount;
+
+    @Param({"false", "true"})
+    public boolean snapshot;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-journal-bench");
+        PointJournal journal = new PointJournal(properties());
+        journal.replay((pointHistory, userPoint) -> {});
+        for (long id = 1; id <= records; id++) {
+            long userId = id % userCount + 1;
+            journal.onCommitted(new PointHistory(id, userId, 100, TransactionType.CHARGE, id), new UserPoint(userId, id % 5000, id));
+        }
+        if (snapshot) {
+            snapshotStore().write(journal.snapshot());
+        }
+        journal.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long replay(Blackhole blackhole) throws IOException {
+        PointJournal journal = new PointJournal(properties());
+        long replayed = journal.replay(snapshot ? snapshotStore().loadLatest() : null, (pointHistory, userPoint) -> {
+            blackhole.consume(pointHistory);
+            blackhole.consume(userPoint);
+        });
+        journal.close();
+        return replayed;
+    }
+
+    private PointJournalProperties properties() {
+        return new PointJournalProperties(true, directory.toString(), 1 << 20, FsyncPolicy.NEVER);
+    }
+
+    private PointSnapshotStore snapshotStore() {
+        return new PointSnapshotStore(properties(), new PointSnapshotProperties(Duration.ZERO, 1, false));
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.codec.PointCodecProperties;
+import io.hhplus.tdd.point.codec.PointResponseCodec;
+import io.hhplus.tdd.point.codec.PointResponseFormat;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 직렬화 벤치마크
+ * - JACKSON 은 이전 컨트롤러와 같이 JsonGenerator.writeObject 로, JSON/BINARY 는 PointResponseCodec 으로 쓴다.
+ * - 응답 스트림 대신 버리는 OutputStream 에 쓰므로 직렬화 비용만 잰다(gc.alloc.rate.norm 으로 응답당 할당량 비교).
+ * - page 는 size 건짜리 내역 한 페이지를 미리 꺼내 두고 쓰기만 반복한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointResponseCodecBenchmark {
+
+    @Param({"JACKSON", "JSON", "BINARY"})
+    public String format;
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Jackson 이 close 해도 계속 쓸 수 있도록 close 를 무시하고 버림
+    private final OutputStream out = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+    private PointResponseCodec pointResponseCodec;
+    private PointHistorySlice slice;
+    private UserPoint userPoint;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointResponseCodec = new PointResponseCodec(new PointCodecProperties(8192, 16));
+        ColumnarPointHistoryStore pointHistoryStore = new ColumnarPointHistoryStore();
+        long updateMillis = 1_700_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            pointHistoryStore.insert(1L, 100L * (i % 50 + 1), i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, updateMillis + i);
+        }
+        slice = pointHistoryStore.page(1L, new PointHistoryQuery(null, size, null, null, null));
+        userPoint = new UserPoint(1L, 4200, updateMillis);
+    }
+
+    @Benchmark
+    public void page() throws IOException {
+        if (format.equals("JACKSON")) {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                slice.forEach(pointHistory -> {
+                    try {
+                        generator.writeObject(pointHistory);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        } else {
+            pointResponseCodec.write(slice, PointResponseFormat.valueOf(format), out);
+        }
+    }
+
+    @Benchmark
+    public void point() throws IOException {
+        if (format.equals("JACKSON")) {
+            objectMapper.writeValue(out, userPoint);
+        } else {
+            pointResponseCodec.write(userPoint, PointResponseFormat.valueOf(format), out);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.admission.PointAdmissionProperties;
+import io.hhplus.tdd.point.balance.BalanceCells;
+import io.hhplus.tdd.point.balance.BalanceStore;
+import io.hhplus.tdd.point.balance.PrimitiveBalanceStore;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.history.PointHistoryWriterProperties;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.lock.RefCountedUserLockRegistry;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.service.PointConcurrencyProperties;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 주요 경로 벤치마크
+ * - userCount 로 경합 정도를 조절한다(1: 한 유저에 모든 요청이 몰림 ~ 100000: 유저가 고르게 퍼짐).
+ * - tables=NO_THROTTLE 이면 sleep 없는 테이블을 써서 서비스 자체 비용(lock, 캐시, 인덱스)만 측정한다.
+ * - tables=PRIMITIVE 면 잔고는 PrimitiveBalanceStore 에, 내역은 sleep 없는 테이블에 저장한다.
+ * - charge/use 는 잔고가 한쪽으로 쏠리지 않도록 같은 그룹에서 같은 스레드 수로 동시에 실행한다.
+ *   최대잔고 초과/잔고부족으로 거절된 요청도 측정에 포함된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(time = 2)
+@Measurement(time = 3)
+public class PointServiceBenchmark {
+
+    private static final long INITIAL_POINT = 2500;
+    private static final long AMOUNT = 100;
+
+    @Param({"1", "16", "100000"})
+    public int userCount;
+
+    @Param({"NO_THROTTLE", "PRIMITIVE", "TABLE"})
+    public String tables;
+
+    private PointService pointService;
+    private PointHistoryWriter pointHistoryWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BalanceStore balanceStore = switch (tables) {
+            case "TABLE" -> new UserPointTableBalanceStore(new UserPointTable());
+            case "PRIMITIVE" -> new PrimitiveBalanceStore(userCount);
+            default -> new UserPointTableBalanceStore(new NoThrottleUserPointTable());
+        };
+        PointHistoryTable pointHistoryTable = tables.equals("TABLE") ? new PointHistoryTable() : new NoThrottlePointHistoryTable();
+
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(pointHistoryTable);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        // 내역 저장을 동기 모드로 두어 요청 스레드에서 드는 비용을 모두 측정에 포함
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryIndex,
+                new PointHistoryWriterProperties(false, 100, Duration.ofMillis(5), 10000, Duration.ofSeconds(1)), pointMetrics, List.of());
+        pointService = new PointService(balanceStore, pointHistoryWriter, pointHistoryIndex,
+                new UserPointCache(new UserPointCacheProperties(userCount * 2)), new RefCountedUserLockRegistry(), pointMetrics,
+                new BalanceCells(), new PointConcurrencyProperties(PointConcurrencyProperties.Mode.LOCK, 8, 256),
+                new PointAdmissionControl(new PointAdmissionProperties(10000, 64, Duration.ofSeconds(2)), pointMetrics, meterRegistry));
+
+        // 모든 유저의 잔고를 중간값으로 맞춰 둠
+        if (!tables.equals("TABLE")) {
+            for (long userId = 1; userId <= userCount; userId++) {
+                pointService.charge(new PointHistoryDto(userId, INITIAL_POINT, TransactionType.CHARGE));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pointHistoryWriter.close();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void point(Blackhole blackhole) {
+        blackhole.consume(pointService.point(nextUserId()));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void history(Blackhole blackhole) {
+        blackhole.consume(pointService.history(nextUserId()));
+    }
+
+    @Benchmark
+    @Group("chargeUse")
+    @GroupThreads(4)
+    public void charge(Blackhole blackhole) {
+        try {
+            blackhole.consume(pointService.charge(new PointHistoryDto(nextUserId(), AMOUNT, TransactionType.CHARGE)));
+        } catch (RuntimeException rejected) {
+            blackhole.consume(rejected);
+        }
+    }
+
+    @Benchmark
+    @Group("chargeUse")
+    @GroupThreads(4)
+    public void use(Blackhole blackhole) {
+        try {
+            blackhole.consume(pointService.use(new PointHistoryDto(nextUserId(), AMOUNT, TransactionType.USE)));
+        } catch (RuntimeException rejected) {
+            blackhole.consume(rejected);
+        }
+    }
+
+    private long nextUserId() {
+        return ThreadLocalRandom.current().nextLong(1, userCount + 1L);
+    }
+}
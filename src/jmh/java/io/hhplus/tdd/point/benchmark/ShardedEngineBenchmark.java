@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.admission.PointAdmissionProperties;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.engine.PointEngine;
+import io.hhplus.tdd.point.engine.PointEngineProperties;
+import io.hhplus.tdd.point.engine.ShardedPointEngine;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyCache;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyProperties;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저가 고르게 퍼진 부하에서 shard 수에 따른 SHARDED 엔진 처리량
+ * - 16 스레드가 임의 유저에게 충전 100 과 사용 100 을 차례로 요청하고 결과를 기다린다.
+ * - shards=1 이 쓰기 스레드 하나로 모두 처리하는 기준값이며, CPU 코어 수까지는 shard 수에 비례해 늘어나는 것을 기대한다.
+ * - 모든 유저를 미리 2500 으로 충전해 두어 거절되지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(time = 2)
+@Measurement(time = 3)
+public class ShardedEngineBenchmark {
+
+    private static final long AMOUNT = 100;
+
+    @Param({"1", "2", "4", "8"})
+    public int shards;
+
+    @Param({"100000"})
+    public int userCount;
+
+    private ShardedPointEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        engine = new ShardedPointEngine(new PointEngineProperties(PointEngine.Type.SHARDED, shards, 128, 100000),
+                userCount, userCount, Duration.ofSeconds(10), 10000, pointMetrics,
+                new PointAdmissionControl(new PointAdmissionProperties(100000, 64, Duration.ofSeconds(2)), pointMetrics, meterRegistry),
+                new PointIdempotencyCache(new PointIdempotencyProperties(Duration.ofMinutes(10), 1024, 255), meterRegistry),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        List<CompletableFuture<?>> charged = new ArrayList<>(userCount);
+        for (long userId = 1; userId <= userCount; userId++) {
+            charged.add(engine.charge(new PointHistoryDto(userId, 2500, TransactionType.CHARGE)));
+        }
+        CompletableFuture.allOf(charged.toArray(CompletableFuture[]::new)).join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        engine.close();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long chargeThenUse() {
+        long userId = ThreadLocalRandom.current().nextInt(userCount) + 1;
+        engine.charge(new PointHistoryDto(userId, AMOUNT, TransactionType.CHARGE)).join();
+        return engine.use(new PointHistoryDto(userId, AMOUNT, TransactionType.USE)).join().point();
+    }
+}
@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.admission.PointAdmissionProperties;
+import io.hhplus.tdd.point.async.PointAsyncProperties;
+import io.hhplus.tdd.point.async.PointAsyncService;
+import io.hhplus.tdd.point.balance.BalanceCells;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointOutcomeUnknownException;
+import io.hhplus.tdd.point.exception.PointOverloadedException;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.history.PointHistoryWriterProperties;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyCache;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyProperties;
+import io.hhplus.tdd.point.lock.RefCountedUserLockRegistry;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.service.PointConcurrencyProperties;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * pointAsyncExecutor 의 플랫폼 스레드 풀 / 가상 스레드 처리량 비교(spring.threads.virtual.enabled=false / true)
+ * - 서로 다른 유저 requests 명의 충전을 PointAsyncService.charge 로 한꺼번에 넣고 모두 응답할 때까지의 시간을 잰다.
+ * - PointService 는 기본 설정과 같게 구성한다(잔고는 UserPointTable, 내역은 COLUMNAR + write-behind, LOCK 모드, timeout 3s).
+ * - PLATFORM 은 PointAsyncConfig.pointAsyncExecutor 와 같은 풀(스레드 64개, 대기열 1000), VIRTUAL 은 요청마다 가상 스레드다.
+ * - 대기열이 가득 차 거절된 요청(503)과 timeout 으로 끝난 요청(503/504)도 응답으로 세며, 반복마다 결과별 건수를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class ThreadModelBenchmark {
+
+    private static final long AMOUNT = 100;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String threads;
+
+    @Param({"1000", "5000"})
+    public int requests;
+
+    private final PointAsyncProperties asyncProperties = new PointAsyncProperties(Duration.ofSeconds(3), 64, 1000);
+
+    private ExecutorService executor;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointAsyncService pointAsyncService;
+
+    // 반복마다 새 유저를 써서 잔고 캐시에 걸리지 않게 함(첫 요청의 잔고 조회까지 포함)
+    private long nextUserId = 1;
+
+    private final AtomicInteger ok = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+    private final AtomicInteger timedOut = new AtomicInteger();
+    private final AtomicInteger outcomeUnknown = new AtomicInteger();
+    private final AtomicInteger overloaded = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = threads.equals("VIRTUAL")
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("point-async-", 1).factory())
+                : platformExecutor();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        ColumnarPointHistoryStore pointHistoryStore = new ColumnarPointHistoryStore();
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryStore,
+                new PointHistoryWriterProperties(true, 100, Duration.ofMillis(5), 10000, Duration.ofSeconds(1)), pointMetrics, List.of());
+        pointHistoryWriter.start();
+        PointService pointService = new PointService(new UserPointTableBalanceStore(new UserPointTable()), pointHistoryWriter, pointHistoryStore,
+                new UserPointCache(new UserPointCacheProperties(100000)), new RefCountedUserLockRegistry(), pointMetrics,
+                new BalanceCells(), new PointConcurrencyProperties(PointConcurrencyProperties.Mode.LOCK, 8, 256),
+                new PointAdmissionControl(new PointAdmissionProperties(10000, 64, Duration.ofSeconds(2)), pointMetrics, meterRegistry));
+        PointIdempotencyCache idempotencyCache = new PointIdempotencyCache(
+                new PointIdempotencyProperties(Duration.ofMinutes(10), 262144, 255), meterRegistry);
+        pointAsyncService = new PointAsyncService(pointService, null, executor, asyncProperties, idempotencyCache);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n%s requests=%d ok=%d rejected(503)=%d timeout(503)=%d outcome-unknown(504)=%d overloaded(429)=%d%n",
+                threads, requests, ok.getAndSet(0), rejected.getAndSet(0), timedOut.getAndSet(0),
+                outcomeUnknown.getAndSet(0), overloaded.getAndSet(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        pointHistoryWriter.close();
+    }
+
+    @Benchmark
+    public void charge() {
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(submit(new PointHistoryDto(nextUserId++, AMOUNT, TransactionType.CHARGE)));
+        }
+        for (CompletableFuture<UserPoint> future : futures) {
+            try {
+                future.join();
+                ok.incrementAndGet();
+            } catch (CompletionException e) {
+                count(e.getCause());
+            }
+        }
+    }
+
+    private CompletableFuture<UserPoint> submit(PointHistoryDto pointHistoryDto) {
+        try {
+            return pointAsyncService.charge(pointHistoryDto);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void count(Throwable cause) {
+        if (cause instanceof RejectedExecutionException) {
+            rejected.incrementAndGet();
+        } else if (cause instanceof TimeoutException) {
+            timedOut.incrementAndGet();
+        } else if (cause instanceof PointOutcomeUnknownException) {
+            outcomeUnknown.incrementAndGet();
+        } else if (cause instanceof PointOverloadedException) {
+            overloaded.incrementAndGet();
+        } else {
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * PointAsyncConfig.pointAsyncExecutor 와 같은 구성
+     */
+    private ExecutorService platformExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(asyncProperties.parallelism(), asyncProperties.parallelism(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(asyncProperties.queueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "point-async-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.expiry.TimingWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이밍 휠 메모리/처리시간 벤치마크
+ * - setUp 에서 pending 건의 만료(1 ~ 100 tick 뒤, 100ms tick 이면 10초)를 등록하기 전후의 heap 사용량(GC 직후)으로 항목당 바이트를 계산해 출력한다.
+ * - scheduleAndTick 은 만료 하나를 등록하고 tick 하나를 진행한다(등록 수와 만료 수가 같아 pending 이 유지됨).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class TimingWheelBenchmark {
+
+    private static final int SPAN_TICKS = 100;
+
+    @Param({"10000000"})
+    public int pending;
+
+    private TimingWheel wheel;
+    private long expired;
+    private int scheduled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        wheel = new TimingWheel(4, 0, pending);
+        for (int i = 0; i < pending; i++) {
+            wheel.schedule(i, i, 1 + i % SPAN_TICKS);
+        }
+        long after = usedHeap();
+        System.out.printf("%npending=%d, heap=%dMB, bytes/entry=%.1f%n",
+                pending, (after - before) >> 20, (double) (after - before) / pending);
+    }
+
+    /**
+     * tick 하나에 pending / SPAN_TICKS 건이 만료되므로, 그만큼 등록할 때마다 tick 을 하나 진행함
+     */
+    @Benchmark
+    public long scheduleAndTick() {
+        long tick = wheel.currentTick();
+        wheel.schedule(ThreadLocalRandom.current().nextLong(), tick, tick + SPAN_TICKS);
+        if (++scheduled == pending / SPAN_TICKS) {
+            scheduled = 0;
+            expired += wheel.advance(tick + 1, (key, version) -> {
+            });
+        }
+        return expired;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.loadtest;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하가 끝난 뒤 유저별 잔고가 내역을 처음부터 다시 더한 값과 같은지 확인함
+ * - 충전은 더하고 사용/만료는 뺀다(앱을 새로 띄웠으므로 시작 잔고는 0).
+ * - 검증 도중 만료 처리가 끼어들 수 있으므로, 내역 전후로 읽은 잔고가 다르면 몇 번 다시 읽는다.
+ */
+public class BalanceVerifier {
+
+    private static final int ATTEMPTS = 3;
+    private static final int MAX_SAMPLES = 20;
+    private static final int PARALLELISM = 8;
+
+    private final PointApiClient client;
+
+    public BalanceVerifier(PointApiClient client) {
+        this.client = client;
+    }
+
+    public Result verify(Collection<Long> userIds) throws InterruptedException {
+        AtomicLong mismatched = new AtomicLong();
+        List<String> samples = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+        try {
+            List<Future<?>> futures = new ArrayList<>(userIds.size());
+            for (long userId : userIds) {
+                futures.add(executor.submit(() -> {
+                    String mismatch = verify(userId);
+                    if (mismatch != null) {
+                        mismatched.incrementAndGet();
+                        if (samples.size() < MAX_SAMPLES) {
+                            samples.add(mismatch);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // 잔고/내역을 읽지 못한 유저도 불일치로 셈
+                    mismatched.incrementAndGet();
+                    if (samples.size() < MAX_SAMPLES) {
+                        samples.add(e.getCause().toString());
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result(userIds.size(), mismatched.get(), List.copyOf(samples));
+    }
+
+    /**
+     * @return 맞지 않으면 설명, 맞으면 null
+     */
+    private String verify(long userId) throws Exception {
+        String mismatch = null;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            UserPoint before = client.point(userId);
+            long replayed = replay(client.histories(userId));
+            UserPoint after = client.point(userId);
+            if (before.point() == after.point() && after.point() == replayed) {
+                return null;
+            }
+            mismatch = "userId=" + userId + " 잔고=" + after.point() + " 내역 합계=" + replayed;
+        }
+        return mismatch;
+    }
+
+    private static long replay(List<PointHistory> histories) {
+        long point = 0;
+        for (PointHistory pointHistory : histories) {
+            point += switch (pointHistory.type()) {
+                case CHARGE -> pointHistory.amount();
+                case USE, EXPIRE -> -pointHistory.amount();
+            };
+        }
+        return point;
+    }
+
+    /**
+     * @param users 검증한 유저 수
+     * @param mismatched 잔고와 내역 합계가 다른 유저 수
+     * @param samples 맞지 않은 예(최대 20개)
+     */
+    public record Result(long users, long mismatched, List<String> samples) {
+        public boolean passed() {
+            return mismatched == 0;
+        }
+    }
+}
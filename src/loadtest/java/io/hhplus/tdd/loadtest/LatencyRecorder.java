@@ -0,0 +1,94 @@
+package io.hhplus.tdd.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 요청 종류별 응답시간과 결과 집계
+ * - 응답시간은 요청을 보내려던 시각부터 잰다(서버가 밀려 늦게 보낸 시간도 포함, coordinated omission 보정).
+ * - 응답시간은 종류마다 미리 잡아 둔 long 배열에 나노초로 쌓고, 결과를 만들 때만 정렬해서 백분위를 구한다.
+ */
+public class LatencyRecorder {
+
+    /**
+     * 요청 결과
+     * - OK : 2xx
+     * - REJECTED : 500(잔고 부족/최대잔고 초과/만료처럼 규칙에 따른 거절)
+     * - OVERLOADED : 429
+     * - UNAVAILABLE : 503(시간 초과/대기열 가득 참)
+     * - FAILED : 그 밖의 상태 코드 또는 연결 실패
+     * - DROPPED : 응답 대기 요청이 max-in-flight 를 넘어 보내지 않음
+     */
+    public enum Outcome {
+        OK, REJECTED, OVERLOADED, UNAVAILABLE, FAILED, DROPPED;
+
+        public boolean error() {
+            return this != OK && this != REJECTED;
+        }
+    }
+
+    private static final int OUTCOMES = Outcome.values().length;
+
+    private final Map<LoadOperation, long[]> latencies = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, AtomicInteger> recorded = new EnumMap<>(LoadOperation.class);
+    private final AtomicLongArray outcomes = new AtomicLongArray(LoadOperation.values().length * OUTCOMES);
+
+    /**
+     * @param capacity 종류마다 보관할 최대 응답시간 수(넘는 응답시간은 결과 건수에만 들어감)
+     */
+    public LatencyRecorder(int capacity) {
+        for (LoadOperation operation : LoadOperation.values()) {
+            latencies.put(operation, new long[capacity]);
+            recorded.put(operation, new AtomicInteger());
+        }
+    }
+
+    public void record(LoadOperation operation, Outcome outcome, long latencyNanos) {
+        outcomes.incrementAndGet(operation.ordinal() * OUTCOMES + outcome.ordinal());
+        if (outcome == Outcome.DROPPED) {
+            return;
+        }
+        int index = recorded.get(operation).getAndIncrement();
+        long[] values = latencies.get(operation);
+        if (index < values.length) {
+            values[index] = latencyNanos;
+        }
+    }
+
+    public long count(LoadOperation operation, Outcome outcome) {
+        return outcomes.get(operation.ordinal() * OUTCOMES + outcome.ordinal());
+    }
+
+    /**
+     * 응답시간을 오름차순으로 정렬한 사본(operation 이 null 이면 전체)
+     */
+    public long[] sorted(LoadOperation operation) {
+        long[] result = new long[0];
+        for (LoadOperation each : LoadOperation.values()) {
+            if (operation == null || operation == each) {
+                int size = Math.min(recorded.get(each).get(), latencies.get(each).length);
+                int offset = result.length;
+                result = Arrays.copyOf(result, offset + size);
+                System.arraycopy(latencies.get(each), 0, result, offset, size);
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * @param sorted 오름차순 응답시간
+     * @param quantile 0 ~ 1
+     * @return 백분위 응답시간(나노초, 없으면 0)
+     */
+    public static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.loadtest;
+
+/**
+ * 부하 테스트에서 보내는 요청 종류
+ * - POINT : GET /point/{id}
+ * - HISTORY : GET /point/{id}/histories
+ * - CHARGE : PATCH /point/{id}/charge
+ * - USE : PATCH /point/{id}/use
+ */
+public enum LoadOperation {
+    POINT, HISTORY, CHARGE, USE
+}
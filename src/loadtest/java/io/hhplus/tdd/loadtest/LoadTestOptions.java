@@ -0,0 +1,95 @@
+package io.hhplus.tdd.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정(key=value 인자, 없으면 기본값)
+ * @param rate 초당 요청 수(도착 간격은 지수분포, 응답을 기다리지 않고 보냄)
+ * @param duration 측정 시간
+ * @param warmup 측정 전에 같은 부하로 JIT/캐시를 데우는 시간(결과에서 제외)
+ * @param users 유저 수(id 1 ~ users)
+ * @param zipf 유저 선택 Zipf 지수(클수록 적은 유저에 몰림, 0 이면 균등)
+ * @param mix 요청 종류별 비율
+ * @param amount 충전/사용 금액
+ * @param maxInFlight 응답을 기다리는 요청 최대 수(넘으면 보내지 않고 dropped 로 셈)
+ * @param sloP50 p50 목표
+ * @param sloP99 p99 목표
+ * @param sloP999 p999 목표
+ * @param maxErrorRate 허용 에러율(429/503/연결 실패/dropped, 잔고 규칙에 따른 거절은 제외)
+ * @param report 결과 JSON 경로
+ */
+public record LoadTestOptions(
+        int rate,
+        Duration duration,
+        Duration warmup,
+        int users,
+        double zipf,
+        Map<LoadOperation, Integer> mix,
+        long amount,
+        int maxInFlight,
+        Duration sloP50,
+        Duration sloP99,
+        Duration sloP999,
+        double maxErrorRate,
+        Path report
+) {
+    private static final String DEFAULT_MIX = "point:40,history:10,charge:30,use:20";
+
+    /**
+     * @param args rate=2000 duration=60s mix=point:40,history:10,charge:30,use:20 slo.p99=100ms 형식
+     */
+    public static LoadTestOptions parse(List<String> args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("key=value 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "500")),
+                duration(values.getOrDefault("duration", "30s")),
+                duration(values.getOrDefault("warmup", "5s")),
+                Integer.parseInt(values.getOrDefault("users", "10000")),
+                Double.parseDouble(values.getOrDefault("zipf", "1.1")),
+                mix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Long.parseLong(values.getOrDefault("amount", "100")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                duration(values.getOrDefault("slo.p50", "20ms")),
+                duration(values.getOrDefault("slo.p99", "200ms")),
+                duration(values.getOrDefault("slo.p999", "1s")),
+                Double.parseDouble(values.getOrDefault("slo.error-rate", "0.001")),
+                Path.of(values.getOrDefault("report", "build/reports/loadtest/result.json")));
+        if (options.rate < 1 || options.users < 1 || options.duration.isZero()) {
+            throw new IllegalArgumentException("rate, users, duration 은 0 보다 커야 합니다.");
+        }
+        return options;
+    }
+
+    private static Duration duration(String value) {
+        return DurationStyle.detectAndParse(value);
+    }
+
+    private static Map<LoadOperation, Integer> mix(String value) {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 는 종류:비율 목록이어야 합니다: " + value);
+            }
+            mix.put(LoadOperation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix 비율의 합은 0 보다 커야 합니다: " + value);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.loadtest;
+
+import io.hhplus.tdd.loadtest.LatencyRecorder.Outcome;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과
+ * - 종류별/전체 처리량과 p50/p99/p999/max 응답시간, 결과별 건수를 SLO 와 비교한다.
+ * - 통과 조건 : 전체 응답시간이 SLO 안, 에러율이 허용치 이하, 모든 유저의 잔고가 내역 합계와 같음
+ *   (종류별 SLO 판정은 참고용)
+ * @param rate 목표 초당 요청 수
+ * @param seconds 측정 시간(마지막 응답까지)
+ * @param scheduled 보내려고 한 요청 수
+ * @param operations 종류별 결과
+ * @param total 전체 결과
+ * @param errorRate 에러 건수 / 전체 건수
+ * @param slo 목표
+ * @param verification 잔고 검증 결과
+ * @param passed 통과 여부
+ */
+public record LoadTestReport(
+        int rate,
+        double seconds,
+        long scheduled,
+        List<OperationReport> operations,
+        OperationReport total,
+        double errorRate,
+        Slo slo,
+        BalanceVerifier.Result verification,
+        boolean passed
+) {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static LoadTestReport of(LoadTestOptions options, LatencyRecorder recorder, double seconds, long scheduled,
+                                    BalanceVerifier.Result verification) {
+        Slo slo = new Slo(millis(options.sloP50().toNanos()), millis(options.sloP99().toNanos()), millis(options.sloP999().toNanos()),
+                options.maxErrorRate());
+        List<OperationReport> operations = new ArrayList<>();
+        for (LoadOperation operation : options.mix().keySet()) {
+            operations.add(OperationReport.of(operation.name(), recorder, operation, seconds, slo));
+        }
+        OperationReport total = OperationReport.of("TOTAL", recorder, null, seconds, slo);
+        long errors = total.outcomes().entrySet().stream()
+                .filter(entry -> entry.getKey().error())
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        double errorRate = total.requests() == 0 ? 0 : (double) errors / total.requests();
+        boolean passed = total.sloMet() && errorRate <= options.maxErrorRate() && verification.passed();
+        return new LoadTestReport(options.rate(), seconds, scheduled, operations, total, errorRate, slo, verification, passed);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n목표 %d req/s, %.1f초 동안 %d건 (실제 %.1f req/s)%n", rate, seconds, scheduled, total.throughput());
+        out.printf("SLO p50 <= %.1fms, p99 <= %.1fms, p999 <= %.1fms, 에러율 <= %.3f%%%n",
+                slo.p50Millis(), slo.p99Millis(), slo.p999Millis(), slo.maxErrorRate() * 100);
+        out.printf("%-8s %9s %10s %9s %9s %9s %9s  %-4s %s%n", "요청", "건수", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "SLO", "결과");
+        for (OperationReport operation : operations) {
+            operation.print(out);
+        }
+        total.print(out);
+        out.printf("에러율 %.3f%%%n", errorRate * 100);
+        out.printf("잔고 검증 : %d명 중 %d명 불일치%n", verification.users(), verification.mismatched());
+        verification.samples().forEach(sample -> out.println("  " + sample));
+        out.println(passed ? "PASS" : "FAIL");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * 응답시간 목표와 허용 에러율
+     */
+    public record Slo(double p50Millis, double p99Millis, double p999Millis, double maxErrorRate) {
+    }
+
+    /**
+     * 요청 종류 하나(또는 전체)의 결과
+     */
+    public record OperationReport(
+            String operation,
+            long requests,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            Map<Outcome, Long> outcomes,
+            boolean sloMet
+    ) {
+        static OperationReport of(String name, LatencyRecorder recorder, LoadOperation operation, double seconds, Slo slo) {
+            long[] sorted = recorder.sorted(operation);
+            Map<Outcome, Long> outcomes = new EnumMap<>(Outcome.class);
+            long requests = 0;
+            for (Outcome outcome : Outcome.values()) {
+                long count = 0;
+                for (LoadOperation each : LoadOperation.values()) {
+                    if (operation == null || operation == each) {
+                        count += recorder.count(each, outcome);
+                    }
+                }
+                outcomes.put(outcome, count);
+                requests += count;
+            }
+            double p50 = millis(LatencyRecorder.percentile(sorted, 0.5));
+            double p99 = millis(LatencyRecorder.percentile(sorted, 0.99));
+            double p999 = millis(LatencyRecorder.percentile(sorted, 0.999));
+            double max = sorted.length == 0 ? 0 : millis(sorted[sorted.length - 1]);
+            boolean sloMet = p50 <= slo.p50Millis() && p99 <= slo.p99Millis() && p999 <= slo.p999Millis();
+            return new OperationReport(name, requests, requests / seconds, p50, p99, p999, max, outcomes, sloMet);
+        }
+
+        void print(PrintStream out) {
+            StringBuilder counts = new StringBuilder();
+            outcomes.forEach((outcome, count) -> {
+                if (count > 0) {
+                    counts.append(outcome.name().toLowerCase()).append('=').append(count).append(' ');
+                }
+            });
+            out.printf("%-8s %9d %10.1f %9.2f %9.2f %9.2f %9.2f  %-4s %s%n", operation, requests, throughput,
+                    p50Millis, p99Millis, p999Millis, maxMillis, sloMet ? "OK" : "MISS", counts.toString().trim());
+        }
+    }
+}
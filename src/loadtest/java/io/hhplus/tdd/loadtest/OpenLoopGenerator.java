@@ -0,0 +1,129 @@
+package io.hhplus.tdd.loadtest;
+
+import io.hhplus.tdd.loadtest.LatencyRecorder.Outcome;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * open-loop 부하 생성기
+ * - 요청을 보낼 시각을 도착률(rate)에 맞춰 미리 정하고(지수분포 간격 = 포아송 도착), 응답을 기다리지 않고 보낸다.
+ *   서버가 느려져도 보내는 속도는 줄지 않으므로 대기열이 쌓이는 상황까지 응답시간에 드러난다.
+ * - 요청 종류는 mix 비율로, 유저 id 는 Zipf 분포로 고른다.
+ * - 충전/사용을 보낸 유저는 잔고 검증 대상으로 모아 둔다.
+ */
+public class OpenLoopGenerator {
+
+    private final LoadTestOptions options;
+    private final PointApiClient client;
+    private final ZipfDistribution users;
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+    private final SplittableRandom random = new SplittableRandom();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Set<Long> touchedUsers = ConcurrentHashMap.newKeySet();
+
+    public OpenLoopGenerator(LoadTestOptions options, PointApiClient client) {
+        this.options = options;
+        this.client = client;
+        this.users = new ZipfDistribution(options.users(), options.zipf());
+        this.operations = options.mix().keySet().toArray(LoadOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        int i = 0;
+        for (Map.Entry<LoadOperation, Integer> entry : options.mix().entrySet()) {
+            sum += entry.getValue();
+            cumulativeWeights[i++] = sum;
+        }
+    }
+
+    /**
+     * duration 동안 요청을 보냄(응답은 기다리지 않음)
+     * @return 보내려고 한 요청 수(dropped 포함)
+     */
+    public long run(Duration duration, LatencyRecorder recorder) {
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) options.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        double next = start;
+        long scheduled = 0;
+        while (next < end) {
+            long intended = (long) next;
+            long remaining;
+            while ((remaining = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+            send(pickOperation(), users.sample(random), intended, recorder);
+            scheduled++;
+            next += -Math.log(1 - random.nextDouble()) * meanIntervalNanos;
+        }
+        return scheduled;
+    }
+
+    /**
+     * 보낸 요청의 응답을 모두 받을 때까지 기다림
+     * @return 제한시간 안에 모두 받았는지 여부
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return true;
+    }
+
+    public Set<Long> touchedUsers() {
+        return touchedUsers;
+    }
+
+    private void send(LoadOperation operation, long userId, long intended, LatencyRecorder recorder) {
+        if (inFlight.get() >= options.maxInFlight()) {
+            recorder.record(operation, Outcome.DROPPED, 0);
+            return;
+        }
+        if (operation == LoadOperation.CHARGE || operation == LoadOperation.USE) {
+            touchedUsers.add(userId);
+        }
+        inFlight.incrementAndGet();
+        client.send(operation, userId, options.amount()).whenComplete((response, error) -> {
+            recorder.record(operation, outcome(response, error), System.nanoTime() - intended);
+            inFlight.decrementAndGet();
+        });
+    }
+
+    private LoadOperation pickOperation() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static Outcome outcome(HttpResponse<Void> response, Throwable error) {
+        if (error != null) {
+            return Outcome.FAILED;
+        }
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            return Outcome.OK;
+        }
+        return switch (status) {
+            case 500 -> Outcome.REJECTED;
+            case 429 -> Outcome.OVERLOADED;
+            case 503 -> Outcome.UNAVAILABLE;
+            default -> Outcome.FAILED;
+        };
+    }
+}
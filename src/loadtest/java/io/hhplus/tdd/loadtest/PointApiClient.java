@@ -0,0 +1,86 @@
+package io.hhplus.tdd.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointController HTTP 호출
+ * - 부하 요청은 본문을 읽지 않고 상태 코드만 본다.
+ * - 검증용 잔고/내역 조회는 응답을 읽어 객체로 바꾼다(내역은 X-Next-Cursor 로 끝까지 넘김).
+ */
+public class PointApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int HISTORY_PAGE = 1000;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+
+    public PointApiClient(URI baseUri, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+    }
+
+    public CompletableFuture<HttpResponse<Void>> send(LoadOperation operation, long userId, long amount) {
+        HttpRequest request = switch (operation) {
+            case POINT -> get("/point/" + userId).build();
+            case HISTORY -> get("/point/" + userId + "/histories").build();
+            case CHARGE -> patch("/point/" + userId + "/charge", amount);
+            case USE -> patch("/point/" + userId + "/use", amount);
+        };
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    public UserPoint point(long userId) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(get("/point/" + userId).build(), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readValue(body(response), UserPoint.class);
+    }
+
+    public List<PointHistory> histories(long userId) throws IOException, InterruptedException {
+        List<PointHistory> histories = new ArrayList<>();
+        String cursor = null;
+        do {
+            String path = "/point/" + userId + "/histories?limit=" + HISTORY_PAGE + (cursor == null ? "" : "&after=" + cursor);
+            HttpResponse<String> response = httpClient.send(get(path).build(), HttpResponse.BodyHandlers.ofString());
+            histories.addAll(objectMapper.readValue(body(response), new TypeReference<List<PointHistory>>() {
+            }));
+            cursor = response.headers().firstValue("X-Next-Cursor").orElse(null);
+        } while (cursor != null);
+        return histories;
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT).GET();
+    }
+
+    private HttpRequest patch(String path, long amount) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(amount)))
+                .build();
+    }
+
+    private static String body(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() != 200) {
+            throw new IOException(response.uri() + " 응답 " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
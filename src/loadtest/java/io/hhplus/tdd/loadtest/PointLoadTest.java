@@ -0,0 +1,93 @@
+package io.hhplus.tdd.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PointController 전체 경로(HTTP → 엔진 → 저장소) 부하 테스트
+ * - 같은 JVM 에 앱을 localhost 임의 포트로 띄우고, warmup 뒤 측정 시간 동안 open-loop 로 혼합 부하를 건다.
+ * - 응답을 모두 받으면 내역 저장을 flush 하고, 충전/사용을 보낸 유저마다 잔고와 내역 합계를 비교한다.
+ * - 결과는 표로 출력하고 JSON 으로 남기며, SLO 나 잔고 검증을 통과하지 못하면 종료 코드 1 로 끝난다.
+ * - 실행 : ./gradlew loadTest --args="rate=2000 duration=60s zipf=1.2 slo.p99=100ms --point.engine.type=SHARDED"
+ *   (-- 로 시작하는 인자는 앱 설정으로 넘김)
+ */
+public class PointLoadTest {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final PointApiClient client;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final ObjectMapper objectMapper;
+
+    public PointLoadTest(LoadTestOptions options, PointApiClient client, PointHistoryWriter pointHistoryWriter, ObjectMapper objectMapper) {
+        this.options = options;
+        this.client = client;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.objectMapper = objectMapper;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> appArgs = new ArrayList<>();
+        List<String> loadTestArgs = new ArrayList<>();
+        for (String arg : args) {
+            (arg.startsWith("--") ? appArgs : loadTestArgs).add(arg);
+        }
+        if (appArgs.stream().noneMatch(arg -> arg.startsWith("--server.port="))) {
+            appArgs.add("--server.port=0");
+        }
+        LoadTestOptions options = LoadTestOptions.parse(loadTestArgs);
+
+        boolean passed;
+        try (ConfigurableApplicationContext context = SpringApplication.run(TddApplication.class, appArgs.toArray(String[]::new))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            PointApiClient client = new PointApiClient(URI.create("http://localhost:" + port), objectMapper);
+            passed = new PointLoadTest(options, client, context.getBean(PointHistoryWriter.class), objectMapper).run().passed();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    public LoadTestReport run() throws Exception {
+        OpenLoopGenerator generator = new OpenLoopGenerator(options, client);
+        // 예상 건수의 1.5배까지 응답시간을 보관(포아송 도착이라 실제 건수는 조금씩 다름)
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, (long) (options.rate() * Math.max(1, options.duration().toSeconds()) * 1.5));
+
+        // 1. warmup(결과는 버림)
+        if (!options.warmup().isZero()) {
+            generator.run(options.warmup(), new LatencyRecorder(capacity));
+            generator.awaitIdle(DRAIN_TIMEOUT);
+        }
+
+        // 2. 측정
+        LatencyRecorder recorder = new LatencyRecorder(capacity);
+        long start = System.nanoTime();
+        long scheduled = generator.run(options.duration(), recorder);
+        if (!generator.awaitIdle(DRAIN_TIMEOUT)) {
+            System.out.println("응답을 기다리다 시간이 초과됨(남은 요청은 결과에서 빠짐)");
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        // 3. 잔고 검증(write-behind 내역까지 저장한 뒤)
+        pointHistoryWriter.flush(DRAIN_TIMEOUT.toMillis());
+        BalanceVerifier.Result verification = new BalanceVerifier(client).verify(generator.touchedUsers());
+
+        // 4. 결과
+        LoadTestReport report = LoadTestReport.of(options, recorder, seconds, scheduled, verification);
+        report.print(System.out);
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(options.report().toFile(), report);
+        System.out.println("결과 : " + options.report().toAbsolutePath());
+        return report;
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.admission;
+
+import io.hhplus.tdd.point.exception.PointOverloadedException;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.metrics.PointMetrics.RejectCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * charge/use 요청 수 제한
+ * - 서버 전체와 유저별로 처리 중이거나 lock 을 기다리는 요청 수를 세고, 한도를 넘으면 기다리지 않고 바로 거절한다.
+ * - 유저별 수는 ConcurrentHashMap.compute 안에서만 바꾸고, 0 이 되면 map 에서 제거한다.
+ * - point.admission.inflight : 처리/대기 중인 요청 수
+ * - point.admission.users : 처리/대기 중인 요청이 있는 유저 수
+ * - point.admission.user.depth.max : 한 유저에 몰린 요청 수의 최대값(조회할 때 계산)
+ */
+@Component
+public class PointAdmissionControl {
+
+    private final PointAdmissionProperties properties;
+    private final PointMetrics pointMetrics;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ConcurrentHashMap<Long, Integer> queued = new ConcurrentHashMap<>();
+
+    public PointAdmissionControl(PointAdmissionProperties properties, PointMetrics pointMetrics, MeterRegistry registry) {
+        this.properties = properties;
+        this.pointMetrics = pointMetrics;
+        Gauge.builder("point.admission.inflight", inFlight, AtomicInteger::get)
+                .description("처리/대기 중인 charge/use 요청 수")
+                .register(registry);
+        Gauge.builder("point.admission.users", queued, ConcurrentHashMap::size)
+                .description("처리/대기 중인 요청이 있는 유저 수")
+                .register(registry);
+        Gauge.builder("point.admission.user.depth.max", this, PointAdmissionControl::maxUserDepth)
+                .description("한 유저에 몰린 처리/대기 요청 수의 최대값")
+                .register(registry);
+    }
+
+    /**
+     * 요청을 받음(한도를 넘으면 PointOverloadedException), 끝나면 반드시 같은 userId 로 leave 를 호출해야 함
+     * @param userId
+     */
+    public void enter(long userId) {
+        if (inFlight.incrementAndGet() > properties.maxInFlight()) {
+            inFlight.decrementAndGet();
+            pointMetrics.rejected(RejectCause.IN_FLIGHT_LIMIT);
+            throw new PointOverloadedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        boolean[] admitted = new boolean[1];
+        queued.compute(userId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= properties.maxQueuedPerUser()) {
+                return count;
+            }
+            admitted[0] = true;
+            return current + 1;
+        });
+        if (!admitted[0]) {
+            inFlight.decrementAndGet();
+            pointMetrics.rejected(RejectCause.USER_QUEUE_FULL);
+            throw new PointOverloadedException("해당 유저의 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public void leave(long userId) {
+        queued.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+        inFlight.decrementAndGet();
+    }
+
+    public Duration lockTimeout() {
+        return properties.lockTimeout();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private double maxUserDepth() {
+        int max = 0;
+        for (int count : queued.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청 수 제한 설정(넘으면 429)
+ * @param maxInFlight 서버 전체에서 동시에 처리/대기할 수 있는 charge/use 최대 수
+ * @param maxQueuedPerUser 한 유저에 대해 동시에 처리/대기할 수 있는 charge/use 최대 수
+ * @param lockTimeout 유저 lock 을 기다리는 최대 시간
+ */
+@ConfigurationProperties("point.admission")
+public record PointAdmissionProperties(
+        @DefaultValue("10000") int maxInFlight,
+        @DefaultValue("64") int maxQueuedPerUser,
+        @DefaultValue("2s") Duration lockTimeout
+) {
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.async;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class PointAsyncConfig {
+
+    /**
+     * 대기열이 가득 차면 RejectedExecutionException 으로 바로 거절함(요청 스레드를 붙잡지 않음)
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService pointAsyncExecutor(PointAsyncProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(properties.parallelism(), properties.parallelism(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "point-async-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 요청마다 가상 스레드를 하나씩 씀
+     * - lock 대기와 테이블 지연 동안 캐리어 스레드를 놓아주므로 parallelism 으로 제한하지 않는다.
+     */
+    @Bean(name = "pointAsyncExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService virtualPointAsyncExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("point-async-", 1).factory());
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.async;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비동기 포인트 요청 설정
+ * @param timeout 요청 하나를 기다리는 최대 시간(아직 시작하지 않은 요청은 실행하지 않고 503, 이미 시작한 충전/사용은 반영 여부를 알 수 없으므로 504)
+ * @param parallelism 요청을 처리할 스레드 수(가상 스레드 모드에서는 사용하지 않음)
+ * @param queueCapacity 처리 스레드를 기다리는 요청 최대 수(가득 차면 503)
+ */
+@ConfigurationProperties("point.async")
+public record PointAsyncProperties(
+        @DefaultValue("3s") Duration timeout,
+        @DefaultValue("64") int parallelism,
+        @DefaultValue("1000") int queueCapacity
+) {
+}
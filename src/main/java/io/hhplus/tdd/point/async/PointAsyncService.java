@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.async;
+
+import io.hhplus.tdd.point.batch.PointBatchService;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.engine.PointEngine;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyCache;
+import io.hhplus.tdd.point.service.PointService;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * PointService 의 비동기 버전(SERVICE 엔진)
+ * - 요청은 pointAsyncExecutor 에서 처리하고 결과는 CompletableFuture 로 돌려주므로, 호출한 스레드는 lock 대기와 테이블 지연을 기다리지 않는다.
+ * - 대기열에서 기다리다 timeout 이 지난 요청은 실행하지 않고 TimeoutException 으로 끝낸다.
+ *   이미 시작한 충전/사용은 멈추지 않고 끝까지 반영되므로 PointOutcomeUnknownException 으로 끝낸다(재시도는 Idempotency-Key 로).
+ * - 내역 조회는 lock 없이 읽으므로 요청 스레드에서 바로 처리하고, 일괄 처리는 PointBatchService 에 맡긴다.
+ * - Idempotency-Key 가 있는 charge/use 는 저장된 결과나 처리 중인 같은 키의 결과를 요청 스레드에서 바로 이어받는다(PointIdempotencyCache).
+ */
+public class PointAsyncService implements PointEngine {
+
+    private final PointService pointService;
+    private final PointBatchService pointBatchService;
+    private final ExecutorService pointAsyncExecutor;
+    private final PointAsyncProperties properties;
+    private final PointIdempotencyCache idempotencyCache;
+
+    public PointAsyncService(PointService pointService,
+                             PointBatchService pointBatchService,
+                             ExecutorService pointAsyncExecutor,
+                             PointAsyncProperties properties,
+                             PointIdempotencyCache idempotencyCache) {
+        this.pointService = pointService;
+        this.pointBatchService = pointBatchService;
+        this.pointAsyncExecutor = pointAsyncExecutor;
+        this.properties = properties;
+        this.idempotencyCache = idempotencyCache;
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> point(long id) {
+        return submit(() -> pointService.point(id));
+    }
+
+    @Override
+    public CompletableFuture<PointHistorySlice> history(long id, PointHistoryQuery query) {
+        return PointAsyncTasks.supplyNow(() -> pointService.history(id, query));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> charge(PointHistoryDto pointHistoryDto) {
+        return write(pointHistoryDto, () -> pointService.charge(pointHistoryDto));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> use(PointHistoryDto pointHistoryDto) {
+        return write(pointHistoryDto, () -> pointService.use(pointHistoryDto));
+    }
+
+    /**
+     * 일괄 처리는 건수에 따라 오래 걸릴 수 있으므로 timeout 을 걸지 않음(유저별 처리는 pointBatchExecutor 에서 진행)
+     */
+    @Override
+    public CompletableFuture<List<PointOperationResult>> batch(List<PointOperationDto> operations) {
+        return CompletableFuture.supplyAsync(() -> pointBatchService.process(operations), pointAsyncExecutor);
+    }
+
+    private CompletableFuture<UserPoint> write(PointHistoryDto pointHistoryDto, Supplier<UserPoint> body) {
+        return idempotencyCache.submit(pointHistoryDto, body,
+                task -> PointAsyncTasks.supplyMutationWithin(task, pointAsyncExecutor, properties.timeout()));
+    }
+
+    private CompletableFuture<UserPoint> submit(Supplier<UserPoint> body) {
+        return PointAsyncTasks.supplyWithin(body, pointAsyncExecutor, properties.timeout());
+    }
+}
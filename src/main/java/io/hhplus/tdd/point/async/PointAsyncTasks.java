@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.async;
+
+import io.hhplus.tdd.point.exception.PointOutcomeUnknownException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 제한시간이 있는 비동기 실행
+ * - timeout 이 지났을 때 아직 대기열에 있던 작업은 취소하고(실행하지 않음) TimeoutException 으로 끝낸다.
+ *   반영되지 않았으므로 같은 요청을 다시 보내도 된다.
+ * - 이미 시작한 작업은 멈추지 않고 끝까지 실행된다. 조회(supplyWithin)는 TimeoutException 으로 끝내고,
+ *   충전/사용(supplyMutationWithin)은 반영 여부를 알 수 없으므로 PointOutcomeUnknownException 으로 끝낸다.
+ * - 시작과 취소는 상태 하나를 compare-and-set 으로 바꿔 정하므로 둘 중 하나만 일어난다.
+ * - executor 대기열이 가득 차면 RejectedExecutionException 이 호출한 쪽으로 바로 던져진다.
+ */
+public final class PointAsyncTasks {
+
+    private static final int PENDING = 0;
+    private static final int STARTED = 1;
+    private static final int CANCELLED = 2;
+
+    private PointAsyncTasks() {
+    }
+
+    public static <T> CompletableFuture<T> supplyWithin(Supplier<T> body, Executor executor, Duration timeout) {
+        return supply(body, executor, timeout, false);
+    }
+
+    /**
+     * 잔고를 바꾸는 작업용(시작한 뒤 timeout 이 지나면 PointOutcomeUnknownException)
+     */
+    public static <T> CompletableFuture<T> supplyMutationWithin(Supplier<T> body, Executor executor, Duration timeout) {
+        return supply(body, executor, timeout, true);
+    }
+
+    /**
+     * 호출한 스레드에서 바로 실행하고 결과(또는 예외)를 완료된 future 로 돌려줌(기다릴 일이 없는 조회용)
+     */
+    public static <T> CompletableFuture<T> supplyNow(Supplier<T> body) {
+        try {
+            return CompletableFuture.completedFuture(body.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <T> CompletableFuture<T> supply(Supplier<T> body, Executor executor, Duration timeout, boolean mutation) {
+        AtomicInteger state = new AtomicInteger(PENDING);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            // 대기열에 있는 동안 timeout 으로 취소됐으면 실행하지 않음
+            if (!state.compareAndSet(PENDING, STARTED)) {
+                return;
+            }
+            try {
+                result.complete(body.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).exceptionally(e -> {
+            if (e instanceof TimeoutException && !state.compareAndSet(PENDING, CANCELLED) && mutation) {
+                throw new PointOutcomeUnknownException(PointOutcomeUnknownException.MESSAGE);
+            }
+            throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 한 유저의 잔고 셀(optimistic 모드)
+ * - 잔고는 AtomicReference 하나에 두고 compare-and-set 으로 갱신한다. 커밋은 직전 커밋을 가리켜 순서를 남긴다.
+ * - 커밋 후처리(내역 기록, BalanceStore 저장)는 drain 에서 한 번에 한 스레드만 커밋 순서대로 하고,
+ *   그동안 들어온 커밋은 그 스레드가 정해진 건수까지 이어서 처리한다(잔고 저장은 마지막 값만 한 번).
+ * - 다른 스레드가 후처리 중이면 기다리지 않고 돌아가므로, 요청이 끝난 직후에는 내역이 아직 없을 수 있다.
+ */
+public final class BalanceCell {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceCell.class);
+
+    private final AtomicReference<Commit> state;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // 후처리까지 마친 마지막 커밋
+    private volatile Commit drained;
+
+    BalanceCell(UserPoint userPoint) {
+        Commit initial = new Commit(userPoint, 0, null, 0, null);
+        this.state = new AtomicReference<>(initial);
+        this.drained = initial;
+    }
+
+    /**
+     * 커밋된 잔고와 그 잔고를 만든 요청(amount, type, updateMillis)
+     */
+    public static final class Commit {
+        private final UserPoint userPoint;
+        private final long amount;
+        private final TransactionType type;
+        private final long updateMillis;
+        // 아직 후처리하지 않은 직전 커밋(후처리 후 끊음)
+        private Commit previous;
+
+        private Commit(UserPoint userPoint, long amount, TransactionType type, long updateMillis, Commit previous) {
+            this.userPoint = userPoint;
+            this.amount = amount;
+            this.type = type;
+            this.updateMillis = updateMillis;
+            this.previous = previous;
+        }
+
+        public UserPoint userPoint() {
+            return userPoint;
+        }
+
+        public long amount() {
+            return amount;
+        }
+
+        public TransactionType type() {
+            return type;
+        }
+
+        public long updateMillis() {
+            return updateMillis;
+        }
+    }
+
+    public Commit current() {
+        return state.get();
+    }
+
+    /**
+     * expected 가 아직 최신이면 잔고를 바꿈
+     * @param userPoint 바뀐 잔고
+     * @return 새 커밋(다른 커밋이 먼저 들어왔으면 null)
+     */
+    public Commit compareAndSet(Commit expected, UserPoint userPoint, long amount, TransactionType type, long updateMillis) {
+        Commit next = new Commit(userPoint, amount, type, updateMillis, expected);
+        return state.compareAndSet(expected, next) ? next : null;
+    }
+
+    /**
+     * 아직 후처리하지 않은 커밋을 순서대로 처리함(다른 스레드가 처리 중이면 그 스레드에 맡기고 바로 반환)
+     * - 한 번의 호출에서는 maxCommits 건까지만 처리하고, 그래도 남아 있으면 handoff 에 넘긴다
+     *   (경합이 계속되어도 한 요청 스레드가 다른 요청의 커밋을 끝없이 처리하지 않도록).
+     * - 내역 기록이 실패하면 그 커밋부터는 처리하지 않은 채로 남겨 다음 drain 에서 다시 시도하고, 실패는 호출한 쪽에 던진다.
+     * @param publisher 커밋마다 실행(내역 기록)
+     * @param persister 처리한 커밋 중 마지막 잔고로 한 번 실행(BalanceStore 저장)
+     * @param maxCommits 한 번의 호출에서 처리할 최대 커밋 수
+     * @param handoff 남은 커밋을 이어서 처리할 곳
+     */
+    public void drain(Consumer<Commit> publisher, Consumer<UserPoint> persister, int maxCommits, Executor handoff) {
+        int remaining = maxCommits;
+        while (drained != state.get()) {
+            if (remaining <= 0) {
+                handoff.execute(() -> drain(publisher, persister, maxCommits, handoff));
+                return;
+            }
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                remaining -= drainOnce(publisher, persister, remaining);
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * 가장 오래된 커밋부터 limit 건까지 처리함(draining 을 잡은 스레드에서만 호출)
+     * @return 처리한 커밋 수
+     */
+    private int drainOnce(Consumer<Commit> publisher, Consumer<UserPoint> persister, int limit) {
+        ArrayDeque<Commit> pending = new ArrayDeque<>();
+        for (Commit commit = state.get(); commit != drained; commit = commit.previous) {
+            pending.push(commit);
+        }
+        Commit last = null;
+        int processed = 0;
+        RuntimeException failure = null;
+        for (Commit commit : pending) {
+            if (processed == limit) {
+                break;
+            }
+            try {
+                publisher.accept(commit);
+            } catch (RuntimeException e) {
+                log.error("잔고 커밋 내역 기록 실패 userId={}", commit.userPoint.id(), e);
+                failure = e;
+                break;
+            }
+            last = commit;
+            processed++;
+        }
+        if (last != null) {
+            // 처리한 커밋은 더 거슬러 올라갈 일이 없으므로 체인을 끊어 GC 되게 함
+            last.previous = null;
+            drained = last;
+            persister.accept(last.userPoint);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return processed;
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+
+/**
+ * 유저별 잔고 셀 목록(optimistic 모드)
+ * - 셀이 잔고의 원본이므로 한 번 만든 셀은 지우지 않는다(메모리는 충전/사용한 유저 수만큼).
+ */
+@Component
+public class BalanceCells {
+
+    private final ConcurrentHashMap<Long, BalanceCell> cells = new ConcurrentHashMap<>();
+    // 한 요청 스레드가 처리할 몫을 넘긴 커밋 후처리를 이어받음
+    private final Executor handoff = ForkJoinPool.commonPool();
+
+    /**
+     * 유저 셀을 조회하고, 없으면 loader 로 읽은 잔고로 만듦
+     * - 느린 저장소 조회 동안 map 을 잠그지 않도록 computeIfAbsent 밖에서 읽는다.
+     * @param userId
+     * @param loader 현재 잔고 조회
+     */
+    public BalanceCell cell(long userId, LongFunction<UserPoint> loader) {
+        BalanceCell cell = cells.get(userId);
+        if (cell != null) {
+            return cell;
+        }
+        BalanceCell loaded = new BalanceCell(loader.apply(userId));
+        BalanceCell existing = cells.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 유저 셀을 조회함(없으면 null)
+     * @param userId
+     */
+    public BalanceCell find(long userId) {
+        return cells.get(userId);
+    }
+
+    /**
+     * 셀의 남은 커밋 후처리를 이어서 할 곳
+     */
+    public Executor handoff() {
+        return handoff;
+    }
+
+    public int size() {
+        return cells.size();
+    }
+}
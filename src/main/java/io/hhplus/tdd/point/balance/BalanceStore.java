@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 유저 잔고 저장소
+ * - PointService 는 구체 테이블 대신 이 인터페이스로 잔고를 읽고 쓴다.
+ * - 같은 유저에 대한 쓰기는 호출하는 쪽에서 유저 lock 으로 순서를 보장한다.
+ */
+public interface BalanceStore {
+
+    /**
+     * 유저 잔고를 조회함(없으면 0 포인트)
+     * @param userId
+     */
+    UserPoint selectById(long userId);
+
+    /**
+     * 유저 잔고를 저장함(수정시간은 현재 시각)
+     * @param userId
+     * @param point 저장할 잔고
+     * @return 저장된 유저 포인트
+     */
+    UserPoint insertOrUpdate(long userId, long point);
+
+    /**
+     * 저장된 유저 수(알 수 없으면 -1)
+     */
+    long size();
+
+    /**
+     * 저장소 종류
+     * - TABLE : UserPointTable 사용(기존 동작, 유저마다 Long 키와 UserPoint 객체를 보관)
+     * - PRIMITIVE : long 배열 기반 open addressing(박싱/객체 없이 유저당 24바이트 + 빈 칸)
+     */
+    enum Type {
+        TABLE, PRIMITIVE
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.database.UserPointTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BalanceStoreConfig {
+
+    @Bean
+    public BalanceStore balanceStore(BalanceStoreProperties properties, UserPointTable userPointTable) {
+        return switch (properties.type()) {
+            case TABLE -> new UserPointTableBalanceStore(userPointTable);
+            case PRIMITIVE -> new PrimitiveBalanceStore(properties.initialCapacity());
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.balance;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔고 저장소 설정
+ * @param type 저장소 종류(TABLE, PRIMITIVE)
+ * @param initialCapacity PRIMITIVE 저장소의 초기 유저 수(미리 알면 재할당을 줄일 수 있음)
+ */
+@ConfigurationProperties("point.balance")
+public record BalanceStoreProperties(
+        @DefaultValue("TABLE") BalanceStore.Type type,
+        @DefaultValue("1024") int initialCapacity
+) {
+}
@@ -0,0 +1,195 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long 배열 기반 잔고 저장소(open addressing, linear probing)
+ * - 유저 id 를 박싱하지 않고 keys 배열에, 잔고와 수정시간은 values 배열에 나란히(2칸) 저장한다.
+ * - 이미 있는 유저의 잔고 갱신은 배열 두 칸을 덮어쓸 뿐 객체를 만들지 않는다(반환용 UserPoint 는 호출 쪽에 필요해서 만듦).
+ * - 유저 id 로 segment 를 나누고 segment 마다 StampedLock 으로 보호한다.
+ *   조회는 optimistic read 로 lock 없이 읽고, 그 사이 쓰기가 있었을 때만 read lock 으로 다시 읽는다.
+ */
+public class PrimitiveBalanceStore implements BalanceStore {
+
+    private static final int SEGMENTS = 64;
+    private static final float LOAD_FACTOR = 0.75f;
+    // keys 배열의 빈 칸 표시(유저 id 0 은 segment 에 따로 보관)
+    private static final long FREE = 0L;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /**
+     * @param initialCapacity 예상 유저 수
+     */
+    public PrimitiveBalanceStore(int initialCapacity) {
+        int segmentCapacity = Math.max(16, (int) (Math.max(1, initialCapacity) / SEGMENTS / LOAD_FACTOR) + 1);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        return segment(userId).get(userId);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long point) {
+        long updateMillis = System.currentTimeMillis();
+        put(userId, point, updateMillis);
+        return new UserPoint(userId, point, updateMillis);
+    }
+
+    /**
+     * 잔고를 저장함(객체를 만들지 않는 경로, 새 유저가 들어와 배열을 늘릴 때만 할당)
+     * @param userId
+     * @param point
+     * @param updateMillis
+     */
+    public void put(long userId, long point, long updateMillis) {
+        segment(userId).put(userId, point, updateMillis);
+    }
+
+    @Override
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segment(long userId) {
+        // 배열 위치는 해시 하위 비트로 고르므로 segment 는 상위 비트로 고름
+        return segments[(int) (mix(userId) >>> 58)];
+    }
+
+    private static long mix(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private long[] keys;
+        // [2i] 잔고, [2i+1] 수정시간
+        private long[] values;
+        private int size;
+        private int threshold;
+        private boolean hasZero;
+        private long zeroPoint;
+        private long zeroMillis;
+
+        Segment(int capacity) {
+            allocate(Integer.highestOneBit(capacity - 1) << 1);
+        }
+
+        UserPoint get(long userId) {
+            long stamp = lock.tryOptimisticRead();
+            UserPoint userPoint = read(userId);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    userPoint = read(userId);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return userPoint;
+        }
+
+        void put(long userId, long point, long updateMillis) {
+            long stamp = lock.writeLock();
+            try {
+                if (userId == FREE) {
+                    if (!hasZero) {
+                        hasZero = true;
+                        size++;
+                    }
+                    zeroPoint = point;
+                    zeroMillis = updateMillis;
+                    return;
+                }
+                int slot = slot(keys, userId);
+                if (keys[slot] == FREE) {
+                    if (size + 1 > threshold) {
+                        allocate(keys.length << 1);
+                        slot = slot(keys, userId);
+                    }
+                    keys[slot] = userId;
+                    size++;
+                }
+                values[slot << 1] = point;
+                values[(slot << 1) + 1] = updateMillis;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * optimistic read 중에는 배열이 바뀔 수 있으므로 필드를 한 번씩만 읽어 지역변수로 씀
+         * (잘못 읽은 값은 validate 에 실패해서 버려진다)
+         */
+        private UserPoint read(long userId) {
+            if (userId == FREE) {
+                return hasZero ? new UserPoint(userId, zeroPoint, zeroMillis) : UserPoint.empty(userId);
+            }
+            long[] keys = this.keys;
+            long[] values = this.values;
+            int slot = slot(keys, userId);
+            if (keys[slot] != userId || values.length < (keys.length << 1)) {
+                return UserPoint.empty(userId);
+            }
+            return new UserPoint(userId, values[slot << 1], values[(slot << 1) + 1]);
+        }
+
+        /**
+         * userId 가 있는 칸, 없으면 들어갈 빈 칸
+         */
+        private static int slot(long[] keys, long userId) {
+            int mask = keys.length - 1;
+            int slot = (int) mix(userId) & mask;
+            // optimistic read 중 배열이 가득 찬 것처럼 보여도 끝나도록 최대 배열 길이만큼만 돎
+            for (int probe = 0; probe < keys.length; probe++) {
+                long key = keys[slot];
+                if (key == userId || key == FREE) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void allocate(int capacity) {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            long[] newKeys = new long[capacity];
+            long[] newValues = new long[capacity << 1];
+            if (oldKeys != null) {
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldKeys[i] != FREE) {
+                        int slot = slot(newKeys, oldKeys[i]);
+                        newKeys[slot] = oldKeys[i];
+                        newValues[slot << 1] = oldValues[i << 1];
+                        newValues[(slot << 1) + 1] = oldValues[(i << 1) + 1];
+                    }
+                }
+            }
+            // 읽는 쪽이 새 keys 와 옛 values 를 함께 보는 경우는 길이 검사로 걸러냄
+            values = newValues;
+            keys = newKeys;
+            threshold = (int) (capacity * LOAD_FACTOR);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * UserPointTable 을 그대로 쓰는 잔고 저장소(기본값)
+ */
+@RequiredArgsConstructor
+public class UserPointTableBalanceStore implements BalanceStore {
+
+    private final UserPointTable userPointTable;
+
+    @Override
+    public UserPoint selectById(long userId) {
+        return userPointTable.selectById(userId);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long point) {
+        return userPointTable.insertOrUpdate(userId, point);
+    }
+
+    @Override
+    public long size() {
+        // UserPointTable 은 저장된 유저 수를 공개하지 않음
+        return -1;
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.batch;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class PointBatchConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService pointBatchExecutor(PointBatchProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(properties.parallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "point-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 유저마다 가상 스레드를 하나씩 씀
+     * - 테이블 지연(sleep) 동안 캐리어 스레드를 놓아주므로 parallelism 으로 제한하지 않는다.
+     */
+    @Bean(name = "pointBatchExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService virtualPointBatchExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("point-batch-", 1).factory());
+    }
+}
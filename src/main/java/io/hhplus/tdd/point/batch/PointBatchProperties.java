@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 일괄 처리 설정
+ * @param parallelism 서로 다른 유저를 동시에 처리할 스레드 수
+ * @param maxOperations 한 번에 요청할 수 있는 최대 건수
+ */
+@ConfigurationProperties("point.batch")
+public record PointBatchProperties(
+        @DefaultValue("8") int parallelism,
+        @DefaultValue("10000") int maxOperations
+) {
+}
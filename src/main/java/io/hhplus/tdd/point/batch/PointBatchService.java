@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point.batch;
+
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockRegistry;
+import io.hhplus.tdd.point.service.PointConcurrencyProperties;
+import io.hhplus.tdd.point.service.PointService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 포인트 충전/사용 일괄 처리
+ * - 요청을 유저별로 묶고, 한 유저의 요청은 한 스레드에서 요청 순서대로 처리한다.
+ * - LOCK 모드에서는 그 유저의 lock 을 잡은 채로 처리해 다른 요청이 끼어들지 않게 한다.
+ *   lock 을 lockTimeout 안에 얻지 못하면 그 유저의 요청만 모두 429 실패로 돌려준다.
+ * - OPTIMISTIC/COMBINING 모드에서는 건마다 PointService 가 원자적으로 처리하므로 바깥 lock 을 잡지 않는다
+ *   (바깥 lock 을 잡으면 같은 유저의 다른 요청이 lock 을 기다리다 429 로 거절된다).
+ * - 서로 다른 유저는 pointBatchExecutor 에서 동시에 처리한다.
+ * - 한 건이 실패해도 나머지는 계속 처리하고 건별 결과를 요청 순서대로 돌려준다.
+ */
+@Service
+public class PointBatchService {
+
+    private final PointService pointService;
+    private final UserLockRegistry userLockRegistry;
+    private final ExecutorService pointBatchExecutor;
+    private final PointBatchProperties properties;
+    private final PointConcurrencyProperties concurrencyProperties;
+    private final PointAdmissionControl admissionControl;
+
+    public PointBatchService(PointService pointService,
+                             UserLockRegistry userLockRegistry,
+                             @Qualifier("pointBatchExecutor") ExecutorService pointBatchExecutor,
+                             PointBatchProperties properties,
+                             PointConcurrencyProperties concurrencyProperties,
+                             PointAdmissionControl admissionControl) {
+        this.pointService = pointService;
+        this.userLockRegistry = userLockRegistry;
+        this.pointBatchExecutor = pointBatchExecutor;
+        this.properties = properties;
+        this.concurrencyProperties = concurrencyProperties;
+        this.admissionControl = admissionControl;
+    }
+
+    public List<PointOperationResult> process(List<PointOperationDto> operations) {
+        if (operations.size() > properties.maxOperations()) {
+            throw new RuntimeException("한 번에 처리할 수 있는 건수를 초과함");
+        }
+
+        // 1. 유저별로 요청 순서를 유지하며 묶음
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).userId(), id -> new ArrayList<>()).add(i);
+        }
+
+        // 2. 유저별로 동시에 처리(결과는 각자 자기 칸에만 씀)
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        CompletableFuture<?>[] futures = indexesByUser.entrySet().stream()
+                .map(entry -> CompletableFuture.runAsync(() -> processUser(entry.getKey(), entry.getValue(), operations, results), pointBatchExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+        return Arrays.asList(results);
+    }
+
+    private void processUser(long userId, List<Integer> indexes, List<PointOperationDto> operations, PointOperationResult[] results) {
+        if (concurrencyProperties.mode() != PointConcurrencyProperties.Mode.LOCK) {
+            applyAll(indexes, operations, results);
+            return;
+        }
+        Lock lock = userLockRegistry.tryAcquire(userId, admissionControl.lockTimeout()); // 유저의 요청을 모두 처리할 때까지 lock 유지
+        if (lock == null) {
+            for (int index : indexes) {
+                results[index] = PointOperationResult.failure(index, operations.get(index), "429", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            return;
+        }
+        try {
+            applyAll(indexes, operations, results);
+        } finally {
+            userLockRegistry.release(userId, lock);
+        }
+    }
+
+    private void applyAll(List<Integer> indexes, List<PointOperationDto> operations, PointOperationResult[] results) {
+        for (int index : indexes) {
+            PointOperationDto operation = operations.get(index);
+            try {
+                results[index] = PointOperationResult.success(index, operation, apply(operation));
+            } catch (RuntimeException e) {
+                results[index] = PointOperationResult.failure(index, operation, e.getMessage());
+            }
+        }
+    }
+
+    private UserPoint apply(PointOperationDto operation) {
+        if (operation.type() == null) {
+            throw new RuntimeException("트랜잭션 종류가 없습니다.");
+        }
+        if (operation.type() == TransactionType.EXPIRE) {
+            throw new RuntimeException("만료는 요청할 수 없습니다.");
+        }
+        PointHistoryDto pointHistoryDto = new PointHistoryDto(operation.userId(), operation.amount(), operation.type());
+        return operation.type() == TransactionType.CHARGE
+                ? pointService.charge(pointHistoryDto)
+                : pointService.use(pointHistoryDto);
+    }
+}
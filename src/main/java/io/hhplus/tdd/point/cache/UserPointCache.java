@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.cache;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 유저 포인트 캐시(LRU)
+ * - 조회 시 채우고(read-through), charge/use 는 insertOrUpdate 결과를 유저 lock 안에서 그대로 덮어쓴다(write-through).
+ * - 유저 id 로 segment 를 나눠 segment 마다 access-order LinkedHashMap 으로 최대 크기를 넘으면 제거한다.
+ * - 저널에서 복구한 잔고는 UserPointTable 에 없으므로 제거 대상에서 빼고 따로 보관하다가, 해당 유저가 다시 저장되면 지운다.
+ */
+@Component
+public class UserPointCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final ConcurrentHashMap<Long, UserPoint> restored = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserPointCache(UserPointCacheProperties properties) {
+        int segmentSize = Math.max(1, properties.maxSize() / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    /**
+     * 캐시된 유저 포인트를 조회함(없으면 null)
+     * @param userId
+     */
+    public UserPoint get(long userId) {
+        UserPoint userPoint = peek(userId);
+        if (userPoint == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return userPoint;
+    }
+
+    /**
+     * 통계에 포함하지 않고 캐시된 유저 포인트를 조회함(없으면 null)
+     * @param userId
+     */
+    public UserPoint peek(long userId) {
+        UserPoint userPoint = segment(userId).get(userId);
+        return userPoint != null ? userPoint : restored.get(userId);
+    }
+
+    /**
+     * 유저 포인트를 캐시에 저장함(기존 값은 덮어씀)
+     * @param userPoint
+     */
+    public void put(UserPoint userPoint) {
+        segment(userPoint.id()).put(userPoint);
+        restored.remove(userPoint.id());
+    }
+
+    /**
+     * 저널에서 복구한 잔고를 채움(요청을 받기 전에 호출)
+     * @param userPoints
+     */
+    public void restore(Collection<UserPoint> userPoints) {
+        for (UserPoint userPoint : userPoints) {
+            restored.put(userPoint.id(), userPoint);
+        }
+    }
+
+    public UserPointCacheStats stats() {
+        int size = restored.size();
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new UserPointCacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private Segment segment(long userId) {
+        return segments[(int) ((userId ^ (userId >>> 32)) & (SEGMENTS - 1))];
+    }
+
+    private final class Segment {
+        private final Map<Long, UserPoint> entries;
+
+        Segment(int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                    if (size() > maxSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized UserPoint get(long userId) {
+            return entries.get(userId);
+        }
+
+        synchronized void put(UserPoint userPoint) {
+            entries.put(userPoint.id(), userPoint);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
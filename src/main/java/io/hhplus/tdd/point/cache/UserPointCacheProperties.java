@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 포인트 캐시 설정
+ * @param maxSize 캐시에 보관할 최대 유저 수(넘으면 가장 오래 조회되지 않은 유저부터 제거)
+ */
+@ConfigurationProperties("point.cache")
+public record UserPointCacheProperties(
+        @DefaultValue("100000") int maxSize
+) {
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.cache;
+
+/**
+ * 유저 포인트 캐시 통계
+ * @param hits 캐시에서 바로 찾은 횟수
+ * @param misses 캐시에 없어서 UserPointTable 을 조회한 횟수
+ * @param evictions 최대 크기를 넘어 제거된 횟수
+ * @param size 현재 캐시된 유저 수
+ */
+public record UserPointCacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        int size
+) {
+}
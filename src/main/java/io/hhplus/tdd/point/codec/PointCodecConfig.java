@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.codec;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class PointCodecConfig implements WebMvcConfigurer {
+
+    private final PointResponseCodec pointResponseCodec;
+
+    /**
+     * UserPoint 는 Jackson 보다 먼저 전용 converter 가 씀(그 외 응답은 그대로 Jackson)
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new UserPointHttpMessageConverter(pointResponseCodec));
+    }
+}
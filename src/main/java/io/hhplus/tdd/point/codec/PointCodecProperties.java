@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.codec;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 응답 직렬화 설정
+ * @param bufferSize 응답 하나를 쓸 때 쓰는 버퍼 크기(byte, 가득 차면 응답 스트림으로 내보내고 다시 씀)
+ * @param pooledBuffers 재사용을 위해 보관하는 버퍼 수(동시에 쓰는 응답이 이보다 많으면 그만큼 새로 만들고 버림)
+ */
+@ConfigurationProperties("point.codec")
+public record PointCodecProperties(
+        @DefaultValue("8192") int bufferSize,
+        @DefaultValue("256") int pooledBuffers
+) {
+}
@@ -0,0 +1,127 @@
+package io.hhplus.tdd.point.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 하나를 쓰는 동안 빌려 쓰는 byte 버퍼
+ * - 레코드 단위로 ensure 한 뒤 쓰고, 자리가 모자라면 모아 둔 만큼 응답 스트림으로 내보낸다.
+ * - 숫자는 문자열을 만들지 않고 버퍼에 바로 자릿수를 쓴다.
+ */
+final class PointOutputBuffer {
+
+    // JSON 내역 레코드 하나의 최대 길이(숫자 4개 * 20자리 + 이름/구분자)보다 넉넉하게
+    static final int MIN_SIZE = 256;
+
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    // 00 ~ 99 의 두 자리 문자(나눗셈 한 번에 두 자리씩 씀)
+    private static final byte[] DIGIT_PAIRS = new byte[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[i * 2] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[i * 2 + 1] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private final byte[] bytes;
+    private int position;
+    private int records;
+    private OutputStream out;
+
+    PointOutputBuffer(int size) {
+        this.bytes = new byte[Math.max(MIN_SIZE, size)];
+    }
+
+    PointOutputBuffer bind(OutputStream out) {
+        this.out = out;
+        this.position = 0;
+        this.records = 0;
+        return this;
+    }
+
+    void unbind() {
+        this.out = null;
+        this.position = 0;
+    }
+
+    /**
+     * 지금까지 쓴 레코드 수를 돌려주고 하나 늘림(JSON 배열 구분자 판단용)
+     */
+    int nextRecord() {
+        return records++;
+    }
+
+    void ensure(int length) throws IOException {
+        if (bytes.length - position < length) {
+            flush();
+        }
+    }
+
+    void writeByte(int value) {
+        bytes[position++] = (byte) value;
+    }
+
+    void writeBytes(byte[] value) {
+        System.arraycopy(value, 0, bytes, position, value.length);
+        position += value.length;
+    }
+
+    /**
+     * 10진수 문자로 씀
+     */
+    void writeDecimal(long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                writeBytes(LONG_MIN_VALUE);
+                return;
+            }
+            bytes[position++] = '-';
+            value = -value;
+        }
+        int end = position + digits(value);
+        int i = end;
+        while (value >= 100) {
+            int pair = (int) (value % 100) * 2;
+            value /= 100;
+            bytes[--i] = DIGIT_PAIRS[pair + 1];
+            bytes[--i] = DIGIT_PAIRS[pair];
+        }
+        if (value >= 10) {
+            int pair = (int) value * 2;
+            bytes[--i] = DIGIT_PAIRS[pair + 1];
+            bytes[--i] = DIGIT_PAIRS[pair];
+        } else {
+            bytes[--i] = (byte) ('0' + value);
+        }
+        position = end;
+    }
+
+    /**
+     * 8 byte big-endian 으로 씀
+     */
+    void writeInt64(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    void flush() throws IOException {
+        if (position > 0) {
+            out.write(bytes, 0, position);
+            position = 0;
+        }
+    }
+
+    private static int digits(long value) {
+        long bound = 10;
+        for (int digits = 1; digits < 19; digits++) {
+            if (value < bound) {
+                return digits;
+            }
+            bound *= 10;
+        }
+        return 19;
+    }
+}
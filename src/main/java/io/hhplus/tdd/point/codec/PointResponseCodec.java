@@ -0,0 +1,148 @@
+package io.hhplus.tdd.point.codec;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * UserPoint/PointHistory 전용 직렬화
+ * - Jackson 의 reflection/JsonGenerator 를 거치지 않고, 필드 이름과 구분자는 미리 만든 byte 로, 숫자는 자릿수로 버퍼에 바로 쓴다.
+ * - 버퍼는 pool 에서 빌려 쓰고 돌려주므로 응답마다 새로 할당하는 것은 내역 순회용 lambda 정도다.
+ * - JSON 은 Jackson 기본 설정과 같은 모양(필드 순서는 record 선언 순서)이다.
+ */
+@Component
+public class PointResponseCodec {
+
+    public static final int USER_POINT_BINARY_SIZE = 24;
+    public static final int POINT_HISTORY_BINARY_SIZE = 33;
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] USER_POINT_POINT = ascii(",\"point\":");
+    private static final byte[] UPDATE_MILLIS = ascii(",\"updateMillis\":");
+    private static final byte[] HISTORY_USER_ID = ascii(",\"userId\":");
+    private static final byte[] HISTORY_AMOUNT = ascii(",\"amount\":");
+    private static final byte[][] HISTORY_TYPES = new byte[TransactionType.values().length][];
+
+    static {
+        for (TransactionType type : TransactionType.values()) {
+            HISTORY_TYPES[type.ordinal()] = ascii(",\"type\":\"" + type.name() + "\"");
+        }
+    }
+
+    private final int bufferSize;
+    private final ArrayBlockingQueue<PointOutputBuffer> buffers;
+
+    public PointResponseCodec(PointCodecProperties properties) {
+        this.bufferSize = properties.bufferSize();
+        this.buffers = new ArrayBlockingQueue<>(Math.max(1, properties.pooledBuffers()));
+    }
+
+    /**
+     * 잔고 하나를 씀
+     */
+    public void write(UserPoint userPoint, PointResponseFormat format, OutputStream out) throws IOException {
+        PointOutputBuffer buffer = acquire(out);
+        try {
+            if (format == PointResponseFormat.BINARY) {
+                buffer.writeInt64(userPoint.id());
+                buffer.writeInt64(userPoint.point());
+                buffer.writeInt64(userPoint.updateMillis());
+            } else {
+                buffer.writeBytes(ID);
+                buffer.writeDecimal(userPoint.id());
+                buffer.writeBytes(USER_POINT_POINT);
+                buffer.writeDecimal(userPoint.point());
+                buffer.writeBytes(UPDATE_MILLIS);
+                buffer.writeDecimal(userPoint.updateMillis());
+                buffer.writeByte('}');
+            }
+            buffer.flush();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * 내역 한 페이지를 씀(JSON 은 배열, BINARY 는 레코드를 이어 붙임)
+     */
+    public void write(PointHistorySlice slice, PointResponseFormat format, OutputStream out) throws IOException {
+        PointOutputBuffer buffer = acquire(out);
+        try {
+            boolean binary = format == PointResponseFormat.BINARY;
+            if (!binary) {
+                buffer.writeByte('[');
+            }
+            slice.forEach(pointHistory -> {
+                try {
+                    if (binary) {
+                        writeBinary(buffer, pointHistory);
+                    } else {
+                        writeJson(buffer, pointHistory);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (!binary) {
+                buffer.ensure(1);
+                buffer.writeByte(']');
+            }
+            buffer.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    private static void writeBinary(PointOutputBuffer buffer, PointHistory pointHistory) throws IOException {
+        buffer.ensure(POINT_HISTORY_BINARY_SIZE);
+        buffer.writeInt64(pointHistory.id());
+        buffer.writeInt64(pointHistory.userId());
+        buffer.writeInt64(pointHistory.amount());
+        buffer.writeByte(pointHistory.type().ordinal());
+        buffer.writeInt64(pointHistory.updateMillis());
+    }
+
+    private static void writeJson(PointOutputBuffer buffer, PointHistory pointHistory) throws IOException {
+        buffer.ensure(PointOutputBuffer.MIN_SIZE);
+        if (buffer.nextRecord() > 0) {
+            buffer.writeByte(',');
+        }
+        buffer.writeBytes(ID);
+        buffer.writeDecimal(pointHistory.id());
+        buffer.writeBytes(HISTORY_USER_ID);
+        buffer.writeDecimal(pointHistory.userId());
+        buffer.writeBytes(HISTORY_AMOUNT);
+        buffer.writeDecimal(pointHistory.amount());
+        buffer.writeBytes(HISTORY_TYPES[pointHistory.type().ordinal()]);
+        buffer.writeBytes(UPDATE_MILLIS);
+        buffer.writeDecimal(pointHistory.updateMillis());
+        buffer.writeByte('}');
+    }
+
+    private PointOutputBuffer acquire(OutputStream out) {
+        PointOutputBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = new PointOutputBuffer(bufferSize);
+        }
+        return buffer.bind(out);
+    }
+
+    private void release(PointOutputBuffer buffer) {
+        buffer.unbind();
+        buffers.offer(buffer);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point.codec;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 응답 형식
+ * - JSON : Jackson 과 같은 모양의 JSON
+ * - BINARY : 고정 길이 big-endian 레코드(application/x-point-binary)
+ *   - UserPoint : id(8) point(8) updateMillis(8) = 24 byte
+ *   - PointHistory : id(8) userId(8) amount(8) type(1, TransactionType 순서) updateMillis(8) = 33 byte
+ *   - 내역 목록은 길이 정보 없이 레코드를 이어 붙이므로, 본문 길이 / 33 이 건수다.
+ */
+public enum PointResponseFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    BINARY(MediaType.parseMediaType(PointResponseFormat.BINARY_VALUE));
+
+    public static final String BINARY_VALUE = "application/x-point-binary";
+    public static final MediaType BINARY_MEDIA_TYPE = BINARY.mediaType;
+
+    private final MediaType mediaType;
+
+    PointResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Content-Type 으로 형식을 고름(BINARY 가 아니면 JSON)
+     */
+    public static PointResponseFormat of(MediaType contentType) {
+        return contentType != null && BINARY_MEDIA_TYPE.includes(contentType) ? BINARY : JSON;
+    }
+
+    /**
+     * Accept 헤더로 형식을 고름
+     * - BINARY 를 적지 않았으면 파싱하지 않고 JSON.
+     * - 적었으면 그 q 값이 JSON(와일드카드 포함)의 q 값 이상일 때 BINARY.
+     */
+    public static PointResponseFormat negotiate(String accept) {
+        if (accept == null || !accept.contains(BINARY_VALUE)) {
+            return JSON;
+        }
+        double json = -1;
+        double binary = -1;
+        for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+            if (mediaType.equalsTypeAndSubtype(BINARY_MEDIA_TYPE)) {
+                binary = Math.max(binary, mediaType.getQualityValue());
+            }
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, mediaType.getQualityValue());
+            }
+        }
+        return binary > 0 && binary >= json ? BINARY : JSON;
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.codec;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+
+import java.io.IOException;
+
+/**
+ * UserPoint 응답(point/charge/use)을 PointResponseCodec 으로 씀
+ * - Jackson converter 보다 앞에 두므로 application/json 도 이 converter 가 쓰고,
+ *   Accept 에 application/x-point-binary 가 있으면 24 byte 레코드로 쓴다.
+ * - 요청 본문은 읽지 않는다.
+ */
+class UserPointHttpMessageConverter extends AbstractHttpMessageConverter<UserPoint> {
+
+    private final PointResponseCodec pointResponseCodec;
+
+    UserPointHttpMessageConverter(PointResponseCodec pointResponseCodec) {
+        super(MediaType.APPLICATION_JSON, PointResponseFormat.BINARY_MEDIA_TYPE);
+        this.pointResponseCodec = pointResponseCodec;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UserPoint.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected UserPoint readInternal(Class<? extends UserPoint> clazz, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("UserPoint 요청 본문은 읽지 않습니다.");
+    }
+
+    @Override
+    protected Long getContentLength(UserPoint userPoint, MediaType contentType) {
+        return PointResponseFormat.of(contentType) == PointResponseFormat.BINARY ? (long) PointResponseCodec.USER_POINT_BINARY_SIZE : null;
+    }
+
+    @Override
+    protected void writeInternal(UserPoint userPoint, HttpOutputMessage outputMessage) throws IOException {
+        pointResponseCodec.write(userPoint, PointResponseFormat.of(outputMessage.getHeaders().getContentType()), outputMessage.getBody());
+    }
+}
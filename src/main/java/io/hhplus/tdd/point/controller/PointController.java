@@ -1,17 +1,34 @@
 package io.hhplus.tdd.point.controller;
 
+import io.hhplus.tdd.point.codec.PointResponseCodec;
+import io.hhplus.tdd.point.codec.PointResponseFormat;
 import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResult;
 import io.hhplus.tdd.point.dto.UserPointDto;
-import io.hhplus.tdd.point.entity.PointHistory;
-import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.engine.PointEngine;
+import io.hhplus.tdd.point.event.PointEventStreamer;
+import io.hhplus.tdd.point.history.PointHistoryCursor;
+import io.hhplus.tdd.point.history.PointHistorySlice;
 import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.replica.PointReadToken;
+import io.hhplus.tdd.point.rollup.PointRollupStore;
+import io.hhplus.tdd.point.rollup.PointSummary;
+import io.hhplus.tdd.point.rollup.RollupGranularity;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,53 +36,129 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
-    private final PointService pointService;
+    // 요청은 엔진(PointService 비동기 호출 또는 유저별 shard)으로 넘기고, lock 대기 중에도 요청 스레드를 붙잡지 않음
+    private final PointEngine pointEngine;
+    private final PointEventStreamer pointEventStreamer;
+    private final PointRollupStore pointRollupStore;
+    private final PointResponseCodec pointResponseCodec;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}")
-    public UserPoint point(
-            @PathVariable long id
+    public CompletableFuture<UserPoint> point(
+            @PathVariable long id,
+            @RequestHeader(value = PointReadToken.HEADER, required = false) String token
     ) {
-        return pointService.point(id);
+        return pointEngine.point(id, PointReadToken.decode(token));
     }
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     *  다음 페이지가 있으면 X-Next-Cursor 헤더로 커서를 내려주고, 본문은 목록을 만들지 않고 바로 스트리밍한다.
+     *  Accept 에 application/x-point-binary 가 있으면 JSON 대신 33 byte 고정 길이 레코드로 내려준다.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
-            @PathVariable long id
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> history(
+            @PathVariable long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + PointHistoryQuery.DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type,
+            @RequestHeader(value = PointReadToken.HEADER, required = false) String token,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
-        return pointService.history(id);
+        PointResponseFormat format = PointResponseFormat.negotiate(accept);
+        Long afterId = after == null ? null : PointHistoryCursor.decode(after);
+        return pointEngine.history(id, new PointHistoryQuery(afterId, limit, from, to, type), PointReadToken.decode(token))
+                .thenApply(slice -> streaming(slice, format));
+    }
+
+    /**
+     * 특정 유저의 구간별(MINUTE/HOUR/DAY) 충전/사용/만료 건수와 금액 합계를 조회함
+     *  내역을 읽지 않고 미리 집계해 둔 구간만 보므로 비용은 구간 수에 비례한다.
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        return pointRollupStore.summary(id, granularity, from, to);
+    }
+
+    /**
+     * 쓰기 결과에 read-your-writes 토큰을 붙임(조회 요청에 X-Point-Token 으로 보내면 이 쓰기를 반영한 곳에서 읽음)
+     */
+    private static ResponseEntity<UserPoint> withReadToken(UserPoint userPoint) {
+        return ResponseEntity.ok().header(PointReadToken.HEADER, PointReadToken.of(userPoint).encode()).body(userPoint);
+    }
+
+    /**
+     * 내역 한 페이지를 요청한 형식으로 바로 써 내려가는 응답을 만듦
+     */
+    private ResponseEntity<StreamingResponseBody> streaming(PointHistorySlice slice, PointResponseFormat format) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(format.mediaType());
+        if (slice.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, slice.nextCursor());
+        }
+        return response.body(outputStream -> pointResponseCodec.write(slice, format, outputStream));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 있으면 같은 키로 다시 온 요청에는 처음 결과를 그대로 돌려줌
+     * 503 은 반영되지 않은 요청이라 다시 보내도 되지만, 504 는 반영 여부를 알 수 없으므로 같은 Idempotency-Key 로만 다시 보내야 함
      */
     @PatchMapping("{id}/charge")
-    public UserPoint charge(
+    public CompletableFuture<ResponseEntity<UserPoint>> charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ){
-        PointHistoryDto pointHistoryDto = new PointHistoryDto(id,amount,TransactionType.CHARGE);
-        UserPoint uPoint = pointService.charge(pointHistoryDto);
-        return uPoint;
+        PointHistoryDto pointHistoryDto = new PointHistoryDto(id,amount,TransactionType.CHARGE,idempotencyKey);
+        return pointEngine.charge(pointHistoryDto).thenApply(PointController::withReadToken);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 있으면 같은 키로 다시 온 요청에는 처음 결과를 그대로 돌려줌
+     * 503 은 반영되지 않은 요청이라 다시 보내도 되지만, 504 는 반영 여부를 알 수 없으므로 같은 Idempotency-Key 로만 다시 보내야 함
      */
     @PatchMapping("{id}/use")
-    public UserPoint use(
+    public CompletableFuture<ResponseEntity<UserPoint>> use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        PointHistoryDto pointHistoryDto = new PointHistoryDto(id,amount,TransactionType.USE,idempotencyKey);
+        return pointEngine.use(pointHistoryDto).thenApply(PointController::withReadToken);
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 한 번에 처리함
+     *  유저별 요청 순서는 지키고, 실패한 건이 있어도 나머지는 계속 처리한다.
+     */
+    @PostMapping("batch")
+    public CompletableFuture<List<PointOperationResult>> batch(
+            @RequestBody List<PointOperationDto> operations
     ) {
-        PointHistoryDto pointHistoryDto = new PointHistoryDto(id,amount,TransactionType.USE);
-        UserPoint uPoint = pointService.use(pointHistoryDto);
-        return uPoint;
+        return pointEngine.batch(operations);
+    }
 
+    /**
+     * 저장된 충전/사용/만료 내역을 SSE 로 계속 내려줌(유저별 내역 조회를 반복하지 않고 따라갈 수 있음)
+     *  이벤트 id 는 순번이며, 다시 연결할 때 Last-Event-ID 로 보내면 그 다음 이벤트부터 받는다.
+     */
+    @GetMapping(value = "events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long userId
+    ) {
+        return pointEventStreamer.stream(lastEventId, userId);
     }
 }
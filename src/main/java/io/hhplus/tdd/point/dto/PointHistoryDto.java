@@ -14,12 +14,19 @@ public class PointHistoryDto {
     private long amount;
     private TransactionType type;
     private long updateMillis;
+    // 재시도 요청을 구분하는 Idempotency-Key(없으면 null)
+    private String idempotencyKey;
 
     public PointHistoryDto (long id, long amount, TransactionType type){
+        this(id, amount, type, null);
+    }
+
+    public PointHistoryDto (long id, long amount, TransactionType type, String idempotencyKey){
         this.userId = id;
         this.amount = amount;
         this.type = type;
         this.updateMillis = System.currentTimeMillis();
+        this.idempotencyKey = idempotencyKey;
     }
 
 }
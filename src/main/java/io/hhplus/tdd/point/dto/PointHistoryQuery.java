@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+/**
+ * 포인트 내역 페이지 조회 조건
+ * @param afterId 이 id 다음 내역부터 조회(null 이면 처음부터)
+ * @param limit 한 페이지 최대 건수(1 ~ MAX_LIMIT)
+ * @param from 조회 시작시각(포함, null 이면 제한없음)
+ * @param to 조회 종료시각(미포함, null 이면 제한없음)
+ * @param type 트랜잭션 종류(null 이면 전체)
+ */
+public record PointHistoryQuery(
+        Long afterId,
+        int limit,
+        Long from,
+        Long to,
+        TransactionType type
+) {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public PointHistoryQuery {
+        limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public static PointHistoryQuery firstPage() {
+        return new PointHistoryQuery(null, DEFAULT_LIMIT, null, null, null);
+    }
+
+    /**
+     * 조회조건에 맞는 내역인지 체크함(커서 조건 제외)
+     * @param pointHistory
+     */
+    public boolean matches(PointHistory pointHistory) {
+        return matches(pointHistory.type(), pointHistory.updateMillis());
+    }
+
+    /**
+     * 조회조건에 맞는 내역인지 체크함(내역 객체를 만들기 전에 값만으로 거를 때 사용)
+     * @param type
+     * @param updateMillis
+     */
+    public boolean matches(TransactionType type, long updateMillis) {
+        if (this.type != null && type != this.type) {
+            return false;
+        }
+        if (from != null && updateMillis < from) {
+            return false;
+        }
+        return to == null || updateMillis < to;
+    }
+}
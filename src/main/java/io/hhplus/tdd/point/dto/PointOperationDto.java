@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+
+/**
+ * 일괄 처리 요청의 포인트 충전/사용 한 건
+ * @param userId
+ * @param amount
+ * @param type CHARGE 또는 USE
+ */
+public record PointOperationDto(
+        long userId,
+        long amount,
+        TransactionType type
+) {
+}
@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.ErrorResponse;
+
+/**
+ * 일괄 처리 요청 한 건의 결과
+ * @param index 요청 목록에서의 순서
+ * @param userId
+ * @param type
+ * @param userPoint 성공 시 처리 후 유저 포인트(실패 시 null)
+ * @param error 실패 시 에러(성공 시 null)
+ */
+public record PointOperationResult(
+        int index,
+        long userId,
+        TransactionType type,
+        UserPoint userPoint,
+        ErrorResponse error
+) {
+    public static PointOperationResult success(int index, PointOperationDto operation, UserPoint userPoint) {
+        return new PointOperationResult(index, operation.userId(), operation.type(), userPoint, null);
+    }
+
+    public static PointOperationResult failure(int index, PointOperationDto operation, String message) {
+        return failure(index, operation, "500", message);
+    }
+
+    /**
+     * @param code 에러 코드(처리 시간 초과/대기열 거절은 503, 처리 중 시간 초과로 반영 여부를 알 수 없으면 504, lock 대기시간 초과는 429)
+     */
+    public static PointOperationResult failure(int index, PointOperationDto operation, String code, String message) {
+        return new PointOperationResult(index, operation.userId(), operation.type(), null, new ErrorResponse(code, message));
+    }
+}
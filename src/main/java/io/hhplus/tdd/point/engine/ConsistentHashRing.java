@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point.engine;
+
+import java.util.Arrays;
+
+/**
+ * 유저 id 를 shard 번호로 바꾸는 consistent hash ring
+ * - shard 마다 virtualNodes 개의 지점을 ring 에 놓고, 유저 id 의 해시에서 시계 방향으로 처음 만나는 지점의 shard 를 고른다.
+ * - shard 를 하나 늘리면 새 shard 로 옮겨가는 유저만 바뀌고(약 1/(N+1)), 나머지 유저는 원래 shard 에 남는다.
+ * - 지점은 정렬된 long 배열에 두고 이분 탐색으로 찾는다.
+ */
+public class ConsistentHashRing {
+
+    // 가상 노드 키가 유저 id 와 같은 값이 되어 같은 지점에 놓이지 않도록 섞어 넣는 값
+    private static final long NODE_SALT = 0x5DEECE66DL;
+
+    private final long[] points;
+    private final int[] shards;
+    private final int shardCount;
+
+    public ConsistentHashRing(int shardCount, int virtualNodes) {
+        if (shardCount < 1 || virtualNodes < 1) {
+            throw new IllegalArgumentException("shard 수와 가상 노드 수는 1 이상이어야 합니다.");
+        }
+        this.shardCount = shardCount;
+        long[][] nodes = new long[shardCount * virtualNodes][];
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                nodes[shard * virtualNodes + node] = new long[]{mix(((long) shard << 32 | node) ^ (NODE_SALT << 40)), shard};
+            }
+        }
+        Arrays.sort(nodes, (a, b) -> Long.compare(a[0], b[0]));
+        this.points = new long[nodes.length];
+        this.shards = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            points[i] = nodes[i][0];
+            shards[i] = (int) nodes[i][1];
+        }
+    }
+
+    public int shardOf(long userId) {
+        int index = Arrays.binarySearch(points, mix(userId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        // 마지막 지점을 지나면 ring 의 처음으로 돌아감
+        return shards[index == points.length ? 0 : index];
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * 연속된 id 도 ring 위에 고르게 흩어지도록 섞음(splitmix64 마무리 단계)
+     */
+    private static long mix(long value) {
+        long h = value + 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+import io.hhplus.tdd.point.replica.PointReadToken;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 컨트롤러가 요청을 넘기는 포인트 처리 엔진
+ * - 결과는 CompletableFuture 로 돌려주므로 요청 스레드는 lock 대기와 저장 지연을 기다리지 않는다.
+ */
+public interface PointEngine {
+
+    enum Type {
+        // 하나의 PointService 를 비동기 executor 에서 호출(유저 lock 으로 순서 보장)
+        SERVICE,
+        // 유저 id 를 consistent hashing 으로 shard 에 나누고, shard 마다 잔고/내역 저장소와 쓰기 스레드 하나를 둠
+        SHARDED
+    }
+
+    CompletableFuture<UserPoint> point(long userId);
+
+    CompletableFuture<PointHistorySlice> history(long userId, PointHistoryQuery query);
+
+    /**
+     * read-your-writes 토큰의 쓰기를 반영한 곳에서 조회함(읽기 복제본이 없는 엔진은 항상 원본에서 읽으므로 token 을 무시)
+     */
+    default CompletableFuture<UserPoint> point(long userId, PointReadToken token) {
+        return point(userId);
+    }
+
+    default CompletableFuture<PointHistorySlice> history(long userId, PointHistoryQuery query, PointReadToken token) {
+        return history(userId, query);
+    }
+
+    CompletableFuture<UserPoint> charge(PointHistoryDto pointHistoryDto);
+
+    CompletableFuture<UserPoint> use(PointHistoryDto pointHistoryDto);
+
+    /**
+     * 여러 유저의 충전/사용을 한 번에 처리함(유저별 요청 순서 유지, 결과는 요청 순서대로)
+     */
+    CompletableFuture<List<PointOperationResult>> batch(List<PointOperationDto> operations);
+}
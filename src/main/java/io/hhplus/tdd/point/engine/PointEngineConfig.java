@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.async.PointAsyncProperties;
+import io.hhplus.tdd.point.async.PointAsyncService;
+import io.hhplus.tdd.point.balance.BalanceStoreProperties;
+import io.hhplus.tdd.point.batch.PointBatchProperties;
+import io.hhplus.tdd.point.batch.PointBatchService;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyCache;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.replica.PointReplicaSet;
+import io.hhplus.tdd.point.replica.ReplicatedPointEngine;
+import io.hhplus.tdd.point.service.PointService;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+@Configuration
+public class PointEngineConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PointEngineConfig.class);
+
+    @Bean
+    public PointEngine pointEngine(PointEngineProperties properties,
+                                   PointService pointService,
+                                   PointBatchService pointBatchService,
+                                   @Qualifier("pointAsyncExecutor") ExecutorService pointAsyncExecutor,
+                                   PointAsyncProperties asyncProperties,
+                                   BalanceStoreProperties balanceStoreProperties,
+                                   UserPointCacheProperties cacheProperties,
+                                   PointBatchProperties batchProperties,
+                                   PointMetrics pointMetrics,
+                                   PointAdmissionControl admissionControl,
+                                   PointIdempotencyCache idempotencyCache,
+                                   PointReplicaSet replicaSet,
+                                   Validator validator) {
+        PointEngine engine = switch (properties.type()) {
+            case SERVICE -> new PointAsyncService(pointService, pointBatchService, pointAsyncExecutor, asyncProperties, idempotencyCache);
+            case SHARDED -> new ShardedPointEngine(properties, balanceStoreProperties.initialCapacity(), cacheProperties.maxSize(),
+                    asyncProperties.timeout(), batchProperties.maxOperations(), pointMetrics, admissionControl, idempotencyCache, validator);
+        };
+        if (properties.type() == PointEngine.Type.SHARDED) {
+            log.warn("{} 엔진의 내역은 이벤트(GET /point/events), 집계(GET /point/{{id}}/summary), 잔고 만료로 전달되지 않습니다.", properties.type());
+        }
+        if (replicaSet.size() == 0) {
+            return engine;
+        }
+        // shard 저장소의 내역은 복제본으로 전달되지 않으므로 SERVICE 엔진에서만 복제본에서 읽음
+        if (properties.type() != PointEngine.Type.SERVICE) {
+            log.warn("{} 엔진은 읽기 복제본을 지원하지 않아 모든 조회를 원본에서 처리합니다.", properties.type());
+            return engine;
+        }
+        return new ReplicatedPointEngine(engine, replicaSet);
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.engine;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 처리 엔진 설정
+ * @param type 엔진 종류(SERVICE, SHARDED)
+ * @param shards SHARDED 의 shard 수(0 이면 CPU 코어 수)
+ * @param virtualNodes shard 하나가 hash ring 에 놓이는 지점 수(많을수록 유저가 고르게 나뉨)
+ * @param shardQueueCapacity shard 쓰기 스레드의 대기열 크기(가득 차면 503)
+ */
+@ConfigurationProperties("point.engine")
+public record PointEngineProperties(
+        @DefaultValue("SERVICE") PointEngine.Type type,
+        @DefaultValue("0") int shards,
+        @DefaultValue("128") int virtualNodes,
+        @DefaultValue("10000") int shardQueueCapacity
+) {
+
+    public int shardCount() {
+        return shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+    }
+}
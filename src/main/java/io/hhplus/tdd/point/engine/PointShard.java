@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.balance.BalanceCells;
+import io.hhplus.tdd.point.balance.PrimitiveBalanceStore;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.history.PointHistoryWriterProperties;
+import io.hhplus.tdd.point.lock.StripedUserLockRegistry;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.service.PointConcurrencyProperties;
+import io.hhplus.tdd.point.service.PointService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저 일부를 맡는 shard
+ * - 자기 잔고 저장소(PrimitiveBalanceStore)와 내역 저장소(ColumnarPointHistoryStore)를 가진 PointService 를 하나 둔다.
+ * - charge/use 는 shard 의 쓰기 스레드 하나(writer)에서만 실행하므로 같은 유저의 쓰기가 겹치지 않는다.
+ *   유저 lock 은 조회 스레드가 캐시를 채울 때와 겹치지 않게 하는 용도로만 남는다.
+ * - 내역은 write-behind 없이 쓰기 스레드에서 바로 저장한다(쓰기 스레드 자체가 대기열 역할).
+ */
+final class PointShard implements AutoCloseable {
+
+    // 쓰기 스레드와 조회 스레드가 함께 쓰는 lock 수(shard 안의 유저끼리 나눔)
+    private static final int LOCK_STRIPES = 64;
+
+    private final PointService pointService;
+    private final ExecutorService writer;
+
+    /**
+     * @param historyIds 모든 shard 가 함께 쓰는 내역 id 발급기
+     */
+    PointShard(int index, int initialCapacity, int cacheSize, int queueCapacity, AtomicLong historyIds,
+               PointMetrics pointMetrics, PointAdmissionControl admissionControl) {
+        PointHistoryStore pointHistoryStore = new ColumnarPointHistoryStore(historyIds);
+        this.pointService = new PointService(
+                new PrimitiveBalanceStore(initialCapacity),
+                new PointHistoryWriter(pointHistoryStore, new PointHistoryWriterProperties(false, 1, Duration.ZERO, 1, Duration.ZERO), pointMetrics, List.of()),
+                pointHistoryStore,
+                new UserPointCache(new UserPointCacheProperties(cacheSize)),
+                new StripedUserLockRegistry(LOCK_STRIPES),
+                pointMetrics,
+                new BalanceCells(),
+                new PointConcurrencyProperties(PointConcurrencyProperties.Mode.LOCK, 0, 1),
+                admissionControl);
+        this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "point-shard-" + index);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    PointService pointService() {
+        return pointService;
+    }
+
+    ExecutorService writer() {
+        return writer;
+    }
+
+    /**
+     * 대기열에 남은 쓰기를 마칠 때까지 기다린 뒤 쓰기 스레드를 멈춤
+     */
+    @Override
+    public void close() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
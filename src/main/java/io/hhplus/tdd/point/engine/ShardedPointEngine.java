@@ -0,0 +1,225 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.async.PointAsyncTasks;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointOutcomeUnknownException;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyCache;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.service.PointService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * 유저를 shard 로 나눠 처리하는 엔진
+ * - 유저 id 는 ConsistentHashRing 으로 항상 같은 shard 에 간다. shard 끼리는 저장소와 lock 을 나누지 않으므로,
+ *   유저가 고르게 퍼진 부하에서는 shard(=쓰기 스레드) 수만큼 처리량이 늘어난다.
+ * - charge/use 는 shard 쓰기 스레드에서 순서대로 실행하고 timeout 은 PointAsyncService 와 같다.
+ * - point/history 는 저장소가 동시 조회를 지원하므로 요청 스레드에서 바로 읽는다.
+ * - Idempotency-Key 캐시는 shard 끼리 나눠 쓴다(키에 유저 id 가 들어가므로 shard 를 넘나들지 않음).
+ * - 저널/스냅샷 복구는 SERVICE 엔진의 저장소에만 적용된다(shard 저장소는 메모리에서 시작).
+ * - shard 의 PointService 는 Spring 빈이 아니어서 @Valid 검증 proxy 가 없으므로, 요청(PointHistoryDto)은 여기서 직접 검증한다.
+ * - shard 의 내역은 PointHistoryListener(이벤트, 집계, 만료, 복제본)로 전달되지 않는다.
+ */
+public class ShardedPointEngine implements PointEngine, AutoCloseable {
+
+    private final ConsistentHashRing ring;
+    private final PointShard[] shards;
+    private final Duration timeout;
+    private final int maxOperations;
+    private final PointIdempotencyCache idempotencyCache;
+    private final Validator validator;
+
+    /**
+     * @param initialCapacity 전체 예상 유저 수(shard 마다 나눠서 잡음)
+     * @param cacheSize 전체 캐시 크기(shard 마다 나눠서 잡음)
+     * @param timeout charge/use/batch 제한시간
+     * @param maxOperations batch 한 번에 요청할 수 있는 최대 건수
+     */
+    public ShardedPointEngine(PointEngineProperties properties, int initialCapacity, int cacheSize, Duration timeout, int maxOperations,
+                              PointMetrics pointMetrics, PointAdmissionControl admissionControl, PointIdempotencyCache idempotencyCache,
+                              Validator validator) {
+        int shardCount = properties.shardCount();
+        this.ring = new ConsistentHashRing(shardCount, properties.virtualNodes());
+        this.shards = new PointShard[shardCount];
+        this.timeout = timeout;
+        this.maxOperations = maxOperations;
+        this.idempotencyCache = idempotencyCache;
+        this.validator = validator;
+        AtomicLong historyIds = new AtomicLong();
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new PointShard(i, Math.max(1, initialCapacity / shardCount), Math.max(1, cacheSize / shardCount),
+                    properties.shardQueueCapacity(), historyIds, pointMetrics, admissionControl);
+        }
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> point(long userId) {
+        return PointAsyncTasks.supplyNow(() -> service(userId).point(userId));
+    }
+
+    @Override
+    public CompletableFuture<PointHistorySlice> history(long userId, PointHistoryQuery query) {
+        return PointAsyncTasks.supplyNow(() -> service(userId).history(userId, query));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> charge(PointHistoryDto pointHistoryDto) {
+        PointShard shard = shard(pointHistoryDto.getUserId());
+        return write(shard, pointHistoryDto, () -> shard.pointService().charge(pointHistoryDto));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> use(PointHistoryDto pointHistoryDto) {
+        PointShard shard = shard(pointHistoryDto.getUserId());
+        return write(shard, pointHistoryDto, () -> shard.pointService().use(pointHistoryDto));
+    }
+
+    /**
+     * 유저별로 묶어 그 유저의 shard 쓰기 스레드에서 요청 순서대로 처리함
+     * - shard 안에서는 쓰기 스레드 하나가 처리하므로 PointBatchService 처럼 유저 lock 을 오래 잡지 않아도 순서가 지켜진다.
+     * - 한 유저 묶음이 timeout 을 넘기거나 shard 대기열이 가득 차 거절되면 그 묶음의 남은 건만 실패로 채우고,
+     *   다른 유저 묶음(이미 반영된 결과 포함)은 그대로 돌려준다.
+     *   timeout 이 지난 뒤에도 이미 시작한 묶음은 끝까지 실행되지만 결과 칸은 먼저 채운 쪽(실패)이 차지한다.
+     *   시작하지 않은 묶음은 실행하지 않으므로 503, 시작한 묶음의 남은 건은 반영 여부를 알 수 없으므로 504 로 채운다.
+     */
+    @Override
+    public CompletableFuture<List<PointOperationResult>> batch(List<PointOperationDto> operations) {
+        if (operations.size() > maxOperations) {
+            throw new RuntimeException("한 번에 처리할 수 있는 건수를 초과함");
+        }
+
+        // 1. 유저별로 요청 순서를 유지하며 묶음
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).userId(), id -> new ArrayList<>()).add(i);
+        }
+
+        // 2. 유저마다 자기 shard 에서 처리(결과는 각자 자기 칸에만 쓰고, 먼저 채운 결과를 남김)
+        AtomicReferenceArray<PointOperationResult> results = new AtomicReferenceArray<>(operations.size());
+        CompletableFuture<?>[] futures = indexesByUser.values().stream()
+                .map(indexes -> {
+                    PointShard shard = shard(operations.get(indexes.get(0)).userId());
+                    CompletableFuture<Void> processed;
+                    try {
+                        processed = PointAsyncTasks.supplyMutationWithin(() -> processUser(shard.pointService(), indexes, operations, results), shard.writer(), timeout);
+                    } catch (RejectedExecutionException e) {
+                        processed = CompletableFuture.failedFuture(e);
+                    }
+                    return processed.exceptionally(e -> failRemaining(indexes, operations, results, e));
+                })
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures).thenApply(done -> {
+            List<PointOperationResult> ordered = new ArrayList<>(results.length());
+            for (int i = 0; i < results.length(); i++) {
+                ordered.add(results.get(i));
+            }
+            return ordered;
+        });
+    }
+
+    /**
+     * 처리하지 못한 유저 묶음의 남은 건을 실패로 채움(timeout 또는 shard 대기열 거절)
+     * - 시작한 뒤 timeout 이 지난 묶음의 남은 건은 아직 반영될 수 있으므로 504 로 구분한다.
+     */
+    private static Void failRemaining(List<Integer> indexes, List<PointOperationDto> operations,
+                                      AtomicReferenceArray<PointOperationResult> results, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        String code = cause instanceof PointOutcomeUnknownException ? "504" : "503";
+        String message = cause instanceof TimeoutException
+                ? "요청 처리 시간이 초과되었습니다."
+                : cause instanceof RejectedExecutionException ? "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요." : cause.getMessage();
+        for (int index : indexes) {
+            results.compareAndSet(index, null, PointOperationResult.failure(index, operations.get(index), code, message));
+        }
+        return null;
+    }
+
+    public int shardOf(long userId) {
+        return ring.shardOf(userId);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (PointShard shard : shards) {
+            shard.close();
+        }
+    }
+
+    private CompletableFuture<UserPoint> write(PointShard shard, PointHistoryDto pointHistoryDto, Supplier<UserPoint> body) {
+        try {
+            validate(pointHistoryDto);
+        } catch (ConstraintViolationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return idempotencyCache.submit(pointHistoryDto, body, task -> PointAsyncTasks.supplyMutationWithin(task, shard.writer(), timeout));
+    }
+
+    private Void processUser(PointService pointService, List<Integer> indexes, List<PointOperationDto> operations,
+                             AtomicReferenceArray<PointOperationResult> results) {
+        for (int index : indexes) {
+            PointOperationDto operation = operations.get(index);
+            PointOperationResult result;
+            try {
+                result = PointOperationResult.success(index, operation, apply(pointService, operation));
+            } catch (RuntimeException e) {
+                result = PointOperationResult.failure(index, operation, e.getMessage());
+            }
+            results.compareAndSet(index, null, result);
+        }
+        return null;
+    }
+
+    /**
+     * PointService 의 @Valid 와 같은 조건(userId 1 이상, amount 100 이상)으로 검증함
+     */
+    private void validate(PointHistoryDto pointHistoryDto) {
+        Set<ConstraintViolation<PointHistoryDto>> violations = validator.validate(pointHistoryDto);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    private UserPoint apply(PointService pointService, PointOperationDto operation) {
+        if (operation.type() == null) {
+            throw new RuntimeException("트랜잭션 종류가 없습니다.");
+        }
+        if (operation.type() == TransactionType.EXPIRE) {
+            throw new RuntimeException("만료는 요청할 수 없습니다.");
+        }
+        PointHistoryDto pointHistoryDto = new PointHistoryDto(operation.userId(), operation.amount(), operation.type());
+        validate(pointHistoryDto);
+        return operation.type() == TransactionType.CHARGE
+                ? pointService.charge(pointHistoryDto)
+                : pointService.use(pointHistoryDto);
+    }
+
+    private PointShard shard(long userId) {
+        return shards[ring.shardOf(userId)];
+    }
+
+    private PointService service(long userId) {
+        return shard(userId).pointService();
+    }
+}
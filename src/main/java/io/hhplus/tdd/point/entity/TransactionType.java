@@ -4,7 +4,8 @@ package io.hhplus.tdd.point.entity;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - EXPIRE : 만료(만료시간이 지난 잔고를 0 으로 만듦, 요청으로는 만들 수 없음)
  */
 public enum TransactionType {
-    CHARGE, USE
+    CHARGE, USE, EXPIRE
 }
\ No newline at end of file
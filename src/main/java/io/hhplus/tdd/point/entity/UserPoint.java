@@ -12,6 +12,9 @@ public record UserPoint(
         long point,
         long updateMillis
 ) {
+    // 마지막 충전/사용 후 잔고가 만료되기까지의 시간
+    public static final long EXPIRE_MILLIS = 10000;
+
     public static UserPoint empty(long id) {
         return new UserPoint(id, 0, System.currentTimeMillis());
     }
@@ -37,6 +40,6 @@ public record UserPoint(
      * @param requestMillis
      */
     public boolean isExpired(long requestMillis){
-        return requestMillis - this.updateMillis > 10000;
+        return requestMillis - this.updateMillis > EXPIRE_MILLIS;
     }
 }
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 저장된 포인트 내역 이벤트
+ * @param sequence 이벤트 순번(1부터 빈틈없이 증가하므로, 구독자가 받은 순번이 건너뛰면 그만큼 놓친 것)
+ * @param historyId 내역 id
+ * @param point 해당 충전/사용/만료를 반영한 직후의 잔고
+ */
+public record PointEvent(
+        long sequence,
+        long historyId,
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis,
+        long point
+) {
+    static PointEvent of(long sequence, PointHistory pointHistory, UserPoint userPoint) {
+        return new PointEvent(sequence, pointHistory.id(), pointHistory.userId(), pointHistory.amount(),
+                pointHistory.type(), pointHistory.updateMillis(), userPoint.point());
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 저장된 포인트 내역을 구독자들에게 전달하는 ring buffer 이벤트 버스
+ * - 내역이 저장되면(PointHistoryListener) 순번을 하나 받아 ring 의 그 칸에 이벤트를 넣는다. 발행은 대기하지 않는다.
+ * - 구독자는 각자 커서(다음에 읽을 순번)를 가지고 ring 을 읽으며, 발행 쪽은 구독자를 알지 못한다.
+ * - 구독자가 capacity 이상 뒤처지면 그 칸은 새 이벤트로 덮어쓰이고, 구독자는 남아 있는 가장 오래된 이벤트로 건너뛴다.
+ *   느린 구독자 때문에 charge/use 가 기다리는 일은 없다.
+ */
+@Component
+public class PointEventBus implements PointHistoryListener {
+
+    private final AtomicReferenceArray<PointEvent> ring;
+    private final int mask;
+    // 다음에 발행할 순번(1부터)
+    private final AtomicLong nextSequence = new AtomicLong(1);
+    private final Counter lostCounter;
+
+    public PointEventBus(PointEventProperties properties, MeterRegistry registry) {
+        int capacity = Integer.highestOneBit(Math.max(2, properties.capacity()) - 1) << 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.lostCounter = Counter.builder("point.events.lost")
+                .description("구독자가 뒤처져서 놓친 이벤트 수")
+                .register(registry);
+    }
+
+    @Override
+    public void onCommitted(PointHistory pointHistory, UserPoint userPoint) {
+        publish(pointHistory, userPoint);
+    }
+
+    public PointEvent publish(PointHistory pointHistory, UserPoint userPoint) {
+        long sequence = nextSequence.getAndIncrement();
+        PointEvent event = PointEvent.of(sequence, pointHistory, userPoint);
+        ring.setRelease((int) (sequence & mask), event);
+        return event;
+    }
+
+    /**
+     * @param afterSequence 이미 받은 마지막 순번(null 이면 지금 이후 발행되는 이벤트부터)
+     */
+    public PointEventSubscription subscribe(Long afterSequence) {
+        long next = nextSequence.get();
+        long cursor = afterSequence == null ? next : Math.min(afterSequence + 1, next);
+        return new PointEventSubscription(this, Math.max(1, cursor));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return 지금까지 발행 순번을 받은 이벤트 수(아직 ring 에 쓰는 중인 이벤트 포함)
+     */
+    public long published() {
+        return nextSequence.get() - 1;
+    }
+
+    PointEvent slot(long sequence) {
+        return ring.getAcquire((int) (sequence & mask));
+    }
+
+    void lost(long count) {
+        lostCounter.increment(count);
+    }
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class PointEventConfig {
+
+    /**
+     * 스트림마다 스레드 하나가 이벤트를 읽어 보냄(스트림 수는 PointEventStreamer 가 maxStreams 로 제한)
+     * - 종료 시 interrupt 로 스트림을 끝냄
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService pointEventExecutor(PointEventProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(properties.maxStreams(), runnable -> {
+            Thread thread = new Thread(runnable, "point-event-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 스트림마다 가상 스레드를 하나씩 씀
+     */
+    @Bean(name = "pointEventExecutor", destroyMethod = "shutdownNow")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService virtualPointEventExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("point-event-stream-", 1).factory());
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 이벤트 버스/스트림 설정
+ * @param capacity ring buffer 크기(2의 거듭제곱으로 올림, 구독자가 이만큼 뒤처지면 오래된 이벤트부터 놓침)
+ * @param maxStreams 동시에 열 수 있는 스트림 수(넘으면 429)
+ * @param pollInterval 새 이벤트가 없을 때 스트림이 다시 확인하기까지 기다리는 시간
+ * @param heartbeat 새 이벤트가 없을 때 연결 확인용 주석을 보내는 간격
+ * @param streamTimeout 스트림 하나를 유지하는 최대 시간(지나면 끊고, 클라이언트는 Last-Event-ID 로 이어받음)
+ */
+@ConfigurationProperties("point.events")
+public record PointEventProperties(
+        @DefaultValue("65536") int capacity,
+        @DefaultValue("64") int maxStreams,
+        @DefaultValue("20ms") Duration pollInterval,
+        @DefaultValue("15s") Duration heartbeat,
+        @DefaultValue("30m") Duration streamTimeout
+) {
+}
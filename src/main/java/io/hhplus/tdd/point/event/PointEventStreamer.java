@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.exception.PointOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 이벤트 버스를 SSE(text/event-stream)로 내보냄
+ * - 스트림마다 구독을 하나 만들고 pointEventExecutor 의 스레드 하나가 읽어서 보낸다.
+ *   보내기가 느려도 그 스트림의 구독만 뒤처질 뿐 charge/use 와 다른 스트림은 기다리지 않는다.
+ * - 이벤트 id 는 순번이므로 끊긴 클라이언트는 Last-Event-ID 로 이어받을 수 있다(ring 에 남아 있는 만큼).
+ * - 새 이벤트가 없으면 heartbeat 마다 주석을 보내서 끊긴 연결을 정리한다.
+ */
+@Component
+public class PointEventStreamer {
+
+    private static final int BATCH_SIZE = 256;
+
+    private final PointEventBus pointEventBus;
+    private final ExecutorService pointEventExecutor;
+    private final PointEventProperties properties;
+    private final AtomicInteger streams = new AtomicInteger();
+
+    public PointEventStreamer(PointEventBus pointEventBus,
+                              @Qualifier("pointEventExecutor") ExecutorService pointEventExecutor,
+                              PointEventProperties properties,
+                              MeterRegistry registry) {
+        this.pointEventBus = pointEventBus;
+        this.pointEventExecutor = pointEventExecutor;
+        this.properties = properties;
+        Gauge.builder("point.events.streams", streams, AtomicInteger::get)
+                .description("열려 있는 이벤트 스트림 수")
+                .register(registry);
+    }
+
+    /**
+     * @param lastEventId 이미 받은 마지막 이벤트 순번(null 이면 지금 이후 이벤트부터)
+     * @param userId 이 유저의 이벤트만 보냄(null 이면 전체)
+     */
+    public SseEmitter stream(Long lastEventId, Long userId) {
+        if (streams.incrementAndGet() > properties.maxStreams()) {
+            streams.decrementAndGet();
+            throw new PointOverloadedException("이벤트 스트림이 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        SseEmitter emitter = new SseEmitter(properties.streamTimeout().toMillis());
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onError(e -> open.set(false));
+        // 시간이 다 되면 오류 응답 대신 스트림을 정상 종료(클라이언트가 다시 연결)
+        emitter.onTimeout(() -> {
+            open.set(false);
+            emitter.complete();
+        });
+        PointEventSubscription subscription = pointEventBus.subscribe(lastEventId);
+        try {
+            pointEventExecutor.execute(() -> pump(emitter, subscription, userId, open));
+        } catch (RejectedExecutionException e) {
+            streams.decrementAndGet();
+            throw e;
+        }
+        return emitter;
+    }
+
+    private void pump(SseEmitter emitter, PointEventSubscription subscription, Long userId, AtomicBoolean open) {
+        List<PointEvent> batch = new ArrayList<>(BATCH_SIZE);
+        long pollNanos = properties.pollInterval().toNanos();
+        long heartbeatNanos = properties.heartbeat().toNanos();
+        long lastSent = System.nanoTime();
+        try {
+            while (open.get() && !Thread.currentThread().isInterrupted()) {
+                int polled = subscription.poll(BATCH_SIZE, event -> {
+                    if (userId == null || event.userId() == userId) {
+                        batch.add(event);
+                    }
+                });
+                for (PointEvent event : batch) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.sequence()))
+                            .name(event.type().name())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+                if (!batch.isEmpty()) {
+                    batch.clear();
+                    lastSent = System.nanoTime();
+                } else if (System.nanoTime() - lastSent >= heartbeatNanos) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    lastSent = System.nanoTime();
+                }
+                if (polled < BATCH_SIZE) {
+                    LockSupport.parkNanos(this, pollNanos);
+                }
+            }
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 끝난 스트림
+            emitter.completeWithError(e);
+        } finally {
+            streams.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.event;
+
+import java.util.function.Consumer;
+
+/**
+ * 이벤트 버스 구독(커서 하나, 한 스레드에서만 사용)
+ */
+public class PointEventSubscription {
+
+    private final PointEventBus bus;
+    // 다음에 읽을 순번
+    private long cursor;
+    private long lost;
+
+    PointEventSubscription(PointEventBus bus, long cursor) {
+        this.bus = bus;
+        this.cursor = cursor;
+    }
+
+    /**
+     * 발행된 이벤트를 순번 순서대로 최대 max 건 넘김
+     * - 아직 쓰는 중인 칸을 만나면 거기서 멈춘다(다음 poll 에서 이어서 읽음).
+     * - 읽으려는 칸이 이미 덮어쓰였으면 ring 에 남은 가장 오래된 순번으로 건너뛰고 건너뛴 수를 lost 에 더한다.
+     * @return 넘긴 이벤트 수
+     */
+    public int poll(int max, Consumer<PointEvent> consumer) {
+        int count = 0;
+        while (count < max) {
+            PointEvent event = bus.slot(cursor);
+            if (event == null || event.sequence() < cursor) {
+                return count;
+            }
+            if (event.sequence() > cursor) {
+                long oldest = bus.published() + 1 - bus.capacity();
+                long skipped = Math.max(1, oldest - cursor);
+                lost += skipped;
+                bus.lost(skipped);
+                cursor += skipped;
+                continue;
+            }
+            consumer.accept(event);
+            cursor++;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return 마지막으로 넘긴 이벤트의 순번
+     */
+    public long lastSequence() {
+        return cursor - 1;
+    }
+
+    /**
+     * @return 뒤처져서 놓친 이벤트 수
+     */
+    public long lost() {
+        return lost;
+    }
+}
@@ -1,10 +1,19 @@
 package io.hhplus.tdd.point.exception;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     @ExceptionHandler(value = Exception.class)
@@ -16,4 +25,58 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", e.getMessage()));
     }
+
+    /**
+     * 요청 수 제한 또는 유저 lock 대기시간 초과
+     */
+    @ExceptionHandler(value = PointOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handlePointOverloadedException(PointOverloadedException e) {
+        return ResponseEntity.status(429).body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    /**
+     * 같은 Idempotency-Key 로 내용이 다른 요청
+     */
+    @ExceptionHandler(value = PointIdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handlePointIdempotencyConflictException(PointIdempotencyConflictException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+
+    /**
+     * 비동기 요청이 point.async.timeout 안에 끝나지 않음(조회, 또는 시작 전에 취소되어 반영되지 않은 충전/사용이라 다시 시도해도 됨)
+     */
+    @ExceptionHandler(value = TimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleTimeoutException(TimeoutException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "요청 처리 시간이 초과되었습니다."));
+    }
+
+    /**
+     * 이미 시작한 충전/사용이 point.async.timeout 안에 끝나지 않아 반영 여부를 알 수 없음
+     * - 503 과 달리 그대로 다시 보내면 두 번 반영될 수 있으므로, 잔고를 확인하거나 같은 Idempotency-Key 로 다시 보내야 한다.
+     */
+    @ExceptionHandler(value = PointOutcomeUnknownException.class)
+    public ResponseEntity<ErrorResponse> handlePointOutcomeUnknownException(PointOutcomeUnknownException e) {
+        return ResponseEntity.status(504).body(new ErrorResponse("504", e.getMessage()));
+    }
+
+    /**
+     * 비동기 요청 대기열이 가득 참
+     */
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    /**
+     * Spring MVC 비동기 요청 자체의 시간 초과(spring.mvc.async.request-timeout)
+     * - 조회가 아니면 처리 중이던 충전/사용이 반영됐을 수 있으므로 504 로 구분한다.
+     */
+    @Override
+    protected ResponseEntity<Object> handleAsyncRequestTimeoutException(AsyncRequestTimeoutException ex, HttpHeaders headers,
+                                                                        HttpStatusCode status, WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getHttpMethod() != HttpMethod.GET) {
+            return ResponseEntity.status(504).body(new ErrorResponse("504", PointOutcomeUnknownException.MESSAGE));
+        }
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "요청 처리 시간이 초과되었습니다."));
+    }
 }
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.exception;
+
+/**
+ * 같은 Idempotency-Key 로 다른 내용의 요청을 보냄(409 로 응답)
+ */
+public class PointIdempotencyConflictException extends RuntimeException {
+
+    public PointIdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.exception;
+
+/**
+ * 충전/사용이 제한시간 안에 끝나지 않았지만 이미 실행 중이라 반영 여부를 알 수 없음(504 로 응답)
+ * - 요청은 멈추지 않고 끝까지 실행되므로, 같은 요청을 Idempotency-Key 없이 다시 보내면 두 번 반영될 수 있다.
+ */
+public class PointOutcomeUnknownException extends RuntimeException {
+
+    public static final String MESSAGE = "요청 처리 시간이 초과되어 반영 여부를 알 수 없습니다. 잔고를 확인하거나 같은 Idempotency-Key 로 다시 시도해주세요.";
+
+    public PointOutcomeUnknownException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.exception;
+
+/**
+ * 요청이 몰려 받지 않고 바로 거절함(429 로 응답)
+ */
+public class PointOverloadedException extends RuntimeException {
+
+    public PointOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.expiry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 만료 스케줄러 설정
+ * @param enabled true 면 충전/사용으로 바뀐 잔고의 만료를 등록하고, 만료시간이 지나면 잔고를 0 으로 만들고 만료 내역을 남김
+ * @param tick 타이밍 휠 한 칸의 시간(만료 처리가 최대 이만큼 늦어질 수 있음)
+ * @param levels 타이밍 휠 level 수
+ * @param stripes 타이밍 휠 개수(유저 id 로 나눠서 등록 시 lock 경합을 줄임)
+ * @param initialCapacity 타이밍 휠 하나가 처음 잡아 둘 항목 수
+ */
+@ConfigurationProperties("point.expiry")
+public record PointExpiryProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100ms") Duration tick,
+        @DefaultValue("4") int levels,
+        @DefaultValue("16") int stripes,
+        @DefaultValue("1024") int initialCapacity
+) {
+}
@@ -0,0 +1,134 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 잔고 만료 등록/조회
+ * - 내역이 저장될 때(PointHistoryListener) 잔고가 남아 있으면 "수정시간 + 만료시간" 에 만료되도록 타이밍 휠에 등록한다.
+ *   UserPoint.isExpired 와 같은 기준이므로 마지막 충전/사용 후 만료시간이 지나면 만료된다.
+ * - 유저 id 로 타이밍 휠을 stripes 개로 나누고 휠마다 lock 을 둔다.
+ * - advance 는 만료된 항목을 lock 안에서 버퍼로 옮긴 뒤 lock 밖에서 handler 를 부른다
+ *   (handler 가 유저 lock 을 잡는 동안 충전/사용 쪽의 등록을 막지 않도록).
+ * - 그 사이 잔고가 다시 바뀐 유저의 항목도 그대로 만료되므로, handler 가 등록 당시 수정시간(version)과 비교해 걸러낸다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.expiry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PointExpiryScheduler implements PointHistoryListener {
+
+    private final long tickMillis;
+    private final Stripe[] stripes;
+    private final int mask;
+
+    // advance 에서 만료 항목을 옮겨 담는 버퍼([2i] 유저 id, [2i+1] version, advance 스레드 하나만 씀)
+    private long[] expired = new long[256];
+    private int buffered;
+
+    public PointExpiryScheduler(PointExpiryProperties properties, MeterRegistry registry) {
+        this.tickMillis = Math.max(1, properties.tick().toMillis());
+        // 생성 시각까지는 처리한 것으로 봄
+        long startTick = System.currentTimeMillis() / tickMillis;
+        int size = Integer.highestOneBit(Math.max(1, properties.stripes() - 1)) << 1;
+        this.stripes = new Stripe[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(new TimingWheel(properties.levels(), startTick, properties.initialCapacity()));
+        }
+        Gauge.builder("point.expiry.pending", this, PointExpiryScheduler::pending)
+                .description("만료를 기다리는 잔고 수")
+                .register(registry);
+    }
+
+    @Override
+    public void onCommitted(PointHistory pointHistory, UserPoint userPoint) {
+        if (pointHistory.type() != TransactionType.EXPIRE && userPoint.point() > 0) {
+            schedule(userPoint.id(), userPoint.updateMillis());
+        }
+    }
+
+    /**
+     * 잔고 수정시간 기준으로 만료를 등록함
+     * @param updateMillis 잔고 수정시간(만료 시 version 으로 돌려줌)
+     */
+    public void schedule(long userId, long updateMillis) {
+        // isExpired 는 만료시간을 "넘긴" 뒤부터 참이므로 1ms 뒤 tick 으로 올림
+        long deadlineMillis = updateMillis + UserPoint.EXPIRE_MILLIS + 1;
+        long deadlineTick = (deadlineMillis + tickMillis - 1) / tickMillis;
+        Stripe stripe = stripe(userId);
+        stripe.lock.lock();
+        try {
+            stripe.wheel.schedule(userId, updateMillis, deadlineTick);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * nowMillis 까지 만료된 항목을 handler 에 넘김(한 스레드에서만 호출)
+     * @return 만료된 항목 수
+     */
+    public int advance(long nowMillis, TimingWheel.ExpiryHandler handler) {
+        long tick = nowMillis / tickMillis;
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            int count;
+            stripe.lock.lock();
+            try {
+                count = stripe.wheel.advance(tick, this::buffer);
+            } finally {
+                stripe.lock.unlock();
+            }
+            for (int i = 0; i < count; i++) {
+                handler.expire(expired[i << 1], expired[(i << 1) + 1]);
+            }
+            total += count;
+            buffered = 0;
+        }
+        return total;
+    }
+
+    /**
+     * @return 만료를 기다리는 항목 수(지난 항목 포함)
+     */
+    public long pending() {
+        long pending = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                pending += stripe.wheel.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return pending;
+    }
+
+    private void buffer(long userId, long version) {
+        if ((buffered << 1) == expired.length) {
+            expired = Arrays.copyOf(expired, expired.length << 1);
+        }
+        expired[buffered << 1] = userId;
+        expired[(buffered << 1) + 1] = version;
+        buffered++;
+    }
+
+    private Stripe stripe(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h ^ (h >>> 29)) & mask];
+    }
+
+    private record Stripe(TimingWheel wheel, ReentrantLock lock) {
+        Stripe(TimingWheel wheel) {
+            this(wheel, new ReentrantLock());
+        }
+    }
+}
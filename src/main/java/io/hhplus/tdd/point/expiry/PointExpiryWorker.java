@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.exception.PointOverloadedException;
+import io.hhplus.tdd.point.service.PointService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * tick 마다 타이밍 휠을 진행하고 만료된 잔고를 PointService 로 만료시키는 백그라운드 작업
+ * - 유저 lock 을 lockTimeout 안에 얻지 못하면 다음 tick 에 다시 시도한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.expiry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PointExpiryWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExpiryWorker.class);
+
+    private final PointExpiryScheduler pointExpiryScheduler;
+    private final PointService pointService;
+    private final PointExpiryProperties properties;
+    private final ScheduledExecutorService executor;
+
+    public PointExpiryWorker(PointExpiryScheduler pointExpiryScheduler, PointService pointService, PointExpiryProperties properties) {
+        this.pointExpiryScheduler = pointExpiryScheduler;
+        this.pointService = pointService;
+        this.properties = properties;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        long tick = Math.max(1, properties.tick().toMillis());
+        executor.scheduleWithFixedDelay(this::tick, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 지금까지 만료된 잔고를 처리함
+     * @return 만료 시점이 된 항목 수(잔고가 다시 바뀌어 건너뛴 항목 포함)
+     */
+    public int tick() {
+        try {
+            return pointExpiryScheduler.advance(System.currentTimeMillis(), this::expire);
+        } catch (RuntimeException e) {
+            log.error("포인트 만료 처리 실패", e);
+            return 0;
+        }
+    }
+
+    private void expire(long userId, long updateMillis) {
+        try {
+            pointService.expire(userId, updateMillis);
+        } catch (PointOverloadedException e) {
+            // 이미 지난 시각으로 다시 등록해서 다음 tick 에 재시도
+            pointExpiryScheduler.schedule(userId, updateMillis);
+        } catch (RuntimeException e) {
+            log.error("포인트 만료 실패 userId={}", userId, e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.hhplus.tdd.point.expiry;
+
+import java.util.Arrays;
+
+/**
+ * 계층형 타이밍 휠(hierarchical timing wheel)
+ * - 시각은 tick 단위 정수로 다룬다. level L 의 slot 하나는 64^L tick 을 덮고, level 마다 slot 은 64개다.
+ * - 등록할 때 만료 tick 과 현재 tick 이 처음 달라지는 6비트 자리로 level 을 고르고, 그 자리 값으로 slot 을 고른다. (O(1))
+ * - tick 이 level L 의 경계(하위 6L 비트가 0)에 닿으면 그 level 의 slot 을 아래 level 로 내려 다시 등록하고(cascade),
+ *   level 0 의 slot 은 통째로 만료시킨다. 항목 하나는 최대 level 수만큼만 내려가므로 tick 당 비용은 상수다.
+ * - 항목은 객체 없이 풀(long/int 배열)에 두고 slot 마다 index 로 이은 단일 연결 리스트로 관리한다.
+ *   항목당 메모리는 key, version, 만료 tick, next 로 고정(28바이트)이고 만료된 칸은 free list 로 재사용한다.
+ * - 취소는 지원하지 않는다. 만료 시점에 version 을 비교해 지난 항목을 걸러내는 쪽에서 처리한다.
+ * - thread-safe 하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+public class TimingWheel {
+
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int NIL = -1;
+
+    private final int levels;
+    // [level * SLOTS + slot] slot 의 첫 항목
+    private final int[] heads;
+
+    // 항목 풀
+    private long[] keys;
+    private long[] versions;
+    private long[] deadlines;
+    private int[] next;
+    private int allocated;
+    private int free = NIL;
+    private int size;
+
+    // 마지막으로 처리한 tick
+    private long currentTick;
+
+    /**
+     * @param levels level 수(tick 당 64^levels 앞까지는 cascade 한 번에 내려옴, 그보다 먼 항목은 최상위 level 을 돌며 기다림)
+     * @param startTick 시작 tick(이 tick 까지는 처리한 것으로 봄)
+     * @param initialCapacity 처음 잡아 둘 항목 수
+     */
+    public TimingWheel(int levels, long startTick, int initialCapacity) {
+        if (levels < 1 || levels * SLOT_BITS >= Long.SIZE) {
+            throw new IllegalArgumentException("level 수는 1 ~ " + (Long.SIZE - 1) / SLOT_BITS + " 사이여야 합니다.");
+        }
+        this.levels = levels;
+        this.heads = new int[levels * SLOTS];
+        Arrays.fill(heads, NIL);
+        int capacity = Math.max(16, initialCapacity);
+        this.keys = new long[capacity];
+        this.versions = new long[capacity];
+        this.deadlines = new long[capacity];
+        this.next = new int[capacity];
+        this.currentTick = startTick;
+    }
+
+    /**
+     * 만료를 등록함(이미 지난 tick 이면 다음 advance 에서 만료)
+     * @param key 만료 대상(유저 id)
+     * @param version 만료 시점에 그대로 돌려줄 값(등록 당시 잔고 수정시간)
+     * @param deadlineTick 만료 tick
+     */
+    public void schedule(long key, long version, long deadlineTick) {
+        int entry = allocate();
+        keys[entry] = key;
+        versions[entry] = version;
+        deadlines[entry] = Math.max(deadlineTick, currentTick + 1);
+        link(entry, currentTick);
+        size++;
+    }
+
+    /**
+     * tick 까지 시간을 진행하며 만료된 항목을 handler 에 넘김
+     * @return 만료된 항목 수
+     */
+    public int advance(long tick, ExpiryHandler handler) {
+        int expired = 0;
+        while (currentTick < tick) {
+            if (size == 0) {
+                // 비어 있으면 tick 을 하나씩 돌 필요 없음
+                currentTick = tick;
+                break;
+            }
+            long now = currentTick + 1;
+            // 위 level 부터 내려야 같은 tick 에 아래 level 로 내려온 항목도 이어서 내려감
+            for (int level = levels - 1; level > 0; level--) {
+                if ((now & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+                    cascade(level, now);
+                }
+            }
+            int slot = (int) (now & SLOT_MASK);
+            int entry = heads[slot];
+            heads[slot] = NIL;
+            while (entry != NIL) {
+                int following = next[entry];
+                long key = keys[entry];
+                long version = versions[entry];
+                release(entry);
+                size--;
+                expired++;
+                handler.expire(key, version);
+                entry = following;
+            }
+            currentTick = now;
+        }
+        return expired;
+    }
+
+    /**
+     * @return 만료를 기다리는 항목 수
+     */
+    public int size() {
+        return size;
+    }
+
+    public long currentTick() {
+        return currentTick;
+    }
+
+    private void cascade(int level, long now) {
+        int index = level * SLOTS + (int) ((now >>> (level * SLOT_BITS)) & SLOT_MASK);
+        int entry = heads[index];
+        heads[index] = NIL;
+        while (entry != NIL) {
+            int following = next[entry];
+            link(entry, now);
+            entry = following;
+        }
+    }
+
+    /**
+     * 만료 tick 과 기준 tick 이 처음 달라지는 6비트 자리의 level/slot 에 넣음
+     * - 최상위 level 보다 먼 항목은 최상위 level 에 넣고, cascade 될 때 다시 자리를 고른다.
+     */
+    private void link(int entry, long referenceTick) {
+        long deadline = deadlines[entry];
+        long diff = deadline ^ referenceTick;
+        int level = diff == 0 ? 0 : Math.min(levels - 1, (Long.SIZE - 1 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS);
+        int index = level * SLOTS + (int) ((deadline >>> (level * SLOT_BITS)) & SLOT_MASK);
+        next[entry] = heads[index];
+        heads[index] = entry;
+    }
+
+    private int allocate() {
+        if (free != NIL) {
+            int entry = free;
+            free = next[entry];
+            return entry;
+        }
+        if (allocated == keys.length) {
+            int capacity = keys.length + (keys.length >> 1);
+            keys = Arrays.copyOf(keys, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            deadlines = Arrays.copyOf(deadlines, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        return allocated++;
+    }
+
+    private void release(int entry) {
+        next[entry] = free;
+        free = entry;
+    }
+
+    @FunctionalInterface
+    public interface ExpiryHandler {
+        void expire(long key, long version);
+    }
+}
@@ -0,0 +1,382 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 열(column) 단위로 압축해서 보관하는 내역 저장소
+ * - 유저마다 chunk 를 연결 리스트(chain)로 이어 붙이고, chunk 하나에 최대 CHUNK_ENTRIES 건을 담는다.
+ * - chunk 안에서는 id 와 수정시간은 차이의 차이(delta-of-delta), 금액은 AMOUNT_UNIT 단위 값을 varint 로 byte 배열 하나에 쓰고
+ *   트랜잭션 종류는 id 값의 하위 비트에 넣는다. 유저 id 는 chain 에 한 번만 둔다.
+ * - 다 찬 chunk 는 배열을 실제 길이로 줄여 둔다.
+ * - PointHistory 객체는 조회 결과를 만들 때만 생성한다.
+ * - 같은 유저의 저장/조회는 chain 단위로 동기화하고, id 는 chain lock 안에서 부여해 유저별로 증가하게 한다.
+ */
+public class ColumnarPointHistoryStore implements PointHistoryStore {
+
+    static final int CHUNK_ENTRIES = 128;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    // 트랜잭션 종류 하나에 쓰는 비트 수(종류 수보다 큰 값 하나를 ESCAPE 로 남김)
+    private static final int TYPE_BITS = 32 - Integer.numberOfLeadingZeros(TYPES.length);
+    private static final int ESCAPE = (1 << TYPE_BITS) - 1;
+    // 금액을 이 단위로 나눠 씀(충전/사용 금액은 최소 100)
+    private static final long AMOUNT_UNIT = 100;
+    private static final int INITIAL_CHUNK_BYTES = 16;
+
+    private final ConcurrentHashMap<Long, UserChain> chains = new ConcurrentHashMap<>();
+    // 마지막으로 부여한 내역 id
+    private final AtomicLong lastHistoryId;
+    // 유저 chain 을 처음 만들 때 채울 곳(저널에서 복구한 뒤에만 사용)
+    private volatile LongFunction<List<PointHistory>> backfill = userId -> List.of();
+
+    public ColumnarPointHistoryStore() {
+        this(new AtomicLong());
+    }
+
+    /**
+     * @param lastHistoryId 내역 id 발급기(저장소 여러 개가 함께 쓰면 id 가 저장소끼리 겹치지 않음)
+     */
+    public ColumnarPointHistoryStore(AtomicLong lastHistoryId) {
+        this.lastHistoryId = lastHistoryId;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        UserChain chain = chains.computeIfAbsent(userId, this::load);
+        long id;
+        synchronized (chain) {
+            id = lastHistoryId.incrementAndGet();
+            chain.append(id, amount, type, updateMillis);
+        }
+        return new PointHistory(id, userId, amount, type, updateMillis);
+    }
+
+    /**
+     * id 가 이미 정해진 내역을 그대로 저장함(읽기 복제본용, 같은 유저의 내역은 id 오름차순으로 넣어야 함)
+     * @param pointHistory 원본 저장소가 저장한 내역
+     */
+    public void append(PointHistory pointHistory) {
+        UserChain chain = chains.computeIfAbsent(pointHistory.userId(), this::load);
+        synchronized (chain) {
+            chain.append(pointHistory.id(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+        }
+        lastHistoryId.accumulateAndGet(pointHistory.id(), Math::max);
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        UserChain chain = find(userId);
+        if (chain == null) {
+            return List.of();
+        }
+        synchronized (chain) {
+            List<PointHistory> histories = new ArrayList<>(chain.size);
+            chain.forEach(Long.MIN_VALUE, (id, amount, type, updateMillis) -> {
+                histories.add(new PointHistory(id, userId, amount, type, updateMillis));
+                return true;
+            });
+            return histories;
+        }
+    }
+
+    /**
+     * 유저의 내역을 커서 기준으로 한 페이지 조회함
+     * - 커서 이전 chunk 는 마지막 id 만 보고 건너뛰고, 조건에 맞는 내역만 객체로 만든다.
+     */
+    @Override
+    public PointHistorySlice page(long userId, PointHistoryQuery query) {
+        UserChain chain = find(userId);
+        if (chain == null) {
+            return new PointHistorySlice(List.of(), 0, 0, query, null);
+        }
+        PageCollector collector = new PageCollector(userId, query);
+        synchronized (chain) {
+            chain.forEach(query.afterId() == null ? Long.MIN_VALUE : query.afterId(), collector);
+        }
+        // 조건에 맞는 내역이 더 있을 때만 다음 커서를 내려줌
+        String nextCursor = collector.hasMore ? PointHistoryCursor.encode(collector.lastScannedId) : null;
+        return new PointHistorySlice(collector.page, 0, collector.page.size(), query, nextCursor);
+    }
+
+    @Override
+    public void restore(LongFunction<List<PointHistory>> loader, long lastHistoryId) {
+        backfill = loader;
+        this.lastHistoryId.set(lastHistoryId);
+        chains.clear();
+    }
+
+    private UserChain find(long userId) {
+        // 내역이 없는 유저는 조회만으로 chain 을 만들지 않음(computeIfAbsent 에서 null 이면 넣지 않음)
+        return chains.computeIfAbsent(userId, id -> {
+            UserChain chain = load(id);
+            return chain.size == 0 ? null : chain;
+        });
+    }
+
+    private UserChain load(long userId) {
+        UserChain chain = new UserChain();
+        for (PointHistory pointHistory : backfill.apply(userId)) {
+            chain.append(pointHistory.id(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+        }
+        return chain;
+    }
+
+    @FunctionalInterface
+    private interface EntryVisitor {
+        /**
+         * @return false 면 순회를 멈춤
+         */
+        boolean visit(long id, long amount, TransactionType type, long updateMillis);
+    }
+
+    /**
+     * 조건에 맞는 내역을 limit 건까지 모으고, 그 뒤에 조건에 맞는 내역이 더 있는지 기록함
+     * - limit 건을 채운 뒤에는 조건에 맞는 내역을 만날 때까지 더 보고, 건너뛴 내역까지 커서를 옮긴다.
+     */
+    private static final class PageCollector implements EntryVisitor {
+        private final long userId;
+        private final PointHistoryQuery query;
+        private final List<PointHistory> page;
+        private long lastScannedId;
+        private boolean hasMore;
+
+        PageCollector(long userId, PointHistoryQuery query) {
+            this.userId = userId;
+            this.query = query;
+            this.page = new ArrayList<>(Math.min(query.limit(), CHUNK_ENTRIES));
+        }
+
+        @Override
+        public boolean visit(long id, long amount, TransactionType type, long updateMillis) {
+            boolean matches = query.matches(type, updateMillis);
+            if (page.size() == query.limit() && matches) {
+                hasMore = true;
+                return false;
+            }
+            lastScannedId = id;
+            if (matches && page.size() < query.limit()) {
+                page.add(new PointHistory(id, userId, amount, type, updateMillis));
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 한 유저의 chunk 목록(오래된 순)
+     * - 마지막 chunk 에 이어 쓸 때 필요한 상태(건수, 쓴 길이, 직전 값과 직전 차이)는 chunk 마다 두지 않고 여기에 한 번만 둔다.
+     */
+    private static final class UserChain {
+        private Chunk head;
+        private Chunk tail;
+        private int size;
+        private int tailCount;
+        private int tailLength;
+        private long lastId;
+        private long lastIdDelta;
+        private long lastMillis;
+        private long lastMillisDelta;
+
+        void append(long id, long amount, TransactionType type, long updateMillis) {
+            if (tail == null || tailCount == CHUNK_ENTRIES) {
+                Chunk chunk = new Chunk();
+                if (tail == null) {
+                    head = chunk;
+                } else {
+                    tail.seal(tailLength);
+                    tail.next = chunk;
+                }
+                tail = chunk;
+                tailCount = 0;
+                tailLength = 0;
+                lastId = 0;
+                lastIdDelta = 0;
+                lastMillis = 0;
+                lastMillisDelta = 0;
+            }
+            long idDelta = id - lastId;
+            long millisDelta = updateMillis - lastMillis;
+            tailLength = tail.write(tailLength, idDelta - lastIdDelta, type, millisDelta - lastMillisDelta, amount);
+            tail.lastId = id;
+            // chunk 의 첫 내역은 값 그대로 쓰므로 다음 내역의 차이 기준은 0
+            lastIdDelta = tailCount == 0 ? 0 : idDelta;
+            lastMillisDelta = tailCount == 0 ? 0 : millisDelta;
+            lastId = id;
+            lastMillis = updateMillis;
+            tailCount++;
+            size++;
+        }
+
+        void forEach(long afterId, EntryVisitor visitor) {
+            for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+                if (chunk.lastId <= afterId) {
+                    continue;
+                }
+                if (!chunk.forEach(chunk == tail ? tailLength : chunk.data.length, afterId, visitor)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 최대 CHUNK_ENTRIES 건을 담는 chunk
+     * - 내역마다 [id 차이의 차이 + 트랜잭션 종류] [수정시간 차이의 차이] [금액] 을 varint 로 byte 배열 하나에 잇달아 쓴다.
+     *   chunk 의 첫 내역은 값 그대로(0 과의 차이) 쓰므로 chunk 마다 따로 읽을 수 있다.
+     * - 일정한 간격으로 들어오는 내역은 차이의 차이가 0 이 되어 id, 수정시간이 각각 1바이트로 줄어든다.
+     * - 트랜잭션 종류는 첫 varint 의 하위 비트에 넣고, id 쪽 값이 너무 커서 자리가 없을 때만 ESCAPE 뒤에 따로 쓴다.
+     * - 금액은 대부분 AMOUNT_UNIT 단위이므로 단위로 나눈 값을 쓰고(최하위 비트 1), 아니면 zigzag 값을 쓴다(최하위 비트 0).
+     * - 유저마다 chunk 가 하나 이상 생기므로 필드는 조회에 필요한 것(배열, 마지막 id, 다음 chunk)만 둔다.
+     */
+    private static final class Chunk {
+        private byte[] data = new byte[INITIAL_CHUNK_BYTES];
+        private long lastId;
+        private Chunk next;
+
+        /**
+         * @return 쓴 뒤의 길이
+         */
+        int write(int length, long idDeltaOfDelta, TransactionType type, long millisDeltaOfDelta, long amount) {
+            long idToken = zigZag(idDeltaOfDelta);
+            boolean escaped = idToken >>> (Long.SIZE - TYPE_BITS) != 0;
+            long header = escaped ? ESCAPE : idToken << TYPE_BITS | type.ordinal();
+            long millisToken = zigZag(millisDeltaOfDelta);
+            long amountToken = amountToken(amount);
+            int size = varLongSize(header) + varLongSize(millisToken)
+                    + (amountToken != 0 ? varLongSize(amountToken) : 1 + varLongSize(zigZag(amount)))
+                    + (escaped ? varLongSize(type.ordinal()) + varLongSize(idToken) : 0);
+            data = ensureCapacity(data, length + size);
+
+            length = writeVarLong(data, length, header);
+            if (escaped) {
+                length = writeVarLong(data, length, type.ordinal());
+                length = writeVarLong(data, length, idToken);
+            }
+            length = writeVarLong(data, length, millisToken);
+            length = writeVarLong(data, length, amountToken);
+            if (amountToken == 0) {
+                length = writeVarLong(data, length, zigZag(amount));
+            }
+            return length;
+        }
+
+        /**
+         * @param end 읽을 바이트 수(다 찬 chunk 는 배열 길이)
+         */
+        boolean forEach(int end, long afterId, EntryVisitor visitor) {
+            VarLongReader reader = new VarLongReader(data);
+            long id = 0;
+            long idDelta = 0;
+            long updateMillis = 0;
+            long millisDelta = 0;
+            for (int i = 0; reader.position < end; i++) {
+                long header = reader.next();
+                int typeCode = (int) (header & ESCAPE);
+                long idToken = header >>> TYPE_BITS;
+                if (typeCode == ESCAPE) {
+                    typeCode = (int) reader.next();
+                    idToken = reader.next();
+                }
+                idDelta += unZigZag(idToken);
+                millisDelta += unZigZag(reader.next());
+                long amountToken = reader.next();
+                long amount = (amountToken & 1) != 0 ? (amountToken >>> 1) * AMOUNT_UNIT
+                        : unZigZag(amountToken != 0 ? amountToken >>> 1 : reader.next());
+                id += idDelta;
+                updateMillis += millisDelta;
+                if (i == 0) {
+                    idDelta = 0;
+                    millisDelta = 0;
+                }
+                if (id <= afterId) {
+                    continue;
+                }
+                if (!visitor.visit(id, amount, TYPES[typeCode], updateMillis)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 다 찬 chunk 의 배열을 실제 길이로 줄임
+         */
+        void seal(int length) {
+            data = Arrays.copyOf(data, length);
+        }
+    }
+
+    /**
+     * @return 금액을 나타내는 값(0 이면 뒤에 zigzag 값을 따로 씀)
+     */
+    private static long amountToken(long amount) {
+        if (amount >= 0 && amount % AMOUNT_UNIT == 0) {
+            return (amount / AMOUNT_UNIT) << 1 | 1;
+        }
+        long token = zigZag(amount);
+        // 0 이 아닌 금액이므로 token 은 1 이상, 한 비트 밀어도 넘치지 않을 때만 그대로 씀
+        return token >>> (Long.SIZE - 1) == 0 ? token << 1 : 0;
+    }
+
+    /**
+     * needed 바이트를 담을 수 있도록 1/8 씩 늘림(다 차지 않은 마지막 chunk 의 남는 자리를 줄임)
+     */
+    private static byte[] ensureCapacity(byte[] bytes, int needed) {
+        if (needed <= bytes.length) {
+            return bytes;
+        }
+        return Arrays.copyOf(bytes, Math.max(needed, bytes.length + (bytes.length >> 3)));
+    }
+
+    private static int varLongSize(long value) {
+        return (Long.SIZE - 1 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * @return 쓴 뒤의 길이
+     */
+    private static int writeVarLong(byte[] bytes, int length, long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+        return length;
+    }
+
+    private static final class VarLongReader {
+        private final byte[] bytes;
+        int position;
+
+        VarLongReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long next() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
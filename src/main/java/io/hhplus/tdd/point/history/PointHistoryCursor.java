@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.history;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 내역 페이지 조회용 커서
+ * - 클라이언트에게는 PointHistory.id 를 그대로 노출하지 않고 base64url 문자열로 감싸서 전달한다.
+ */
+public final class PointHistoryCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private PointHistoryCursor() {
+    }
+
+    public static String encode(long historyId) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(historyId).array());
+    }
+
+    public static long decode(String cursor) {
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new IllegalArgumentException();
+            }
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+    }
+}
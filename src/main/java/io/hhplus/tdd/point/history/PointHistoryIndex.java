@@ -0,0 +1,184 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import lombok.RequiredArgsConstructor;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * 유저별 포인트 충전/이용 내역 인덱스(PointHistoryTable 기반 내역 저장소)
+ * - 내역은 PointHistoryTable 에 저장하고, 저장된 PointHistory 를 유저별 목록에도 추가한다.
+ * - PointHistoryTable.selectAllByUserId 는 전체 내역을 매번 순회하므로 유저별 append-only 목록을 따로 관리한다.
+ * - 테이블은 프로세스 안에 있고 빈 상태로 시작하며 내역은 모두 이 클래스를 거쳐 저장되므로, 유저별 목록은 저장(append)으로만 채운다.
+ *   테이블을 다시 읽지 않으므로 새 유저의 첫 충전이 전체 내역을 순회하지 않고, 다른 유저가 동시에 쓰는 테이블 목록을 읽다가 깨지지도 않는다.
+ * - 저널에서 복구한 뒤에는 저널이 원본이므로, 복구된 유저의 목록은 처음 접근할 때 저널에서 그 유저의 내역만 한 번 채운다(backfill).
+ * - 내역이 없는 유저는 조회만으로 목록을 만들지 않는다(아무 id 로나 조회해도 인덱스가 늘지 않음).
+ */
+@RequiredArgsConstructor
+public class PointHistoryIndex implements PointHistoryStore {
+
+    private final PointHistoryTable pointHistoryTable;
+    // 유저별 내역 목록을 관리하기 위한 ConcurrentHashMap
+    private final ConcurrentHashMap<Long, UserHistories> index = new ConcurrentHashMap<>();
+    // 유저별 목록을 처음 만들 때 채울 곳(저널에서 복구한 뒤에만 사용)
+    private volatile LongFunction<List<PointHistory>> backfill = userId -> List.of();
+    // 재기동 후 PointHistoryTable 의 id 는 1부터 다시 시작하므로, 복구된 마지막 id 만큼 더해서 이어지게 함
+    private volatile long historyIdOffset;
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory inserted = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        PointHistory pointHistory = historyIdOffset == 0 ? inserted : new PointHistory(historyIdOffset + inserted.id(),
+                inserted.userId(), inserted.amount(), inserted.type(), inserted.updateMillis());
+        append(pointHistory);
+        return pointHistory;
+    }
+
+    /**
+     * 저장된 내역을 유저별 목록 끝에 추가함
+     * @param pointHistory PointHistoryTable 에 저장된 내역
+     */
+    public void append(PointHistory pointHistory) {
+        entries(pointHistory.userId()).append(pointHistory);
+    }
+
+    /**
+     * 이후로는 테이블 대신 복구한 원본에서 유저별 목록을 채움(요청을 받기 전에 호출)
+     */
+    @Override
+    public void restore(LongFunction<List<PointHistory>> loader, long lastHistoryId) {
+        backfill = loader;
+        historyIdOffset = lastHistoryId;
+        index.clear();
+    }
+
+    /**
+     * 유저의 전체 내역을 조회함(복사 없이 읽기전용 view 를 반환)
+     * @param userId
+     */
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        UserHistories histories = find(userId);
+        return histories != null ? histories.view() : List.of();
+    }
+
+    /**
+     * 유저의 내역을 커서 기준으로 한 페이지 조회함
+     * - 내역 id 는 유저별로 증가하므로 커서 위치는 이진탐색으로 찾고, 조건에 맞는 내역을 limit 건까지 센다.
+     * - limit 건을 채운 뒤에는 조건에 맞는 다음 내역이 있는지 더 찾아보고, 있을 때만 다음 커서를 내려준다
+     *   (커서는 그 내역 바로 앞이므로 다음 페이지는 건너뛴 내역을 다시 보지 않는다).
+     * @param userId
+     * @param query
+     */
+    @Override
+    public PointHistorySlice page(long userId, PointHistoryQuery query) {
+        List<PointHistory> entries = findAllByUserId(userId);
+        int fromIndex = query.afterId() == null ? 0 : indexAfter(entries, query.afterId());
+
+        int matched = 0;
+        int toIndex = fromIndex;
+        while (toIndex < entries.size() && matched < query.limit()) {
+            if (query.matches(entries.get(toIndex))) {
+                matched++;
+            }
+            toIndex++;
+        }
+        int next = toIndex;
+        while (next < entries.size() && !query.matches(entries.get(next))) {
+            next++;
+        }
+        // 조건에 맞는 내역이 더 있을 때만 다음 커서를 내려줌
+        String nextCursor = next < entries.size() ? PointHistoryCursor.encode(entries.get(next - 1).id()) : null;
+        return new PointHistorySlice(entries, fromIndex, toIndex, query, nextCursor);
+    }
+
+    private static int indexAfter(List<PointHistory> entries, long afterId) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries.get(mid).id() <= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private UserHistories entries(long userId) {
+        return index.computeIfAbsent(userId, id -> new UserHistories(backfill.apply(id)));
+    }
+
+    private UserHistories find(long userId) {
+        // computeIfAbsent 에서 null 이면 넣지 않음
+        return index.computeIfAbsent(userId, id -> {
+            List<PointHistory> histories = backfill.apply(id);
+            return histories.isEmpty() ? null : new UserHistories(histories);
+        });
+    }
+
+    /**
+     * 한 유저의 append-only 내역 목록
+     * - 쓰기는 append 한 곳에서만 일어나고, 이미 쓰여진 칸은 바뀌지 않으므로 읽기는 lock 없이 size 까지만 본다.
+     */
+    static final class UserHistories {
+        private PointHistory[] entries;
+        private volatile int size;
+
+        UserHistories(List<PointHistory> backfill) {
+            this.entries = backfill.toArray(new PointHistory[Math.max(8, backfill.size())]);
+            this.size = backfill.size();
+        }
+
+        synchronized void append(PointHistory pointHistory) {
+            int n = size;
+            // backfill 과 append 가 겹친 경우 같은 내역이 두 번 들어가지 않도록 id 로 걸러냄
+            if (n > 0 && entries[n - 1].id() >= pointHistory.id()) {
+                return;
+            }
+            if (n == entries.length) {
+                entries = Arrays.copyOf(entries, n << 1);
+            }
+            entries[n] = pointHistory;
+            size = n + 1;
+        }
+
+        List<PointHistory> view() {
+            // size 를 먼저 읽어야 그 시점까지 append 된 배열이 보장된다
+            int n = size;
+            return new HistoryView(entries, n);
+        }
+    }
+
+    private static final class HistoryView extends AbstractList<PointHistory> implements RandomAccess {
+        private final PointHistory[] entries;
+        private final int size;
+
+        HistoryView(PointHistory[] entries, int size) {
+            this.entries = entries;
+            this.size = size;
+        }
+
+        @Override
+        public PointHistory get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return entries[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
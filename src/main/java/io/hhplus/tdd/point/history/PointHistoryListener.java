@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 저장을 마친 포인트 내역을 전달받음
+ * - PointHistoryWriter 가 내역을 저장한 순서대로 호출한다(유저별 순서 보장).
+ */
+public interface PointHistoryListener {
+
+    /**
+     * @param pointHistory 저장된 내역
+     * @param userPoint 해당 충전/사용을 반영한 직후의 유저 포인트
+     */
+    void onCommitted(PointHistory pointHistory, UserPoint userPoint);
+
+    /**
+     * 한 배치의 내역을 모두 전달한 뒤 호출됨(동기 모드에서는 건마다 호출)
+     */
+    default void onBatchCommitted() {
+    }
+}
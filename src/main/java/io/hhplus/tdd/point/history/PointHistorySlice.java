@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 내역 한 페이지
+ * - 유저 내역 view 의 [fromIndex, toIndex) 구간 중 조회조건에 맞는 내역만 순회하며, 별도 목록을 만들지 않는다.
+ */
+public final class PointHistorySlice {
+
+    private final List<PointHistory> entries;
+    private final int fromIndex;
+    private final int toIndex;
+    private final PointHistoryQuery query;
+    private final String nextCursor;
+
+    PointHistorySlice(List<PointHistory> entries, int fromIndex, int toIndex, PointHistoryQuery query, String nextCursor) {
+        this.entries = entries;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.query = query;
+        this.nextCursor = nextCursor;
+    }
+
+    public void forEach(Consumer<PointHistory> action) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            PointHistory pointHistory = entries.get(i);
+            if (query.matches(pointHistory)) {
+                action.accept(pointHistory);
+            }
+        }
+    }
+
+    /**
+     * 다음 페이지 커서(마지막 페이지면 null)
+     */
+    public String nextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * 포인트 충전/이용 내역 저장소
+ * - 내역 저장(id 부여)과 유저별 조회를 함께 맡는다.
+ * - 같은 유저의 내역은 저장한 순서대로 id 가 증가한다.
+ */
+public interface PointHistoryStore {
+
+    /**
+     * 내역을 저장함
+     * @return id 가 부여된 내역
+     */
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 유저의 전체 내역을 조회함(id 오름차순)
+     * @param userId
+     */
+    List<PointHistory> findAllByUserId(long userId);
+
+    /**
+     * 유저의 내역을 커서 기준으로 한 페이지 조회함
+     * @param userId
+     * @param query
+     */
+    PointHistorySlice page(long userId, PointHistoryQuery query);
+
+    /**
+     * 이후로는 복구한 원본에서 유저별 내역을 읽고, 내역 id 는 lastHistoryId 다음부터 매김(요청을 받기 전에 호출)
+     * @param loader 유저 id 로 전체 내역(id 오름차순)을 읽어옴
+     * @param lastHistoryId 복구된 마지막 내역 id
+     */
+    void restore(LongFunction<List<PointHistory>> loader, long lastHistoryId);
+
+    /**
+     * 저장소 종류
+     * - TABLE : PointHistoryTable 에 저장하고 유저별 인덱스로 조회(내역마다 PointHistory 객체를 보관)
+     * - COLUMNAR : 유저별 chunk 에 값을 압축해서 보관하고 조회할 때만 PointHistory 를 만듦
+     */
+    enum Type {
+        TABLE, COLUMNAR
+    }
+}
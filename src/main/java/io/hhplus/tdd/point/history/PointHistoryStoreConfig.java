@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PointHistoryStoreConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryStoreConfig.class);
+
+    @Bean
+    public PointHistoryStore pointHistoryStore(PointHistoryStoreProperties properties, PointHistoryWriterProperties writerProperties,
+                                               PointHistoryTable pointHistoryTable) {
+        if (properties.type() == PointHistoryStore.Type.TABLE && writerProperties.enabled()) {
+            log.warn("TABLE 내역 저장소는 건마다 최대 300ms 가 걸려 write-behind worker 하나로는 따라가지 못합니다"
+                    + "(대기열이 차면 charge/use 가 429 로 거절됨). point.history.write-behind.enabled=false 를 권장합니다.");
+        }
+        return switch (properties.type()) {
+            case TABLE -> new PointHistoryIndex(pointHistoryTable);
+            case COLUMNAR -> new ColumnarPointHistoryStore();
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 내역 저장소 설정
+ * @param type 저장소 종류(TABLE, COLUMNAR, 기본값은 write-behind worker 하나가 따라갈 수 있는 COLUMNAR)
+ */
+@ConfigurationProperties("point.history.store")
+public record PointHistoryStoreProperties(
+        @DefaultValue("COLUMNAR") PointHistoryStore.Type type
+) {
+}
@@ -0,0 +1,282 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointOverloadedException;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.metrics.PointMetrics.RejectCause;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 내역 저장(write-behind)
+ * - charge/use 는 잔고 반영까지만 lock 안에서 처리하고, 내역은 대기열에 넣은 뒤 바로 반환한다.
+ * - 잔고를 바꾸기 전에 reserve 로 대기열 자리를 먼저 잡는다. 자리가 없으면 offerTimeout 만큼 기다린 뒤 거절하므로(429),
+ *   잔고가 바뀐 뒤에 내역 저장이 거절되는 일은 없다(write 는 실패하지 않음).
+ * - 백그라운드 worker 가 대기열을 batchSize/linger 단위로 모아 내역 저장소에 저장한다.
+ *   저장에 실패한 내역은 잔고가 이미 바뀌었으므로 버리지 않고 성공할 때까지 다시 시도한다.
+ * - worker 는 하나이고 저장소에 한 건씩 저장하므로 처리량은 저장소 하나의 속도로 묶인다.
+ *   기본 저장소(COLUMNAR)는 건마다 메모리에 몇 바이트를 쓰는 정도라 worker 하나로 충분하고, 배치로는 listener 의 배치 알림과
+ *   자리 반납/flush 신호를 배치마다 한 번으로 줄인다.
+ *   PointHistoryTable(TABLE)은 건마다 최대 300ms 를 기다리고 thread-safe 하지 않아 여러 worker 로 나눌 수도 없으므로, TABLE 에서는 동기 저장을 쓴다.
+ * - 종료 시에는 잡아둔 자리의 내역까지 모두 저장한 뒤 worker 를 멈춘다.
+ * - 저장된 내역은 PointHistoryListener 들에게 저장 순서대로 전달한다.
+ */
+@Component
+public class PointHistoryWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryWriter.class);
+
+    // 저장 실패 시 재시도 간격(두 배씩 늘려 최대 1초)
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // 종료 시 잡아둔 자리의 내역이 저장되기를 기다리는 최대 시간
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final PointHistoryStore pointHistoryStore;
+    private final PointHistoryWriterProperties properties;
+    private final PointMetrics pointMetrics;
+    private final List<PointHistoryListener> listeners;
+    private final BlockingQueue<PendingHistory> queue;
+    // 대기열 자리(reserve 에서 잡고, 잡은 내역이 저장되면 돌려줌)
+    private final Semaphore slots;
+    private final Thread worker;
+
+    // false 면 새 자리를 내주지 않음
+    private volatile boolean accepting = true;
+    // true 면 worker 가 대기열을 비운 뒤 멈춤
+    private volatile boolean closed;
+    // 대기열에 넣은 건수/저장을 마친 건수(flush 대기용)
+    // - 가상 스레드에서 대기 중 캐리어 스레드가 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock 을 씀
+    private final ReentrantLock progressLock = new ReentrantLock();
+    private final Condition committedCondition = progressLock.newCondition();
+    private long enqueued;
+    private long committed;
+
+    public PointHistoryWriter(PointHistoryStore pointHistoryStore, PointHistoryWriterProperties properties,
+                              PointMetrics pointMetrics, List<PointHistoryListener> listeners) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.properties = properties;
+        this.pointMetrics = pointMetrics;
+        this.listeners = listeners;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.slots = new Semaphore(properties.queueCapacity());
+        this.worker = new Thread(this::drainLoop, "point-history-writer");
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.enabled()) {
+            worker.start();
+        }
+    }
+
+    /**
+     * 내역 count 건이 들어갈 대기열 자리를 잡음(잔고를 바꾸기 전에 호출, 동기 모드면 아무것도 하지 않음)
+     * - 잡은 자리는 write 로 채우거나, 잔고를 바꾸지 않게 되면 release 로 돌려줘야 한다.
+     * @throws PointOverloadedException offerTimeout 안에 자리가 나지 않았거나 종료 중
+     */
+    public void reserve(int count) {
+        if (!properties.enabled() || count == 0) {
+            return;
+        }
+        if (!accepting) {
+            throw new PointOverloadedException("내역 저장이 종료되었습니다.");
+        }
+        try {
+            if (!slots.tryAcquire(count, properties.offerTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                pointMetrics.rejected(RejectCause.HISTORY_QUEUE_FULL);
+                throw new PointOverloadedException("내역 저장 대기열이 가득 찼습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PointOverloadedException("내역 저장이 중단되었습니다.");
+        }
+    }
+
+    /**
+     * reserve 로 잡았지만 쓰지 않을 자리를 돌려줌
+     */
+    public void release(int count) {
+        if (properties.enabled() && count > 0) {
+            slots.release(count);
+        }
+    }
+
+    /**
+     * 내역을 저장함(write-behind 모드면 reserve 로 잡아둔 자리에 넣고 바로 반환하며 실패하지 않음)
+     * @param userPoint 충전/사용을 반영한 직후의 유저 포인트
+     */
+    public void write(UserPoint userPoint, long amount, TransactionType type, long updateMillis) {
+        PendingHistory pending = new PendingHistory(userPoint, amount, type, updateMillis);
+        if (!properties.enabled()) {
+            commit(pending);
+            listeners.forEach(PointHistoryListener::onBatchCommitted);
+            return;
+        }
+        progressLock.lock();
+        try {
+            enqueued++;
+        } finally {
+            progressLock.unlock();
+        }
+        // 자리는 reserve 에서 이미 잡았으므로 대기열이 가득 차 있을 수 없음
+        queue.add(pending);
+    }
+
+    /**
+     * 지금까지 대기열에 넣은 내역이 모두 저장될 때까지 기다림
+     * @param timeoutMillis
+     * @return 제한시간 안에 모두 저장되었는지 여부
+     */
+    public boolean flush(long timeoutMillis) throws InterruptedException {
+        progressLock.lock();
+        try {
+            long target = enqueued;
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (committed < target) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = committedCondition.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 새 자리를 내주지 않고, 이미 잡아둔 자리의 내역까지 모두 저장함
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        accepting = false;
+        if (worker.isAlive()) {
+            // linger 중인 배치는 바로 저장하게 깨우고, 모든 자리가 돌아오면 잡아둔 내역까지 저장이 끝난 것
+            worker.interrupt();
+            if (!slots.tryAcquire(properties.queueCapacity(), CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("{}초 안에 잡아둔 내역 저장 자리가 모두 돌아오지 않아 대기열에 있는 내역까지만 저장합니다.", CLOSE_TIMEOUT_SECONDS);
+            }
+            closed = true;
+            worker.interrupt();
+            worker.join();
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingHistory> batch = new ArrayList<>(properties.batchSize());
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingHistory first = closed ? queue.poll() : queue.take();
+                if (first == null) {
+                    break;
+                }
+                batch.add(first);
+                fill(batch);
+            } catch (InterruptedException e) {
+                // close() 로 깨어난 경우 남은 내역은 다음 반복에서 비운다
+                queue.drainTo(batch, properties.batchSize() - batch.size());
+            }
+            commitAll(batch);
+        }
+    }
+
+    // linger 동안 batchSize 까지 내역을 더 모음
+    private void fill(List<PendingHistory> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.linger().toNanos();
+        while (batch.size() < properties.batchSize()) {
+            queue.drainTo(batch, properties.batchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.batchSize() || remaining <= 0) {
+                return;
+            }
+            PendingHistory next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commitAll(List<PendingHistory> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (PendingHistory pending : batch) {
+            PointHistory pointHistory = insertWithRetry(pending);
+            for (PointHistoryListener listener : listeners) {
+                try {
+                    listener.onCommitted(pointHistory, pending.userPoint());
+                } catch (RuntimeException e) {
+                    log.error("포인트 내역 전달 실패 listener={}, historyId={}", listener.getClass().getSimpleName(), pointHistory.id(), e);
+                }
+            }
+        }
+        for (PointHistoryListener listener : listeners) {
+            try {
+                listener.onBatchCommitted();
+            } catch (RuntimeException e) {
+                log.error("포인트 내역 배치 전달 실패 listener={}", listener.getClass().getSimpleName(), e);
+            }
+        }
+        slots.release(batch.size());
+        onCommitted(batch.size());
+        batch.clear();
+    }
+
+    /**
+     * 잔고는 이미 바뀌었으므로 저장될 때까지 간격을 늘려가며 다시 시도함
+     */
+    private PointHistory insertWithRetry(PendingHistory pending) {
+        long backoff = RETRY_BACKOFF_NANOS;
+        while (true) {
+            try {
+                return insert(pending);
+            } catch (RuntimeException e) {
+                log.error("포인트 내역 저장 실패, 다시 시도합니다. userId={}, amount={}, type={}", pending.userPoint().id(), pending.amount(), pending.type(), e);
+                LockSupport.parkNanos(backoff);
+                backoff = Math.min(backoff << 1, MAX_RETRY_BACKOFF_NANOS);
+            }
+        }
+    }
+
+    private void commit(PendingHistory pending) {
+        PointHistory pointHistory = insert(pending);
+        for (PointHistoryListener listener : listeners) {
+            listener.onCommitted(pointHistory, pending.userPoint());
+        }
+    }
+
+    private PointHistory insert(PendingHistory pending) {
+        return pointMetrics.historyInsert(() -> pointHistoryStore.insert(pending.userPoint().id(), pending.amount(), pending.type(), pending.updateMillis()));
+    }
+
+    private void onCommitted(long count) {
+        progressLock.lock();
+        try {
+            committed += count;
+            committedCondition.signalAll();
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    private record PendingHistory(UserPoint userPoint, long amount, TransactionType type, long updateMillis) {
+    }
+}
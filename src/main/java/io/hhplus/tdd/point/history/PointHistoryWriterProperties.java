@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 내역 write-behind 설정
+ * @param enabled false 면 charge/use 안에서 바로 내역 저장소에 저장(저널을 켤 때는 false 여야 함)
+ * @param batchSize 한 번에 모아서 저장할 최대 건수
+ * @param linger 배치가 다 차지 않았을 때 추가 내역을 기다리는 최대 시간
+ * @param queueCapacity 저장 대기열 최대 크기(잔고를 바꾸기 전에 자리를 잡고, 가득 차면 요청 스레드가 대기)
+ * @param offerTimeout 대기열이 가득 찼을 때 요청 스레드가 기다리는 최대 시간(넘으면 잔고를 바꾸지 않고 429)
+ */
+@ConfigurationProperties("point.history.write-behind")
+public record PointHistoryWriterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("5ms") Duration linger,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("1s") Duration offerTimeout
+) {
+}
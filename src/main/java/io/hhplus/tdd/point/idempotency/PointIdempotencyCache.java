@@ -0,0 +1,291 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointIdempotencyConflictException;
+import io.hhplus.tdd.point.exception.PointOutcomeUnknownException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 중복 요청 캐시
+ * - (유저 id, 키)를 128비트 지문으로 바꾸고, 성공한 charge/use 의 결과 잔고를 ttl 동안 보관한다.
+ *   같은 키로 다시 오면 lock 과 테이블을 거치지 않고 저장된 UserPoint 를 돌려준다.
+ * - 저장소는 기동 시 maxKeys 칸으로 고정된 8-way set-associative 배열이다. 지문으로 set 을 고르고 set 안의 8칸만 보므로
+ *   조회/저장 비용은 키 수와 무관하게 상수이고, set 이 가득 차면 만료된 칸 또는 가장 먼저 만료될 칸을 덮어쓴다.
+ * - 칸은 객체 없이 long 배열에 두며, set 을 segment 로 나눠 StampedLock 으로 보호한다(조회는 optimistic read).
+ * - 같은 키가 동시에 처리 중이면 먼저 온 요청의 future 를 이어받아 같이 돌려주므로 두 번 반영되지 않는다.
+ *   이어받는 일은 요청 스레드에서 끝나므로, 한 유저의 느린 요청에 재시도가 몰려도 처리 스레드를 붙잡지 않는다.
+ * - 실패한 요청은 잔고를 바꾸지 않았으므로 보관하지 않는다(같은 키로 재시도하면 다시 처리).
+ * - point.idempotency.replayed : 저장된 결과를 돌려준 건수
+ * - point.idempotency.evicted : ttl 이 지나기 전에 덮어쓴 건수(늘어나면 maxKeys 를 키움)
+ */
+@Component
+public class PointIdempotencyCache {
+
+    private static final int WAYS = 8;
+    private static final int SEGMENTS = 64;
+
+    private final PointIdempotencyProperties properties;
+    private final long ttlMillis;
+    private final int setMask;
+    private final StampedLock[] locks = new StampedLock[SEGMENTS];
+
+    // [set * WAYS + way] 칸, expiresAt 이 0 이면 빈 칸
+    private final long[] fingerprintsHigh;
+    private final long[] fingerprintsLow;
+    private final long[] expiresAt;
+    private final long[] amounts;
+    private final long[] points;
+    private final long[] updateMillis;
+    private final byte[] types;
+
+    private final ConcurrentHashMap<Fingerprint, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Counter replayedCounter;
+    private final Counter evictedCounter;
+
+    public PointIdempotencyCache(PointIdempotencyProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.ttlMillis = properties.ttl().toMillis();
+        int capacity = Math.max(WAYS * SEGMENTS, Integer.highestOneBit(Math.max(1, properties.maxKeys()) - 1) << 1);
+        this.setMask = capacity / WAYS - 1;
+        for (int i = 0; i < SEGMENTS; i++) {
+            locks[i] = new StampedLock();
+        }
+        this.fingerprintsHigh = new long[capacity];
+        this.fingerprintsLow = new long[capacity];
+        this.expiresAt = new long[capacity];
+        this.amounts = new long[capacity];
+        this.points = new long[capacity];
+        this.updateMillis = new long[capacity];
+        this.types = new byte[capacity];
+        this.replayedCounter = Counter.builder("point.idempotency.replayed")
+                .description("Idempotency-Key 재시도에 저장된 결과를 돌려준 건수")
+                .register(registry);
+        this.evictedCounter = Counter.builder("point.idempotency.evicted")
+                .description("ttl 이 지나기 전에 덮어쓴 Idempotency-Key 수")
+                .register(registry);
+    }
+
+    /**
+     * 요청 스레드에서 charge/use 를 시작함(키가 없으면 runner 로 body 만 실행)
+     * - 저장된 결과가 있으면 완료된 future 를, 같은 키가 처리 중이면 그 요청의 future 를 돌려준다(내용이 다르거나 키가 잘못되면 실패한 future).
+     * - 처음 온 요청만 runner 로 body 를 실행하고, 성공한 결과는 실행한 스레드에서 저장하므로 응답이 timeout 으로 끝났어도 재시도에 돌려준다.
+     * @param runner body 를 처리 스레드에서 실행하는 future 를 만듦(대기열 거절은 던지고, 시작 전에 취소되면 body 는 실행되지 않음)
+     */
+    public CompletableFuture<UserPoint> submit(PointHistoryDto pointHistoryDto, Supplier<UserPoint> body,
+                                               Function<Supplier<UserPoint>, CompletableFuture<UserPoint>> runner) {
+        return submit(pointHistoryDto, body, runner, System.currentTimeMillis());
+    }
+
+    CompletableFuture<UserPoint> submit(PointHistoryDto pointHistoryDto, Supplier<UserPoint> body,
+                                        Function<Supplier<UserPoint>, CompletableFuture<UserPoint>> runner, long nowMillis) {
+        if (pointHistoryDto.getIdempotencyKey() == null) {
+            return runner.apply(body);
+        }
+        Fingerprint fingerprint;
+        InFlight mine = new InFlight(pointHistoryDto.getType(), pointHistoryDto.getAmount(), new CompletableFuture<>());
+        try {
+            UserPoint stored = find(pointHistoryDto, nowMillis);
+            if (stored != null) {
+                return CompletableFuture.completedFuture(stored);
+            }
+            // 같은 키가 처리 중이면 그 요청의 결과를 이어받음(받은 쪽이 future 를 완료시켜도 먼저 온 요청에는 영향 없음)
+            fingerprint = fingerprint(pointHistoryDto);
+            InFlight running = inFlight.putIfAbsent(fingerprint, mine);
+            if (running != null) {
+                checkSame(running.type(), running.amount(), pointHistoryDto);
+                replayedCounter.increment();
+                return running.result().copy();
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return start(fingerprint, mine, pointHistoryDto, body, runner, nowMillis);
+    }
+
+    private CompletableFuture<UserPoint> start(Fingerprint fingerprint, InFlight mine, PointHistoryDto pointHistoryDto, Supplier<UserPoint> body,
+                                               Function<Supplier<UserPoint>, CompletableFuture<UserPoint>> runner, long nowMillis) {
+        CompletableFuture<UserPoint> started;
+        try {
+            started = runner.apply(() -> run(fingerprint, mine, pointHistoryDto, body, nowMillis));
+        } catch (RuntimeException e) {
+            // 대기열 거절 등으로 시작하지 못함
+            finish(fingerprint, mine, e);
+            throw e;
+        }
+        // 시작 전에 취소되면 body 가 실행되지 않으므로 여기서 정리함(시작한 뒤 timeout 이면 body 가 끝날 때 run 에서 정리)
+        return started.whenComplete((result, failure) -> {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            if (cause != null && !(cause instanceof PointOutcomeUnknownException)) {
+                finish(fingerprint, mine, cause);
+            }
+        });
+    }
+
+    /**
+     * 처리 스레드에서 body 를 실행하고 성공한 결과를 저장함(찾은 뒤 등록하기 전에 끝난 요청이 있을 수 있어 한 번 더 찾음)
+     */
+    private UserPoint run(Fingerprint fingerprint, InFlight mine, PointHistoryDto pointHistoryDto, Supplier<UserPoint> body, long nowMillis) {
+        try {
+            UserPoint result = find(pointHistoryDto, nowMillis);
+            if (result == null) {
+                result = body.get();
+                store(fingerprint, pointHistoryDto, result, nowMillis);
+            }
+            mine.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(fingerprint, mine);
+        }
+    }
+
+    private void finish(Fingerprint fingerprint, InFlight mine, Throwable failure) {
+        mine.result().completeExceptionally(failure);
+        inFlight.remove(fingerprint, mine);
+    }
+
+    UserPoint find(PointHistoryDto pointHistoryDto, long nowMillis) {
+        Fingerprint fingerprint = fingerprint(pointHistoryDto);
+        int base = base(fingerprint);
+        StampedLock lock = lock(base);
+        long stamp = lock.tryOptimisticRead();
+        Stored stored = read(base, fingerprint, nowMillis);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                stored = read(base, fingerprint, nowMillis);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (stored == null) {
+            return null;
+        }
+        checkSame(stored.type(), stored.amount(), pointHistoryDto);
+        replayedCounter.increment();
+        return new UserPoint(pointHistoryDto.getUserId(), stored.point(), stored.updateMillis());
+    }
+
+    /**
+     * 보관할 수 있는 최대 키 수(8의 배수인 2의 거듭제곱)
+     */
+    public int capacity() {
+        return expiresAt.length;
+    }
+
+    private void store(Fingerprint fingerprint, PointHistoryDto pointHistoryDto, UserPoint result, long nowMillis) {
+        int base = base(fingerprint);
+        StampedLock lock = lock(base);
+        long stamp = lock.writeLock();
+        try {
+            // 같은 지문 > 빈 칸/만료된 칸 > 가장 먼저 만료될 칸 순으로 고름
+            int slot = -1;
+            int oldest = base;
+            for (int i = base; i < base + WAYS; i++) {
+                if (expiresAt[i] != 0 && fingerprintsHigh[i] == fingerprint.high() && fingerprintsLow[i] == fingerprint.low()) {
+                    slot = i;
+                    break;
+                }
+                if (slot < 0 && expiresAt[i] <= nowMillis) {
+                    slot = i;
+                }
+                if (expiresAt[i] < expiresAt[oldest]) {
+                    oldest = i;
+                }
+            }
+            if (slot < 0) {
+                slot = oldest;
+                evictedCounter.increment();
+            }
+            fingerprintsHigh[slot] = fingerprint.high();
+            fingerprintsLow[slot] = fingerprint.low();
+            expiresAt[slot] = nowMillis + ttlMillis;
+            amounts[slot] = pointHistoryDto.getAmount();
+            types[slot] = (byte) pointHistoryDto.getType().ordinal();
+            points[slot] = result.point();
+            updateMillis[slot] = result.updateMillis();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * optimistic read 중에는 값이 섞여 보일 수 있으므로 객체는 validate 전까지 값만 담아 둠
+     */
+    private Stored read(int base, Fingerprint fingerprint, long nowMillis) {
+        for (int i = base; i < base + WAYS; i++) {
+            if (fingerprintsHigh[i] == fingerprint.high() && fingerprintsLow[i] == fingerprint.low() && expiresAt[i] > nowMillis) {
+                return new Stored(types[i], amounts[i], points[i], updateMillis[i]);
+            }
+        }
+        return null;
+    }
+
+    private static void checkSame(TransactionType type, long amount, PointHistoryDto pointHistoryDto) {
+        if (type != pointHistoryDto.getType() || amount != pointHistoryDto.getAmount()) {
+            throw new PointIdempotencyConflictException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    private static void checkSame(byte type, long amount, PointHistoryDto pointHistoryDto) {
+        checkSame(TransactionType.values()[type], amount, pointHistoryDto);
+    }
+
+    private Fingerprint fingerprint(PointHistoryDto pointHistoryDto) {
+        String key = pointHistoryDto.getIdempotencyKey();
+        if (key.isBlank() || key.length() > properties.maxKeyLength()) {
+            throw new RuntimeException("Idempotency-Key 는 1 ~ " + properties.maxKeyLength() + " 자여야 합니다.");
+        }
+        long userId = pointHistoryDto.getUserId();
+        return new Fingerprint(hash(userId, key, 0xCBF29CE484222325L, 0x100000001B3L),
+                hash(userId, key, 0x9E3779B97F4A7C15L, 0xBF58476D1CE4E5B9L));
+    }
+
+    private int base(Fingerprint fingerprint) {
+        return ((int) fingerprint.low() & setMask) * WAYS;
+    }
+
+    private StampedLock lock(int base) {
+        return locks[(base / WAYS) & (SEGMENTS - 1)];
+    }
+
+    /**
+     * seed 와 곱하는 수를 달리한 두 해시로 128비트 지문을 만듦(FNV 방식으로 문자를 섞고 splitmix64 로 마무리)
+     */
+    private static long hash(long userId, String key, long seed, long multiplier) {
+        long h = seed ^ mix(userId);
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * multiplier;
+        }
+        return mix(h ^ key.length());
+    }
+
+    private static long mix(long value) {
+        long h = value + 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private record Fingerprint(long high, long low) {
+    }
+
+    private record InFlight(TransactionType type, long amount, CompletableFuture<UserPoint> result) {
+    }
+
+    private record Stored(byte type, long amount, long point, long updateMillis) {
+    }
+}
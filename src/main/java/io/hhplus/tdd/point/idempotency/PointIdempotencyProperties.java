@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 중복 요청 캐시 설정
+ * @param ttl 처리 결과를 보관하는 시간(이 시간 안의 같은 키 재시도는 저장된 결과를 돌려줌)
+ * @param maxKeys 보관할 최대 키 수(2의 거듭제곱으로 올림, 항목당 약 49바이트를 기동 시 한 번에 잡음)
+ * @param maxKeyLength Idempotency-Key 최대 길이
+ */
+@ConfigurationProperties("point.idempotency")
+public record PointIdempotencyProperties(
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("262144") int maxKeys,
+        @DefaultValue("255") int maxKeyLength
+) {
+}
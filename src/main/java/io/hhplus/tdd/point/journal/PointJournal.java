@@ -0,0 +1,520 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryListener;
+import io.hhplus.tdd.point.journal.PointJournalProperties.FsyncPolicy;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 포인트 저널(append-only, 고정 크기 레코드)
+ * - 저장된 충전/사용 한 건을 (내역 + 반영 후 잔고) 64바이트 레코드로 segment 파일 끝에 붙인다.
+ * - 내역 id 가 정해진 뒤(내역 저장 직후)에 기록하므로 내역 저장은 동기 모드여야 한다(PointJournalRecovery 에서 확인).
+ *   동기 모드에서는 유저 lock 안에서 응답 전에 기록되므로, fsync 가 ALWAYS/BATCH 면 응답한 충전/사용은 디스크에 남아있다.
+ * - segment 는 segmentRecords 건마다 새 파일로 넘어가며, 파일 이름은 첫 레코드의 순번이다.
+ * - 기동 시 segment 를 memory-mapped 로 읽어 순서대로 재생하고, 마지막 segment 의 깨진 꼬리는 잘라낸다.
+ * - 스냅샷이 있으면 스냅샷 순번 이후(꼬리)만 재생한다. 스냅샷의 유저 상태는 기록을 멈추지 않고 복사하므로
+ *   스냅샷 순번보다 뒤의 레코드까지 반영되어 있을 수 있고, 재생할 때 유저 상태보다 앞선 레코드는 건너뛴다.
+ * - 레코드마다 같은 유저의 이전 레코드 순번을 남겨두고, 유저별 내역은 필요할 때 마지막 순번부터 거슬러 읽는다.
+ *
+ * 레코드 구조(ByteBuffer 기본 big endian)
+ *  0 historyId | 8 userId | 16 amount | 24 historyMillis | 32 point | 40 pointMillis | 48 type
+ *  | 49 같은 유저의 이전 레코드 순번 + 1(48bit, 0 이면 없음) | 55 예약 | 56 crc32c(0~55) | 60 예약
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.journal", name = "enabled", havingValue = "true")
+public class PointJournal implements PointHistoryListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PointJournal.class);
+
+    static final int RECORD_SIZE = 64;
+    private static final int CRC_OFFSET = 56;
+    private static final String SEGMENT_SUFFIX = ".journal";
+    // 한 번에 파일에 쓰는 레코드 수(배치가 끝나거나 가득 차면 씀)
+    private static final int WRITE_BUFFER_RECORDS = 1024;
+    private static final int PREVIOUS_OFFSET = 49;
+    private static final long NO_SEQUENCE = -1;
+
+    private final PointJournalProperties properties;
+    private final Path directory;
+    // 동기 모드에서는 여러 요청 스레드가 동시에 붙일 수 있으므로 lock 으로 보호(fsync 대기 중 pinning 방지)
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(RECORD_SIZE * WRITE_BUFFER_RECORDS);
+    private final CRC32C crc = new CRC32C();
+    // 유저별 마지막 레코드 순번/내역 수/잔고(바꿀 때마다 새 UserState 로 교체하고 쓰기는 appendLock 안에서만 함)
+    private final Map<Long, UserState> users = new ConcurrentHashMap<>();
+    // 남아있는 segment(시작 순번 -> 파일)와 내역 조회용 읽기 채널
+    private final NavigableMap<Long, Path> segmentPaths = new ConcurrentSkipListMap<>();
+    private final Map<Long, FileChannel> readers = new ConcurrentHashMap<>();
+    // 내역 조회(읽기)와 segment 삭제(쓰기)가 겹치지 않도록 보호
+    private final ReentrantReadWriteLock segmentsLock = new ReentrantReadWriteLock();
+
+    private FileChannel segment;
+    private long segmentStart;
+    private long segmentCount;
+    private volatile long lastHistoryId;
+    // 잘라내지 않고 남아있는 첫 레코드 순번
+    private volatile long firstSequence;
+
+    public PointJournal(PointJournalProperties properties) {
+        // segment 하나를 통째로 mmap 하므로 2GB 를 넘지 않아야 함
+        if (properties.segmentRecords() < 1 || (long) properties.segmentRecords() * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("point.journal.segment-records 는 1 ~ " + Integer.MAX_VALUE / RECORD_SIZE + " 사이여야 합니다.");
+        }
+        this.properties = properties;
+        this.directory = Path.of(properties.directory());
+    }
+
+    /**
+     * 저널을 처음부터 재생하고, 이어서 붙일 수 있도록 마지막 segment 를 엶(기동 시 한 번 호출)
+     * @param consumer 레코드마다 (내역, 반영 후 잔고) 를 전달받음
+     * @return 재생한 레코드 수
+     */
+    public long replay(BiConsumer<PointHistory, UserPoint> consumer) throws IOException {
+        return replay(null, consumer);
+    }
+
+    /**
+     * 스냅샷을 불러온 뒤 스냅샷 이후의 레코드만 재생하고, 이어서 붙일 수 있도록 마지막 segment 를 엶(기동 시 한 번 호출)
+     * @param snapshot 마지막 스냅샷(없으면 null, 처음부터 재생)
+     * @param consumer 스냅샷 이후 레코드마다 (내역, 반영 후 잔고) 를 전달받음
+     * @return 재생한 레코드 수
+     */
+    public long replay(PointSnapshot snapshot, BiConsumer<PointHistory, UserPoint> consumer) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = segments();
+        long from = snapshot == null ? 0 : snapshot.sequence();
+        // 앞쪽 segment 는 스냅샷 후 잘라냈을 수 있으므로 남아있는 첫 segment 부터 이어지는지 확인
+        long sequence = segments.isEmpty() ? 0 : segmentStart(segments.get(0));
+        if (sequence > from) {
+            throw new IllegalStateException("스냅샷 이후의 저널 segment 가 없습니다: " + segments.get(0));
+        }
+        if (snapshot != null) {
+            restore(snapshot);
+        }
+        firstSequence = sequence;
+
+        long replayed = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            Path path = segments.get(i);
+            long start = segmentStart(path);
+            if (start != sequence) {
+                throw new IllegalStateException("저널 segment 순번이 맞지 않습니다: " + path);
+            }
+            segmentPaths.put(start, path);
+            long records = Files.size(path) / RECORD_SIZE;
+            long skip = Math.min(Math.max(from - start, 0), records);
+            long valid = skip + replaySegment(path, start, skip, consumer);
+            replayed += valid - skip;
+            sequence += valid;
+            // 깨진 꼬리는 마지막 segment 에서만 생길 수 있음
+            if (i < segments.size() - 1 && valid * RECORD_SIZE != Files.size(path)) {
+                throw new IllegalStateException("저널 segment 가 손상되었습니다: " + path);
+            }
+        }
+        if (sequence < from) {
+            throw new IllegalStateException("저널이 스냅샷보다 짧습니다: " + sequence + " < " + from);
+        }
+        openForAppend(segments.isEmpty() ? null : segments.get(segments.size() - 1), sequence);
+        return replayed;
+    }
+
+    @Override
+    public void onCommitted(PointHistory pointHistory, UserPoint userPoint) {
+        appendLock.lock();
+        try {
+            requireOpen();
+            if (segmentCount >= properties.segmentRecords()) {
+                roll();
+            }
+            long sequence = segmentStart + segmentCount;
+            UserState state = users.getOrDefault(pointHistory.userId(), UserState.EMPTY);
+            encode(pointHistory, userPoint, state.lastSequence());
+            users.put(pointHistory.userId(), state.next(sequence, userPoint));
+            lastHistoryId = Math.max(lastHistoryId, pointHistory.id());
+            segmentCount++;
+            if (properties.fsync() == FsyncPolicy.ALWAYS) {
+                writeBuffered(true);
+            } else if (!writeBuffer.hasRemaining()) {
+                writeBuffered(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void onBatchCommitted() {
+        appendLock.lock();
+        try {
+            if (segment != null) {
+                writeBuffered(properties.fsync() == FsyncPolicy.BATCH);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 현재까지 기록한 유저별 상태를 스냅샷으로 만듦
+     * - 스냅샷 순번만 lock 안에서 정하고, 유저 상태는 lock 없이 한 명씩 복사한다(저널 기록은 멈추지 않음).
+     *   유저 상태는 통째로 교체되므로 복사한 상태는 그 유저의 어느 한 시점과 같고, 스냅샷 순번 이전 레코드는 모두 반영되어 있다.
+     * - 복사가 끝나면 그때까지 쓴 레코드를 lock 밖에서 동기화하므로, 스냅샷이 디스크에 없는 레코드를 가리키지 않는다.
+     * - 파일 저장은 호출한 쪽에서 한다.
+     */
+    public PointSnapshot snapshot() throws IOException {
+        long sequence;
+        appendLock.lock();
+        try {
+            requireOpen();
+            sequence = segmentStart + segmentCount;
+        } finally {
+            appendLock.unlock();
+        }
+        List<PointSnapshot.UserEntry> entries = new ArrayList<>(users.size());
+        users.forEach((userId, state) -> entries.add(new PointSnapshot.UserEntry(userId, state.point(), state.pointMillis(), state.lastSequence(), state.historyCount())));
+        long historyId = lastHistoryId;
+        force();
+        return new PointSnapshot(sequence, historyId, entries);
+    }
+
+    /**
+     * 지금까지 붙인 레코드를 디스크에 동기화함(버퍼를 파일에 쓰는 동안만 lock 을 잡고, fsync 는 lock 밖에서 함)
+     * - 그 사이 segment 가 넘어갔으면 이전 segment 는 roll 에서 이미 동기화되었다.
+     */
+    private void force() throws IOException {
+        FileChannel channel;
+        appendLock.lock();
+        try {
+            requireOpen();
+            writeBuffered(false);
+            channel = segment;
+        } finally {
+            appendLock.unlock();
+        }
+        try {
+            channel.force(false);
+        } catch (ClosedChannelException rolled) {
+            // roll 에서 동기화하고 닫음
+        }
+    }
+
+    /**
+     * 유저별 마지막 잔고를 조회함(재생 직후 캐시 복구용)
+     */
+    public List<UserPoint> userPoints() {
+        List<UserPoint> userPoints = new ArrayList<>(users.size());
+        users.forEach((userId, state) -> userPoints.add(new UserPoint(userId, state.point(), state.pointMillis())));
+        return userPoints;
+    }
+
+    public long lastHistoryId() {
+        return lastHistoryId;
+    }
+
+    /**
+     * 유저의 내역을 마지막 레코드부터 이전 순번을 따라 거슬러 읽음(id 오름차순으로 반환)
+     * - 잘라낸 segment 에 있던 내역은 포함되지 않는다.
+     * @param userId
+     */
+    public List<PointHistory> readHistory(long userId) {
+        long sequence;
+        int count;
+        appendLock.lock();
+        try {
+            UserState state = users.get(userId);
+            if (state == null) {
+                return List.of();
+            }
+            // 버퍼에만 있는 레코드도 읽을 수 있도록 파일에 씀(동기화는 하지 않음)
+            if (segment != null) {
+                writeBuffered(false);
+            }
+            sequence = state.lastSequence();
+            count = state.historyCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+
+        PointHistory[] histories = new PointHistory[count];
+        int index = count;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        CRC32C check = new CRC32C();
+        segmentsLock.readLock().lock();
+        try {
+            while (index > 0 && sequence != NO_SEQUENCE && sequence >= firstSequence) {
+                readRecord(sequence, record);
+                check.reset();
+                check.update(record.array(), 0, CRC_OFFSET);
+                if ((int) check.getValue() != record.getInt(CRC_OFFSET)) {
+                    log.warn("저널 {} 번 레코드가 손상되어 유저 {} 의 이전 내역을 읽지 않습니다.", sequence, userId);
+                    break;
+                }
+                histories[--index] = decodeHistory(record, 0);
+                sequence = decodePrevious(record, 0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+        return Arrays.asList(histories).subList(index, count);
+    }
+
+    /**
+     * 스냅샷에 모두 반영된(sequence 이전에 끝나는) segment 를 삭제함(현재 기록 중인 segment 는 남김)
+     * @param sequence 디스크에 저장된 스냅샷의 순번
+     * @return 삭제한 segment 수
+     */
+    public int truncateBefore(long sequence) throws IOException {
+        long activeStart;
+        appendLock.lock();
+        try {
+            activeStart = segmentStart;
+        } finally {
+            appendLock.unlock();
+        }
+        int deleted = 0;
+        segmentsLock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, Path> entry : segmentPaths.headMap(activeStart, false).entrySet()) {
+                Long end = segmentPaths.higherKey(entry.getKey());
+                if (end == null || end > sequence) {
+                    break;
+                }
+                FileChannel reader = readers.remove(entry.getKey());
+                if (reader != null) {
+                    reader.close();
+                }
+                Files.deleteIfExists(entry.getValue());
+                segmentPaths.remove(entry.getKey());
+                firstSequence = end;
+                deleted++;
+            }
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (segment != null) {
+                writeBuffered(properties.fsync() != FsyncPolicy.NEVER);
+                segment.close();
+                segment = null;
+            }
+        } finally {
+            appendLock.unlock();
+        }
+        for (FileChannel reader : readers.values()) {
+            reader.close();
+        }
+        readers.clear();
+    }
+
+    private void requireOpen() {
+        if (segment == null) {
+            throw new IllegalStateException("저널을 재생하기 전에는 기록할 수 없습니다.");
+        }
+    }
+
+    private void restore(PointSnapshot snapshot) {
+        for (PointSnapshot.UserEntry entry : snapshot.users()) {
+            users.put(entry.userId(), new UserState(entry.lastSequence(), entry.historyCount(), entry.point(), entry.pointMillis()));
+        }
+        lastHistoryId = snapshot.lastHistoryId();
+    }
+
+    private void readRecord(long sequence, ByteBuffer record) throws IOException {
+        Map.Entry<Long, Path> entry = segmentPaths.floorEntry(sequence);
+        if (entry == null) {
+            throw new IllegalStateException("저널에 없는 순번입니다: " + sequence);
+        }
+        FileChannel reader = readers.get(entry.getKey());
+        if (reader == null) {
+            reader = FileChannel.open(entry.getValue(), StandardOpenOption.READ);
+            FileChannel existing = readers.putIfAbsent(entry.getKey(), reader);
+            if (existing != null) {
+                reader.close();
+                reader = existing;
+            }
+        }
+        record.clear();
+        long position = (sequence - entry.getKey()) * RECORD_SIZE;
+        while (record.hasRemaining()) {
+            if (reader.read(record, position + record.position()) < 0) {
+                throw new IllegalStateException("저널에 없는 순번입니다: " + sequence);
+            }
+        }
+    }
+
+    /**
+     * segment 의 skip 번째 레코드부터 재생함
+     * @return 재생한 레코드 수(손상된 레코드를 만나면 그 앞까지)
+     */
+    private long replaySegment(Path path, long start, long skip, BiConsumer<PointHistory, UserPoint> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long records = channel.size() / RECORD_SIZE - skip;
+            if (records <= 0) {
+                return 0;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, skip * RECORD_SIZE, records * RECORD_SIZE);
+            CRC32C check = new CRC32C();
+            for (long i = 0; i < records; i++) {
+                int offset = (int) (i * RECORD_SIZE);
+                check.reset();
+                check.update(mapped.slice(offset, CRC_OFFSET));
+                if ((int) check.getValue() != mapped.getInt(offset + CRC_OFFSET)) {
+                    log.warn("저널 {} 의 {} 번째 레코드부터 손상되어 재생을 멈춥니다.", path.getFileName(), skip + i);
+                    return i;
+                }
+                PointHistory pointHistory = decodeHistory(mapped, offset);
+                UserPoint userPoint = decodeUserPoint(mapped, offset);
+                long sequence = start + skip + i;
+                UserState state = users.getOrDefault(pointHistory.userId(), UserState.EMPTY);
+                // 스냅샷을 복사하는 동안 기록된 레코드는 유저 상태에 이미 반영되어 있음
+                if (sequence > state.lastSequence()) {
+                    users.put(pointHistory.userId(), state.next(sequence, userPoint));
+                }
+                lastHistoryId = Math.max(lastHistoryId, pointHistory.id());
+                consumer.accept(pointHistory, userPoint);
+            }
+            return records;
+        }
+    }
+
+    private void openForAppend(Path last, long sequence) throws IOException {
+        if (last == null) {
+            openSegment(0);
+            return;
+        }
+        long start = segmentStart(last);
+        long count = sequence - start;
+        segment = FileChannel.open(last, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        // 재생하지 못한(깨진) 꼬리는 잘라내고 그 뒤에 이어 씀
+        segment.truncate(count * RECORD_SIZE);
+        segment.position(count * RECORD_SIZE);
+        segmentStart = start;
+        segmentCount = count;
+        if (count >= properties.segmentRecords()) {
+            roll();
+        }
+    }
+
+    private void roll() throws IOException {
+        // snapshot 이 닫힌 segment 는 동기화되었다고 보므로 fsync 정책과 상관없이 동기화
+        writeBuffered(true);
+        segment.close();
+        openSegment(segmentStart + segmentCount);
+    }
+
+    private void openSegment(long start) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", start, SEGMENT_SUFFIX));
+        segment = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        segmentPaths.put(start, path);
+        segment.position(segment.size());
+        segmentStart = start;
+        segmentCount = 0;
+    }
+
+    private void writeBuffered(boolean force) throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            segment.write(writeBuffer);
+        }
+        writeBuffer.clear();
+        if (force) {
+            segment.force(false);
+        }
+    }
+
+    private void encode(PointHistory pointHistory, UserPoint userPoint, long previousSequence) {
+        long previous = previousSequence + 1;
+        int start = writeBuffer.position();
+        writeBuffer.putLong(pointHistory.id())
+                .putLong(pointHistory.userId())
+                .putLong(pointHistory.amount())
+                .putLong(pointHistory.updateMillis())
+                .putLong(userPoint.point())
+                .putLong(userPoint.updateMillis())
+                .put((byte) pointHistory.type().ordinal())
+                .putShort((short) (previous >>> 32))
+                .putInt((int) previous)
+                .put((byte) 0);
+        crc.reset();
+        crc.update(writeBuffer.slice(start, CRC_OFFSET));
+        writeBuffer.putInt((int) crc.getValue()).putInt(0);
+    }
+
+    private static PointHistory decodeHistory(ByteBuffer buffer, int offset) {
+        return new PointHistory(buffer.getLong(offset), buffer.getLong(offset + 8), buffer.getLong(offset + 16),
+                TransactionType.values()[buffer.get(offset + 48)], buffer.getLong(offset + 24));
+    }
+
+    private static long decodePrevious(ByteBuffer buffer, int offset) {
+        long previous = (buffer.getShort(offset + PREVIOUS_OFFSET) & 0xFFFFL) << 32 | buffer.getInt(offset + PREVIOUS_OFFSET + 2) & 0xFFFFFFFFL;
+        return previous - 1;
+    }
+
+    private static UserPoint decodeUserPoint(ByteBuffer buffer, int offset) {
+        return new UserPoint(buffer.getLong(offset + 8), buffer.getLong(offset + 32), buffer.getLong(offset + 40));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+    }
+
+    private static long segmentStart(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 유저별 마지막 레코드 순번, 내역 수, 잔고(바뀌면 새로 만들어 교체하므로 lock 없이 읽어도 네 값이 서로 맞음)
+     */
+    private record UserState(long lastSequence, int historyCount, long point, long pointMillis) {
+        static final UserState EMPTY = new UserState(NO_SEQUENCE, 0, 0, 0);
+
+        UserState next(long sequence, UserPoint userPoint) {
+            return new UserState(sequence, historyCount + 1, userPoint.point(), userPoint.updateMillis());
+        }
+    }
+}
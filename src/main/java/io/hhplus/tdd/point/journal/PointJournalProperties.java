@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 저널(영속화) 설정
+ * @param enabled true 면 저장된 충전/사용을 저널에 남기고 기동 시 저널로 잔고/내역을 복구
+ * @param directory 저널 segment 파일을 둘 디렉토리
+ * @param segmentRecords segment 파일 하나에 담을 레코드 수(넘으면 새 segment 로 넘어감)
+ * @param fsync 디스크 동기화 시점
+ */
+@ConfigurationProperties("point.journal")
+public record PointJournalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/journal") String directory,
+        @DefaultValue("1048576") int segmentRecords,
+        @DefaultValue("BATCH") FsyncPolicy fsync
+) {
+    /**
+     * 디스크 동기화(fsync) 정책
+     * - ALWAYS : 레코드마다 동기화(가장 안전, 가장 느림)
+     * - BATCH : 내역 저장 배치가 끝날 때마다 동기화(저널은 동기 내역 저장과만 쓰므로 충전/사용 한 건마다 동기화)
+     * - NEVER : OS 에 맡김(프로세스 종료에는 안전, 전원 장애 시 유실 가능)
+     */
+    public enum FsyncPolicy {
+        ALWAYS, BATCH, NEVER
+    }
+}
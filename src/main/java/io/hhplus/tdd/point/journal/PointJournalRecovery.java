@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryWriterProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 기동 시 스냅샷과 저널로 잔고/내역 복구
+ * - UserPointTable, PointHistoryTable 은 메모리에만 있으므로 재기동하면 비어있다.
+ * - 최신 스냅샷을 불러오고 그 이후 저널(꼬리)만 재생하므로, 전체 내역이 늘어나도 기동 시간은 유저 수와 꼬리 길이에만 비례한다.
+ * - 유저별 마지막 잔고는 캐시에 채우고, 내역은 처음 조회할 때 저널에서 유저별로 읽어 내역 저장소에 채운다.
+ * - 내역 id 는 마지막 id 다음부터 이어지게 한다.
+ * - 빈 초기화(@PostConstruct) 단계에서 실행되므로 웹 서버가 요청을 받기 전에 끝난다.
+ * - 저널은 내역 저장 시점에 기록되므로, 내역을 write-behind 로 저장하면 응답한 충전/사용이 저널에 남기 전에 유실될 수 있다.
+ *   그래서 write-behind 가 켜져 있으면 기동을 실패시킨다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.journal", name = "enabled", havingValue = "true")
+public class PointJournalRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(PointJournalRecovery.class);
+
+    private final PointJournal pointJournal;
+    private final PointSnapshotStore pointSnapshotStore;
+    private final UserPointCache userPointCache;
+    private final PointHistoryStore pointHistoryStore;
+    private final PointHistoryWriterProperties pointHistoryWriterProperties;
+
+    @PostConstruct
+    public void recover() throws IOException {
+        if (pointHistoryWriterProperties.enabled()) {
+            throw new IllegalStateException("point.journal.enabled=true 는 point.history.write-behind.enabled=false 와 함께 써야 합니다"
+                    + "(write-behind 대기열에 있는 충전/사용은 저널에 기록되기 전에 응답됨).");
+        }
+        long startedAt = System.currentTimeMillis();
+        PointSnapshot snapshot = pointSnapshotStore.loadLatest();
+        long records = pointJournal.replay(snapshot, (pointHistory, userPoint) -> {});
+
+        List<UserPoint> userPoints = pointJournal.userPoints();
+        userPointCache.restore(userPoints);
+        pointHistoryStore.restore(pointJournal::readHistory, pointJournal.lastHistoryId());
+        log.info("저널 복구 완료: 스냅샷 순번 {}, 재생한 레코드 {}건, 유저 {}명, {}ms",
+                snapshot == null ? 0 : snapshot.sequence(), records, userPoints.size(), System.currentTimeMillis() - startedAt);
+    }
+}
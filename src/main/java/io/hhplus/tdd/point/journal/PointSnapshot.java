@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.journal;
+
+import java.util.List;
+
+/**
+ * 저널의 특정 순번까지 반영된 유저별 잔고와 내역 위치
+ * @param sequence 스냅샷에 반영된 저널 레코드 수(기동 시 이 순번부터 재생)
+ * @param lastHistoryId 마지막 내역 id
+ * @param users 유저별 상태
+ */
+public record PointSnapshot(
+        long sequence,
+        long lastHistoryId,
+        List<UserEntry> users
+) {
+    /**
+     * @param lastSequence 유저의 마지막 레코드 순번(내역은 이 순번부터 거슬러 읽음, 없으면 -1)
+     * @param historyCount 유저의 내역 수
+     */
+    public record UserEntry(
+            long userId,
+            long point,
+            long pointMillis,
+            long lastSequence,
+            int historyCount
+    ) {
+    }
+}
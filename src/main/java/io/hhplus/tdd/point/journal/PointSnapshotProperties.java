@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 스냅샷 설정(저널을 켠 경우에만 사용)
+ * @param interval 스냅샷 주기(0 이면 종료 시에만 저장)
+ * @param retained 남겨둘 스냅샷 파일 수(최신 파일이 손상된 경우 이전 파일로 복구)
+ * @param truncateJournal true 면 스냅샷에 모두 반영된 저널 segment 를 삭제(그 segment 의 내역은 더 이상 조회되지 않음)
+ */
+@ConfigurationProperties("point.journal.snapshot")
+public record PointSnapshotProperties(
+        @DefaultValue("1m") Duration interval,
+        @DefaultValue("2") int retained,
+        @DefaultValue("false") boolean truncateJournal
+) {
+}
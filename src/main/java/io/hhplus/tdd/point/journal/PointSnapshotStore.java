@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 포인트 스냅샷 파일 저장소
+ * - 저널 디렉토리에 {순번}.snapshot 으로 저장하고, 최신 retained 개만 남긴다.
+ * - 임시 파일에 쓰고 동기화한 뒤 이름을 바꾸므로(atomic move) 쓰다 만 스냅샷이 읽히지 않는다.
+ *
+ * 파일 구조(big endian)
+ *  magic(4) | version(4) | sequence(8) | lastHistoryId(8) | userCount(4)
+ *  | 유저마다 userId(8) point(8) pointMillis(8) lastSequence(8) historyCount(4) | crc32c(4, 앞의 전체)
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.journal", name = "enabled", havingValue = "true")
+public class PointSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotStore.class);
+
+    private static final int MAGIC = 0x50534E50; // "PSNP"
+    private static final int VERSION = 1;
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final int retained;
+
+    public PointSnapshotStore(PointJournalProperties journalProperties, PointSnapshotProperties snapshotProperties) {
+        this.directory = Path.of(journalProperties.directory());
+        this.retained = Math.max(1, snapshotProperties.retained());
+    }
+
+    /**
+     * 스냅샷을 파일로 저장하고 오래된 스냅샷을 지움
+     * @param snapshot
+     */
+    public void write(PointSnapshot snapshot) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = directory.resolve(name(snapshot.sequence()) + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream stream = Channels.newOutputStream(channel);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(stream, crc), BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshot.sequence());
+            out.writeLong(snapshot.lastHistoryId());
+            out.writeInt(snapshot.users().size());
+            for (PointSnapshot.UserEntry user : snapshot.users()) {
+                out.writeLong(user.userId());
+                out.writeLong(user.point());
+                out.writeLong(user.pointMillis());
+                out.writeLong(user.lastSequence());
+                out.writeInt(user.historyCount());
+            }
+            out.flush();
+            // crc 는 체크섬 계산 대상이 아니므로 채널에 바로 씀
+            new DataOutputStream(stream).writeInt((int) crc.getValue());
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(name(snapshot.sequence())), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        List<Path> snapshots = snapshots();
+        for (int i = retained; i < snapshots.size(); i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+
+    /**
+     * 읽을 수 있는 가장 최신 스냅샷을 불러옴(손상된 파일은 건너뜀)
+     * @return 스냅샷이 없으면 null
+     */
+    public PointSnapshot loadLatest() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        for (Path path : snapshots()) {
+            try {
+                return read(path);
+            } catch (IOException | IllegalStateException e) {
+                log.warn("스냅샷 {} 을 읽지 못해 이전 스냅샷을 찾습니다: {}", path.getFileName(), e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private PointSnapshot read(Path path) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (InputStream stream = Files.newInputStream(path)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(stream, BUFFER_SIZE), crc));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalStateException("스냅샷 형식이 아닙니다.");
+            }
+            long sequence = in.readLong();
+            long lastHistoryId = in.readLong();
+            int userCount = in.readInt();
+            if (userCount < 0) {
+                throw new IllegalStateException("스냅샷 유저 수가 올바르지 않습니다.");
+            }
+            List<PointSnapshot.UserEntry> users = new ArrayList<>(userCount);
+            for (int i = 0; i < userCount; i++) {
+                users.add(new PointSnapshot.UserEntry(in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readInt()));
+            }
+            int expected = (int) crc.getValue();
+            if (in.readInt() != expected) {
+                throw new IllegalStateException("스냅샷 체크섬이 맞지 않습니다.");
+            }
+            return new PointSnapshot(sequence, lastHistoryId, users);
+        }
+    }
+
+    /**
+     * 스냅샷 파일 목록(최신순)
+     */
+    private List<Path> snapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        }
+    }
+
+    private static String name(long sequence) {
+        return String.format("%020d%s", sequence, SNAPSHOT_SUFFIX);
+    }
+}
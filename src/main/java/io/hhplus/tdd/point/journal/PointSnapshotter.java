@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 스냅샷을 저장하는 백그라운드 작업
+ * - 유저 상태는 lock 없이 복사하고 fsync 도 lock 밖에서 하므로, 저널 기록(과 그걸 기다리는 charge/use)은 멈추지 않는다.
+ * - 스냅샷을 저장한 뒤 설정에 따라 스냅샷에 모두 반영된 저널 segment 를 삭제한다.
+ * - 종료 시 한 번 더 저장해서 다음 기동 때 재생할 꼬리를 줄인다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.journal", name = "enabled", havingValue = "true")
+public class PointSnapshotter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotter.class);
+
+    private final PointJournal pointJournal;
+    private final PointSnapshotStore pointSnapshotStore;
+    private final PointSnapshotProperties properties;
+    private final ScheduledExecutorService executor;
+
+    // 마지막으로 저장한 스냅샷 순번(바뀐 게 없으면 저장하지 않음)
+    private long savedSequence = -1;
+
+    public PointSnapshotter(PointJournal pointJournal, PointSnapshotStore pointSnapshotStore, PointSnapshotProperties properties) {
+        this.pointJournal = pointJournal;
+        this.pointSnapshotStore = pointSnapshotStore;
+        this.properties = properties;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.interval().toMillis();
+        if (interval > 0) {
+            // 첫 스냅샷은 한 주기 뒤(기동 시 복구가 끝난 다음)에 저장
+            executor.scheduleWithFixedDelay(this::snapshotQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 스냅샷을 저장하고 설정에 따라 저널을 잘라냄
+     * @return 저장했으면 true(마지막 스냅샷 이후 기록이 없으면 false)
+     */
+    public synchronized boolean snapshot() throws IOException {
+        PointSnapshot snapshot = pointJournal.snapshot();
+        if (snapshot.sequence() == savedSequence) {
+            return false;
+        }
+        long startedAt = System.currentTimeMillis();
+        pointSnapshotStore.write(snapshot);
+        savedSequence = snapshot.sequence();
+        int truncated = properties.truncateJournal() ? pointJournal.truncateBefore(snapshot.sequence()) : 0;
+        log.info("스냅샷 저장 완료: 순번 {}, 유저 {}명, 삭제한 segment {}개, {}ms",
+                snapshot.sequence(), snapshot.users().size(), truncated, System.currentTimeMillis() - startedAt);
+        return true;
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        snapshotQuietly();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("스냅샷 저장 실패", e);
+        }
+    }
+}
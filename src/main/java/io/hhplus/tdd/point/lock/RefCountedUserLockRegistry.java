@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point.lock;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 참조 수 기반 유저 lock
+ * - lock 을 얻으려는(또는 보유중인) 스레드 수를 세어 0 이 되면 map 에서 제거한다.
+ * - 참조 수 증감은 ConcurrentHashMap.compute 안에서만 일어나므로 제거와 재획득이 겹쳐도 같은 유저에 lock 이 두 개 생기지 않는다.
+ */
+public class RefCountedUserLockRegistry implements UserLockRegistry {
+
+    private final ConcurrentHashMap<Long, Entry> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public Lock acquire(long userId) {
+        Entry entry = retain(userId);
+        entry.lock.lock();
+        return entry.lock;
+    }
+
+    @Override
+    public Lock tryAcquire(long userId, Duration timeout) {
+        Entry entry = retain(userId);
+        try {
+            if (entry.lock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return entry.lock;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 얻지 못했으면 늘린 참조 수를 되돌림
+        unretain(userId);
+        return null;
+    }
+
+    @Override
+    public void release(long userId, Lock lock) {
+        lock.unlock();
+        unretain(userId);
+    }
+
+    private Entry retain(long userId) {
+        return locks.compute(userId, (id, current) -> {
+            Entry e = current == null ? new Entry() : current;
+            e.refs++;
+            return e;
+        });
+    }
+
+    private void unretain(long userId) {
+        locks.computeIfPresent(userId, (id, current) -> --current.refs == 0 ? null : current);
+    }
+
+    @Override
+    public int size() {
+        return locks.size();
+    }
+
+    private static final class Entry {
+        private final ReentrantLock lock = new ReentrantLock();
+        // compute 안에서만 읽고 쓰므로 별도 동기화가 필요없음
+        private int refs;
+    }
+}
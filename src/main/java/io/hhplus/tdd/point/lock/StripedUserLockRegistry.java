@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.lock;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 크기 lock 배열(striped lock)
+ * - 유저 id 를 섞어서 stripe 를 고르므로 같은 유저는 항상 같은 lock 을 쓴다.
+ * - 서로 다른 유저가 같은 stripe 에 걸리면 함께 대기하지만, 유저 수와 관계없이 lock 객체 수는 stripes 로 고정된다.
+ */
+public class StripedUserLockRegistry implements UserLockRegistry {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes lock 개수(2의 거듭제곱으로 올림)
+     */
+    public StripedUserLockRegistry(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Lock acquire(long userId) {
+        Lock lock = locks[stripe(userId)];
+        lock.lock();
+        return lock;
+    }
+
+    @Override
+    public Lock tryAcquire(long userId, Duration timeout) {
+        Lock lock = locks[stripe(userId)];
+        try {
+            return lock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS) ? lock : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    @Override
+    public void release(long userId, Lock lock) {
+        lock.unlock();
+    }
+
+    @Override
+    public int size() {
+        return locks.length;
+    }
+
+    private int stripe(long userId) {
+        // 연속된 id 가 한쪽 stripe 에 몰리지 않도록 섞음
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
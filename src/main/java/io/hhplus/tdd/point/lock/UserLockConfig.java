@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserLockConfig {
+
+    @Bean
+    public UserLockRegistry userLockRegistry(UserLockProperties properties) {
+        return switch (properties.mode()) {
+            case STRIPED -> new StripedUserLockRegistry(properties.stripes());
+            case REF_COUNTED -> new RefCountedUserLockRegistry();
+        };
+    }
+}
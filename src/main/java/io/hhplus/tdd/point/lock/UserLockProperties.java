@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 lock 설정
+ * @param mode lock 관리 방식(STRIPED, REF_COUNTED)
+ * @param stripes STRIPED 모드의 lock 개수
+ */
+@ConfigurationProperties("point.lock")
+public record UserLockProperties(
+        @DefaultValue("REF_COUNTED") UserLockRegistry.Mode mode,
+        @DefaultValue("1024") int stripes
+) {
+}
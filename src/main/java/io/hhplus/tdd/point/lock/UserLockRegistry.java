@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.lock;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 유저별 Lock 관리
+ * - acquire 로 얻은 lock 은 반드시 같은 userId 로 release 해야 한다.
+ * - 같은 스레드에서 같은 유저의 lock 을 중첩해서 얻을 수 있다(ReentrantLock).
+ */
+public interface UserLockRegistry {
+
+    /**
+     * 유저 lock 을 획득함(획득할 때까지 대기)
+     * @param userId
+     * @return 획득한 lock(release 에 그대로 넘김)
+     */
+    Lock acquire(long userId);
+
+    /**
+     * 유저 lock 을 timeout 까지만 기다려 획득함
+     * @param userId
+     * @param timeout 최대 대기시간
+     * @return 획득한 lock(release 에 그대로 넘김), 시간 안에 얻지 못했거나 대기 중 인터럽트되면 null
+     */
+    Lock tryAcquire(long userId, Duration timeout);
+
+    /**
+     * 유저 lock 을 해제함
+     * @param userId
+     * @param lock acquire 로 얻은 lock
+     */
+    void release(long userId, Lock lock);
+
+    /**
+     * 현재 보유중인 lock 객체 수
+     */
+    int size();
+
+    /**
+     * lock 관리 방식
+     * - STRIPED : 고정 크기 lock 배열을 유저 id 해시로 나눠 씀(메모리 고정, 다른 유저끼리 lock 을 공유할 수 있음)
+     * - REF_COUNTED : 유저별 lock 을 참조 수로 관리하고 아무도 쓰지 않으면 제거함(메모리는 동시 사용 유저 수만큼)
+     */
+    enum Mode {
+        STRIPED, REF_COUNTED
+    }
+}
@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 처리 지표
+ * - point.operation : charge/use/point/history 전체 처리시간
+ * - point.lock.wait / point.lock.hold : 유저 lock 대기시간 / 보유시간
+ * - point.table.read / point.table.write : UserPointTable 조회/저장 시간
+ * - point.history.insert : PointHistoryTable 저장 시간
+ * - point.rejected : 거절 건수(사유별)
+ * - point.cas.retry / point.cas.fallback : OPTIMISTIC 모드의 compare-and-set 재시도 건수 / 유저 lock 으로 넘어간 건수
+ * - point.combine.batch : COMBINING 모드에서 잔고 저장 한 번에 반영한 요청 수
+ * 시간 지표는 모두 p50/p99/p999 와 percentile histogram 을 함께 남긴다.
+ */
+@Component
+public class PointMetrics {
+
+    public enum Operation {
+        CHARGE, USE, POINT, HISTORY, EXPIRE
+    }
+
+    public enum RejectCause {
+        OVER_MAX_BALANCE, INSUFFICIENT_BALANCE, EXPIRED,
+        // 요청 수 제한(429)
+        IN_FLIGHT_LIMIT, USER_QUEUE_FULL, LOCK_TIMEOUT, HISTORY_QUEUE_FULL
+    }
+
+    private final Map<Operation, Timer> operationTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, Timer> lockWaitTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, Timer> lockHoldTimers = new EnumMap<>(Operation.class);
+    private final Map<RejectCause, Counter> rejectCounters = new EnumMap<>(RejectCause.class);
+    private final Timer tableReadTimer;
+    private final Timer tableWriteTimer;
+    private final Timer historyInsertTimer;
+    private final Counter casRetryCounter;
+    private final Counter casFallbackCounter;
+    private final Counter expiredCounter;
+    private final DistributionSummary combineBatchSummary;
+
+    public PointMetrics(MeterRegistry registry) {
+        for (Operation operation : Operation.values()) {
+            String tag = tagValue(operation);
+            operationTimers.put(operation, timer(registry, "point.operation", "포인트 요청 처리시간", "operation", tag));
+            lockWaitTimers.put(operation, timer(registry, "point.lock.wait", "유저 lock 대기시간", "operation", tag));
+            lockHoldTimers.put(operation, timer(registry, "point.lock.hold", "유저 lock 보유시간", "operation", tag));
+        }
+        for (RejectCause cause : RejectCause.values()) {
+            rejectCounters.put(cause, Counter.builder("point.rejected")
+                    .description("포인트 요청 거절 건수")
+                    .tag("cause", tagValue(cause))
+                    .register(registry));
+        }
+        this.tableReadTimer = timer(registry, "point.table.read", "UserPointTable 조회시간");
+        this.tableWriteTimer = timer(registry, "point.table.write", "UserPointTable 저장시간");
+        this.historyInsertTimer = timer(registry, "point.history.insert", "PointHistoryTable 저장시간");
+        this.casRetryCounter = Counter.builder("point.cas.retry")
+                .description("잔고 compare-and-set 재시도 건수")
+                .register(registry);
+        this.casFallbackCounter = Counter.builder("point.cas.fallback")
+                .description("재시도 초과로 유저 lock 을 잡고 처리한 건수")
+                .register(registry);
+        this.expiredCounter = Counter.builder("point.expiry.expired")
+                .description("만료시간이 지나 0 으로 만든 잔고 수")
+                .register(registry);
+        this.combineBatchSummary = DistributionSummary.builder("point.combine.batch")
+                .description("잔고 저장 한 번에 반영한 요청 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    public <T> T timed(Operation operation, Supplier<T> body) {
+        return operationTimers.get(operation).record(body);
+    }
+
+    public <T> T tableRead(Supplier<T> body) {
+        return tableReadTimer.record(body);
+    }
+
+    public <T> T tableWrite(Supplier<T> body) {
+        return tableWriteTimer.record(body);
+    }
+
+    public <T> T historyInsert(Supplier<T> body) {
+        return historyInsertTimer.record(body);
+    }
+
+    /**
+     * lock 대기시간을 기록함
+     * @param waitStartNanos lock 요청 직전 System.nanoTime()
+     * @return lock 을 얻은 시각(lockReleased 에 넘김)
+     */
+    public long lockAcquired(Operation operation, long waitStartNanos) {
+        long now = System.nanoTime();
+        lockWaitTimers.get(operation).record(now - waitStartNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    /**
+     * lock 보유시간을 기록함
+     * @param lockedAtNanos lockAcquired 가 돌려준 시각
+     */
+    public void lockReleased(Operation operation, long lockedAtNanos) {
+        lockHoldTimers.get(operation).record(System.nanoTime() - lockedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void rejected(RejectCause cause) {
+        rejectCounters.get(cause).increment();
+    }
+
+    public void casRetried() {
+        casRetryCounter.increment();
+    }
+
+    public void casFallback() {
+        casFallbackCounter.increment();
+    }
+
+    public void expired() {
+        expiredCounter.increment();
+    }
+
+    public void combined(int operations) {
+        combineBatchSummary.record(operations);
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.lock.UserLockRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PointMetricsConfig {
+
+    /**
+     * 유저 lock 수와 유저 포인트 캐시 통계를 지표로 등록함
+     */
+    @Bean
+    public MeterBinder pointStateMetrics(UserLockRegistry userLockRegistry, UserPointCache userPointCache) {
+        return registry -> {
+            Gauge.builder("point.lock.size", userLockRegistry, UserLockRegistry::size)
+                    .description("보유중인 유저 lock 수")
+                    .register(registry);
+            Gauge.builder("point.cache.size", userPointCache, cache -> cache.stats().size())
+                    .description("캐시된 유저 수")
+                    .register(registry);
+            FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.stats().hits())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.stats().misses())
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("point.cache.evictions", userPointCache, cache -> cache.stats().evictions())
+                    .register(registry);
+        };
+    }
+}
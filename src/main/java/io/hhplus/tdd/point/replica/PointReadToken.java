@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.replica;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * read-your-writes 토큰
+ * - charge/use 응답의 X-Point-Token 헤더로 내려주고, 클라이언트가 조회 요청에 그대로 보내면
+ *   그 쓰기를 반영한 읽기 복제본(없으면 원본)에서 읽는다.
+ * - 쓰기 결과의 잔고 수정시간과 잔고를 담는다. 같은 밀리초에 쓰기가 두 번 있어도 잔고까지 같아야 반영한 것으로 본다.
+ * @param updateMillis 쓰기 후 잔고 수정시간
+ * @param point 쓰기 후 잔고
+ */
+public record PointReadToken(long updateMillis, long point) {
+
+    public static final String HEADER = "X-Point-Token";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static PointReadToken of(UserPoint userPoint) {
+        return new PointReadToken(userPoint.updateMillis(), userPoint.point());
+    }
+
+    /**
+     * @return token 이 null 이면 null
+     */
+    public static PointReadToken decode(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            byte[] bytes = DECODER.decode(token);
+            if (bytes.length != Long.BYTES * 2) {
+                throw new IllegalArgumentException();
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new PointReadToken(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("잘못된 토큰입니다.");
+        }
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES * 2).putLong(updateMillis).putLong(point).array());
+    }
+
+    /**
+     * @param replicated 복제본이 가진 유저 포인트(아직 받지 못했으면 null)
+     * @return 복제본이 이 쓰기(또는 그 이후 쓰기)를 반영했는지 여부
+     */
+    public boolean isSatisfiedBy(UserPoint replicated) {
+        if (replicated == null) {
+            return false;
+        }
+        return replicated.updateMillis() > updateMillis
+                || (replicated.updateMillis() == updateMillis && replicated.point() == point);
+    }
+}
@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point.replica;
+
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 복제본 하나
+ * - 원본이 저장을 마친 변경(내역 + 변경 후 잔고)을 대기열로 받아, 전용 스레드가 받은 순서대로 자기 저장소에 반영한다.
+ * - 내역을 먼저 넣고 잔고를 바꾸므로, 잔고가 보이면 그 잔고를 만든 내역도 조회된다.
+ * - 뒤처진 시간(lag)은 반영하지 못한 변경이 있을 때 가장 오래된 미반영 변경의 커밋 시각(변경 후 잔고의 updateMillis)부터 잰다.
+ *   원본이 커밋한 뒤 복제본에 전달하기까지(write-behind 대기열 등) 걸린 시간도 lag 에 들어간다.
+ * - 받은 적 없는 유저는 이 복제본이 모르는 것이지 잔고가 0 인 것이 아니므로, 조회하지 않고 원본에 넘긴다(PointReplicaSet.select).
+ */
+public class PointReplica implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointReplica.class);
+
+    private final int index;
+    private final ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    private final ColumnarPointHistoryStore histories = new ColumnarPointHistoryStore();
+    private final BlockingQueue<Change> queue;
+    private final AtomicLong pending = new AtomicLong();
+    private final Thread applier;
+    // 가장 오래된 미반영 변경의 커밋 시각(미반영 변경이 없으면 의미 없음)
+    private volatile long oldestPendingMillis;
+    private volatile boolean running = true;
+
+    public PointReplica(int index, int queueCapacity) {
+        this.index = index;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.applier = new Thread(this::applyLoop, "point-replica-" + index);
+        this.applier.setDaemon(true);
+        this.applier.start();
+    }
+
+    /**
+     * 변경을 대기열에 넣음(가득 차면 자리가 날 때까지 기다림)
+     */
+    public void offer(PointHistory pointHistory, UserPoint userPoint) {
+        Change change = new Change(pointHistory, userPoint);
+        if (pending.incrementAndGet() == 1) {
+            // 따라잡은 상태에서 처음 생긴 변경이면 이 변경의 커밋 시각부터 잼
+            oldestPendingMillis = change.committedMillis();
+        }
+        try {
+            queue.put(change);
+        } catch (InterruptedException e) {
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("읽기 복제본 전달이 중단되었습니다.");
+        }
+    }
+
+    /**
+     * @param nowMillis 현재 시각(System.currentTimeMillis)
+     */
+    public long lagMillis(long nowMillis) {
+        return pending.get() == 0 ? 0 : Math.max(0, nowMillis - oldestPendingMillis);
+    }
+
+    /**
+     * @return 아직 받지 못한 유저면 null
+     */
+    public UserPoint find(long userId) {
+        return balances.get(userId);
+    }
+
+    /**
+     * 받은 유저의 잔고(받은 적 없는 유저는 null 이므로 원본에서 읽어야 함)
+     */
+    public UserPoint point(long userId) {
+        return balances.get(userId);
+    }
+
+    public PointHistorySlice history(long userId, PointHistoryQuery query) {
+        return histories.page(userId, query);
+    }
+
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        applier.interrupt();
+        applier.join();
+    }
+
+    private void applyLoop() {
+        while (running) {
+            Change change;
+            try {
+                change = queue.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            try {
+                histories.append(change.pointHistory());
+                balances.merge(change.userPoint().id(), change.userPoint(), PointReplica::newer);
+            } catch (RuntimeException e) {
+                log.error("읽기 복제본 {} 반영 실패 historyId={}", index, change.pointHistory().id(), e);
+            }
+            if (pending.decrementAndGet() > 0) {
+                // 다음 변경이 아직 대기열에 들어가기 전이면 방금 반영한 변경의 커밋 시각(더 이른 시각)으로 잼
+                Change next = queue.peek();
+                oldestPendingMillis = next != null ? next.committedMillis() : change.committedMillis();
+            }
+        }
+    }
+
+    /**
+     * 같은 유저의 변경은 순서대로 오지만, 잔고 수정시간이 거꾸로 된 변경으로 덮어쓰지 않도록 한 번 더 비교함
+     */
+    private static UserPoint newer(UserPoint current, UserPoint next) {
+        return next.updateMillis() >= current.updateMillis() ? next : current;
+    }
+
+    private record Change(PointHistory pointHistory, UserPoint userPoint) {
+
+        long committedMillis() {
+            return userPoint.updateMillis();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.replica;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryListener;
+import io.hhplus.tdd.point.journal.PointJournalProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 복제본 묶음
+ * - 원본 내역이 저장되면(PointHistoryListener) 모든 복제본에 같은 순서로 전달한다.
+ * - 조회할 때는 복제본을 돌아가며 고르고, 뒤처진 시간이 maxLag 를 넘거나 read-your-writes 토큰의 쓰기를 아직 반영하지 못했거나
+ *   그 유저의 변경을 한 번도 받지 못한 복제본은 건너뛴다. 고를 복제본이 없으면 원본에서 읽는다.
+ * - 복제본은 빈 상태에서 시작하므로 저널로 복구한 상태와 함께 쓸 수 없다(저널이 켜져 있으면 복제본을 만들지 않음).
+ * - point.replica.lag : 복제본별 뒤처진 시간(ms)
+ * - point.replica.reads : 복제본/원본 조회 건수
+ */
+@Component
+public class PointReplicaSet implements PointHistoryListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PointReplicaSet.class);
+
+    private final List<PointReplica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    public PointReplicaSet(PointReplicationProperties properties, PointJournalProperties journalProperties, MeterRegistry registry) {
+        this.maxLagMillis = properties.maxLag().toMillis();
+        if (properties.replicas() > 0 && journalProperties.enabled()) {
+            log.warn("저널이 켜져 있어 읽기 복제본을 만들지 않습니다(복제본은 복구한 상태를 받지 못함).");
+        } else {
+            for (int i = 0; i < properties.replicas(); i++) {
+                PointReplica replica = new PointReplica(i, properties.queueCapacity());
+                replicas.add(replica);
+                Gauge.builder("point.replica.lag", replica, r -> r.lagMillis(System.currentTimeMillis()))
+                        .description("읽기 복제본이 뒤처진 시간(ms)")
+                        .tag("replica", String.valueOf(i))
+                        .register(registry);
+            }
+        }
+        this.replicaReads = Counter.builder("point.replica.reads")
+                .description("조회 건수(복제본/원본)")
+                .tag("target", "replica")
+                .register(registry);
+        this.primaryReads = Counter.builder("point.replica.reads")
+                .description("조회 건수(복제본/원본)")
+                .tag("target", "primary")
+                .register(registry);
+    }
+
+    @Override
+    public void onCommitted(PointHistory pointHistory, UserPoint userPoint) {
+        for (PointReplica replica : replicas) {
+            replica.offer(pointHistory, userPoint);
+        }
+    }
+
+    /**
+     * 읽을 복제본을 고름
+     * @param userId
+     * @param token read-your-writes 토큰(null 이면 maxLag 만 확인)
+     * @return 조건을 만족하는 복제본이 없으면 null(원본에서 읽음)
+     */
+    public PointReplica select(long userId, PointReadToken token) {
+        int size = replicas.size();
+        if (size > 0) {
+            long now = System.currentTimeMillis();
+            int start = Math.floorMod(next.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                PointReplica replica = replicas.get((start + i) % size);
+                UserPoint received = replica.find(userId);
+                if (received != null && replica.lagMillis(now) <= maxLagMillis && (token == null || token.isSatisfiedBy(received))) {
+                    replicaReads.increment();
+                    return replica;
+                }
+            }
+        }
+        primaryReads.increment();
+        return null;
+    }
+
+    public int size() {
+        return replicas.size();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        for (PointReplica replica : replicas) {
+            replica.close();
+        }
+    }
+}
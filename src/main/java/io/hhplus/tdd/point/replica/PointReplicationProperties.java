@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 설정
+ * @param replicas 복제본 수(0 이면 모든 조회를 원본에서 처리)
+ * @param maxLag 복제본이 이보다 뒤처져 있으면 그 복제본에서 읽지 않음
+ * @param queueCapacity 복제본마다 반영을 기다리는 변경 최대 수(가득 차면 내역 저장 쪽이 기다림)
+ */
+@ConfigurationProperties("point.replication")
+public record PointReplicationProperties(
+        @DefaultValue("0") int replicas,
+        @DefaultValue("100ms") Duration maxLag,
+        @DefaultValue("65536") int queueCapacity
+) {
+}
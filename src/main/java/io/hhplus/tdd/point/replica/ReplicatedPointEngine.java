@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.replica;
+
+import io.hhplus.tdd.point.async.PointAsyncTasks;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.engine.PointEngine;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 조회는 읽기 복제본에, 쓰기는 원본 엔진에 넘기는 엔진
+ * - 복제본 조회는 lock 없이 읽으므로 요청 스레드에서 바로 처리한다.
+ * - 조건에 맞는 복제본이 없으면 원본 엔진에서 읽는다.
+ */
+public class ReplicatedPointEngine implements PointEngine {
+
+    private final PointEngine primary;
+    private final PointReplicaSet replicaSet;
+
+    public ReplicatedPointEngine(PointEngine primary, PointReplicaSet replicaSet) {
+        this.primary = primary;
+        this.replicaSet = replicaSet;
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> point(long userId) {
+        return point(userId, null);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> point(long userId, PointReadToken token) {
+        PointReplica replica = replicaSet.select(userId, token);
+        return replica == null ? primary.point(userId) : PointAsyncTasks.supplyNow(() -> replica.point(userId));
+    }
+
+    @Override
+    public CompletableFuture<PointHistorySlice> history(long userId, PointHistoryQuery query) {
+        return history(userId, query, null);
+    }
+
+    @Override
+    public CompletableFuture<PointHistorySlice> history(long userId, PointHistoryQuery query, PointReadToken token) {
+        PointReplica replica = replicaSet.select(userId, token);
+        return replica == null ? primary.history(userId, query) : PointAsyncTasks.supplyNow(() -> replica.history(userId, query));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> charge(PointHistoryDto pointHistoryDto) {
+        return primary.charge(pointHistoryDto);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> use(PointHistoryDto pointHistoryDto) {
+        return primary.use(pointHistoryDto);
+    }
+
+    @Override
+    public CompletableFuture<List<PointOperationResult>> batch(List<PointOperationDto> operations) {
+        return primary.batch(operations);
+    }
+}
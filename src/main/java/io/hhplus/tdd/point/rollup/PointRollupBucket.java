@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.rollup;
+
+/**
+ * 한 구간의 트랜잭션 종류별 건수/금액 합계
+ * @param start 구간 시작시각(포함)
+ * @param chargeCount
+ * @param chargeAmount
+ * @param useCount
+ * @param useAmount
+ * @param expireCount
+ * @param expireAmount
+ */
+public record PointRollupBucket(
+        long start,
+        long chargeCount,
+        long chargeAmount,
+        long useCount,
+        long useAmount,
+        long expireCount,
+        long expireAmount
+) {
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.rollup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+
+/**
+ * 유저별 충전/사용 집계 설정
+ * @param zoneOffset bucket 을 나누는 기준 시차(DAY 는 이 시차의 자정 기준)
+ * @param minuteRetention MINUTE bucket 보관 기간(유저의 마지막 bucket 기준)
+ * @param hourRetention HOUR bucket 보관 기간
+ * @param dayRetention DAY bucket 보관 기간
+ * @param maxBuckets 한 번에 조회할 수 있는 최대 bucket 수
+ */
+@ConfigurationProperties("point.rollup")
+public record PointRollupProperties(
+        @DefaultValue("+09:00") ZoneOffset zoneOffset,
+        @DefaultValue("1d") Duration minuteRetention,
+        @DefaultValue("31d") Duration hourRetention,
+        @DefaultValue("400d") Duration dayRetention,
+        @DefaultValue("1440") int maxBuckets
+) {
+    public Duration retention(RollupGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> minuteRetention;
+            case HOUR -> hourRetention;
+            case DAY -> dayRetention;
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package io.hhplus.tdd.point.rollup;
+
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryListener;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 충전/사용 집계(MINUTE/HOUR/DAY bucket 의 종류별 건수와 금액 합계)
+ * - 내역이 저장될 때마다(PointHistoryListener) 해당 유저의 bucket 에 더하므로, 조회는 내역을 읽지 않고 구간의 bucket 수만큼만 본다.
+ * - 유저의 집계를 처음 쓰거나 읽을 때 내역 저장소의 기존 내역으로 한 번 만든다(저널로 복구한 내역도 여기서 반영됨).
+ *   rebuild 로 언제든 다시 만들 수 있다.
+ * - 조회는 내역이 한 건도 없는 유저의 집계를 만들지 않고 빈 집계를 돌려준다(아무 id 로나 조회해도 집계가 늘지 않음).
+ * - 유저마다 lock 을 따로 두므로 다른 유저의 반영/조회끼리는 기다리지 않는다.
+ */
+@Component
+public class PointRollupStore implements PointHistoryListener {
+
+    private static final int DEFAULT_BUCKETS = 24;
+    // 내역이 있는지만 확인하는 조회조건
+    private static final PointHistoryQuery ANY = new PointHistoryQuery(null, 1, null, null, null);
+
+    private final PointHistoryStore pointHistoryStore;
+    private final PointRollupProperties properties;
+    private final ConcurrentHashMap<Long, UserRollup> rollups = new ConcurrentHashMap<>();
+    // 내역이 없는 유저에게 돌려줄 빈 집계(한 번도 반영하지 않으므로 lock 없이 읽음)
+    private final UserRollup empty;
+
+    public PointRollupStore(PointHistoryStore pointHistoryStore, PointRollupProperties properties) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.properties = properties;
+        this.empty = new UserRollup(properties);
+    }
+
+    @Override
+    public void onCommitted(PointHistory pointHistory, UserPoint userPoint) {
+        UserRollup rollup = rollup(pointHistory.userId());
+        rollup.lock().lock();
+        try {
+            buildIfNeeded(pointHistory.userId(), rollup);
+            rollup.add(pointHistory);
+        } finally {
+            rollup.lock().unlock();
+        }
+    }
+
+    /**
+     * 구간별 집계를 조회함
+     * @param userId
+     * @param granularity 구간 단위
+     * @param from 조회 시작시각(null 이면 to 에서 24 구간 전)
+     * @param to 조회 종료시각(미포함, null 이면 현재)
+     */
+    public PointSummary summary(long userId, RollupGranularity granularity, Long from, Long to) {
+        long end = to != null ? to : System.currentTimeMillis();
+        long start = from != null ? from : end - granularity.millis() * DEFAULT_BUCKETS;
+        if (start >= end) {
+            throw new RuntimeException("조회 시작시각은 종료시각보다 앞서야 합니다.");
+        }
+        if ((end - start) / granularity.millis() > properties.maxBuckets()) {
+            throw new RuntimeException("한 번에 조회할 수 있는 구간 수(" + properties.maxBuckets() + ")를 초과함");
+        }
+        UserRollup rollup = rollups.get(userId);
+        if (rollup == null) {
+            if (!hasHistory(userId)) {
+                return empty.summary(userId, granularity, start, end);
+            }
+            rollup = rollup(userId);
+        }
+        rollup.lock().lock();
+        try {
+            buildIfNeeded(userId, rollup);
+            return rollup.summary(userId, granularity, start, end);
+        } finally {
+            rollup.lock().unlock();
+        }
+    }
+
+    /**
+     * 유저의 집계를 내역 저장소의 내역으로 다시 만듦
+     * @param userId
+     */
+    public void rebuild(long userId) {
+        UserRollup rollup = rollup(userId);
+        rollup.lock().lock();
+        try {
+            rollup.rebuild(pointHistoryStore.findAllByUserId(userId));
+        } finally {
+            rollup.lock().unlock();
+        }
+    }
+
+    /**
+     * 집계를 가진 유저 수
+     */
+    public int size() {
+        return rollups.size();
+    }
+
+    private boolean hasHistory(long userId) {
+        boolean[] found = {false};
+        pointHistoryStore.page(userId, ANY).forEach(pointHistory -> found[0] = true);
+        return found[0];
+    }
+
+    private UserRollup rollup(long userId) {
+        return rollups.computeIfAbsent(userId, id -> new UserRollup(properties));
+    }
+
+    /**
+     * 내역 저장소는 listener 호출 전에 저장을 마치므로, 여기서 읽은 내역에는 지금 반영 중인 내역까지 들어 있다
+     * (이후 같은 내역이 listener 로 와도 id 로 걸러짐)
+     */
+    private void buildIfNeeded(long userId, UserRollup rollup) {
+        if (!rollup.built()) {
+            rollup.rebuild(pointHistoryStore.findAllByUserId(userId));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.rollup;
+
+import java.util.List;
+
+/**
+ * 유저의 구간별 충전/사용 집계
+ * @param userId
+ * @param granularity 구간 단위
+ * @param from 조회 시작시각(from 이 속한 구간의 시작으로 맞춤)
+ * @param to 조회 종료시각(미포함)
+ * @param buckets 내역이 있는 구간만 시작시각 오름차순
+ * @param total 조회한 구간 전체 합계(start 는 from)
+ */
+public record PointSummary(
+        long userId,
+        RollupGranularity granularity,
+        long from,
+        long to,
+        List<PointRollupBucket> buckets,
+        PointRollupBucket total
+) {
+}
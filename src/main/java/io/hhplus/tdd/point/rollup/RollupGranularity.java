@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.rollup;
+
+/**
+ * 집계 구간 단위
+ * - bucket 은 point.rollup.zone-offset 기준 시각으로 나눈다(DAY 는 그 기준의 자정부터 자정까지).
+ */
+public enum RollupGranularity {
+    MINUTE(60_000L), HOUR(3_600_000L), DAY(86_400_000L);
+
+    private final long millis;
+
+    RollupGranularity(long millis) {
+        this.millis = millis;
+    }
+
+    public long millis() {
+        return millis;
+    }
+
+    /**
+     * @param epochMillis
+     * @param offsetMillis UTC 와의 시차
+     * @return epochMillis 가 속한 bucket 의 시작시각
+     */
+    public long bucketStart(long epochMillis, long offsetMillis) {
+        return Math.floorDiv(epochMillis + offsetMillis, millis) * millis - offsetMillis;
+    }
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point.rollup;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저 한 명의 구간 단위별 집계
+ * - 단위마다 bucket 시작시각 → [종류별 건수, 금액] 배열을 TreeMap 에 두고, 보관 기간이 지난 bucket 은 반영할 때 지운다.
+ * - 반영한 마지막 내역 id 를 기억해 두고 그 이하의 내역은 다시 반영하지 않는다(재구성 중 들어온 내역이 두 번 더해지지 않음).
+ */
+final class UserRollup {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<RollupGranularity, TreeMap<Long, long[]>> buckets = new EnumMap<>(RollupGranularity.class);
+    private final PointRollupProperties properties;
+    private final long offsetMillis;
+    private long lastHistoryId;
+    private boolean built;
+
+    UserRollup(PointRollupProperties properties) {
+        this.properties = properties;
+        this.offsetMillis = properties.zoneOffset().getTotalSeconds() * 1000L;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            buckets.put(granularity, new TreeMap<>());
+        }
+    }
+
+    ReentrantLock lock() {
+        return lock;
+    }
+
+    boolean built() {
+        return built;
+    }
+
+    /**
+     * 집계를 비우고 내역(id 오름차순)으로 다시 만듦(lock 을 잡고 호출)
+     */
+    void rebuild(List<PointHistory> histories) {
+        buckets.values().forEach(TreeMap::clear);
+        lastHistoryId = 0;
+        histories.forEach(this::add);
+        built = true;
+    }
+
+    /**
+     * 내역 한 건을 단위마다 해당 bucket 에 더함(lock 을 잡고 호출)
+     */
+    void add(PointHistory pointHistory) {
+        if (pointHistory.id() <= lastHistoryId) {
+            return;
+        }
+        lastHistoryId = pointHistory.id();
+        int column = pointHistory.type().ordinal() * 2;
+        for (Map.Entry<RollupGranularity, TreeMap<Long, long[]>> entry : buckets.entrySet()) {
+            RollupGranularity granularity = entry.getKey();
+            TreeMap<Long, long[]> byStart = entry.getValue();
+            long start = granularity.bucketStart(pointHistory.updateMillis(), offsetMillis);
+            long[] values = byStart.computeIfAbsent(start, key -> new long[TYPES.length * 2]);
+            values[column]++;
+            values[column + 1] += pointHistory.amount();
+            // 가장 늦은 bucket 기준으로 보관 기간이 지난 bucket 을 지움
+            byStart.headMap(byStart.lastKey() - properties.retention(granularity).toMillis(), false).clear();
+        }
+    }
+
+    /**
+     * [from 이 속한 bucket 시작, to) 구간의 bucket 과 합계를 만듦(lock 을 잡고 호출)
+     */
+    PointSummary summary(long userId, RollupGranularity granularity, long from, long to) {
+        long start = granularity.bucketStart(from, offsetMillis);
+        NavigableMap<Long, long[]> range = buckets.get(granularity).subMap(start, true, to, false);
+        List<PointRollupBucket> result = new ArrayList<>(range.size());
+        long[] total = new long[TYPES.length * 2];
+        for (Map.Entry<Long, long[]> entry : range.entrySet()) {
+            long[] values = entry.getValue();
+            result.add(bucket(entry.getKey(), values));
+            for (int i = 0; i < total.length; i++) {
+                total[i] += values[i];
+            }
+        }
+        return new PointSummary(userId, granularity, start, to, result, bucket(start, total));
+    }
+
+    private static PointRollupBucket bucket(long start, long[] values) {
+        int charge = TransactionType.CHARGE.ordinal() * 2;
+        int use = TransactionType.USE.ordinal() * 2;
+        int expire = TransactionType.EXPIRE.ordinal() * 2;
+        return new PointRollupBucket(start, values[charge], values[charge + 1], values[use], values[use + 1],
+                values[expire], values[expire + 1]);
+    }
+}
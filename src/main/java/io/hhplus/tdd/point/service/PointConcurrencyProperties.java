@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * charge/use 동시성 제어 설정
+ * @param mode 동시성 제어 방식(LOCK, OPTIMISTIC, COMBINING)
+ * @param maxRetries OPTIMISTIC 모드에서 compare-and-set 실패 시 재시도 횟수(넘으면 유저 lock 을 잡고 처리)
+ * @param maxCombined COMBINING 모드에서 lock 을 잡은 스레드가 한 번에 처리할 최대 요청 수
+ *                    (OPTIMISTIC 모드에서 한 요청 스레드가 커밋 후처리를 이어서 할 최대 커밋 수)
+ */
+@ConfigurationProperties("point.concurrency")
+public record PointConcurrencyProperties(
+        @DefaultValue("LOCK") Mode mode,
+        @DefaultValue("8") int maxRetries,
+        @DefaultValue("256") int maxCombined
+) {
+    /**
+     * 동시성 제어 방식
+     * - LOCK : 유저 lock 을 잡고 조회-검증-저장(기존 동작)
+     * - OPTIMISTIC : 유저 잔고 셀을 compare-and-set 으로 갱신하고, 경합이 심하면 유저 lock 으로 넘어감
+     * - COMBINING : 유저별 대기열에 요청을 넣고, lock 을 잡은 스레드가 쌓인 요청을 모아 잔고를 한 번만 조회/저장함
+     */
+    public enum Mode {
+        LOCK, OPTIMISTIC, COMBINING
+    }
+}
@@ -1,11 +1,24 @@
 package io.hhplus.tdd.point.service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.balance.BalanceCell;
+import io.hhplus.tdd.point.balance.BalanceCells;
+import io.hhplus.tdd.point.balance.BalanceStore;
+import io.hhplus.tdd.point.cache.UserPointCache;
 import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
 import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.controller.PointController;
+import io.hhplus.tdd.point.exception.PointOverloadedException;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.lock.UserLockRegistry;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.metrics.PointMetrics.Operation;
+import io.hhplus.tdd.point.metrics.PointMetrics.RejectCause;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -13,10 +26,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 @Service
 @Validated
@@ -25,27 +46,96 @@ public class PointService {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
-    // 유저별 Lock을 관리하기 위한 ConcurrentHashMap
-    private final ConcurrentHashMap<Long, Lock> userLockMap = new ConcurrentHashMap<>();
+    // 잔고 저장소(UserPointTable 또는 primitive 배열 기반)
+    private final BalanceStore balanceStore;
+    // 내역은 write-behind 로 저장(lock 안에서 PointHistoryTable 을 기다리지 않음)
+    private final PointHistoryWriter pointHistoryWriter;
+    // 유저별 내역 조회를 위한 저장소(전체 내역 스캔 방지)
+    private final PointHistoryStore pointHistoryStore;
+    // 유저 포인트 캐시(조회 시 채우고 charge/use 결과로 갱신)
+    private final UserPointCache userPointCache;
+    // 유저별 Lock 관리(striped 또는 참조 수 기반)
+    private final UserLockRegistry userLockRegistry;
+    // 처리시간, lock 대기/보유시간, 거절 건수 지표
+    private final PointMetrics pointMetrics;
+    // OPTIMISTIC 모드에서 유저 잔고의 원본(compare-and-set 으로 갱신)
+    private final BalanceCells balanceCells;
+    // LOCK/OPTIMISTIC 모드와 재시도 횟수
+    private final PointConcurrencyProperties concurrencyProperties;
+    // 서버 전체/유저별 처리 중인 요청 수 제한과 lock 대기시간
+    private final PointAdmissionControl admissionControl;
+    // COMBINING 모드의 유저별 대기열
+    private final ConcurrentHashMap<Long, Combiner> combiners = new ConcurrentHashMap<>();
 
-    private Lock getUserLock(Long userId) {
-        return userLockMap.computeIfAbsent(userId, id -> new ReentrantLock());
+    /**
+     * COMBINING 모드 유저별 대기열과 처리 중 여부(처리하는 스레드는 한 번에 하나)
+     */
+    private static final class Combiner {
+        private final Queue<PendingOperation> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean active = new AtomicBoolean();
+    }
+
+    /**
+     * COMBINING 모드 대기열의 요청(결과는 처리한 스레드가 채우고 요청 스레드를 깨움)
+     */
+    private record PendingOperation(PointHistoryDto pointHistoryDto,
+                                    BiFunction<UserPoint, PointHistoryDto, UserPoint> apply,
+                                    CompletableFuture<UserPoint> result,
+                                    Thread thread) {
+
+        void complete(UserPoint userPoint) {
+            result.complete(userPoint);
+            LockSupport.unpark(thread);
+        }
+
+        void fail(RuntimeException e) {
+            result.completeExceptionally(e);
+            LockSupport.unpark(thread);
+        }
     }
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
      */
     public UserPoint point(Long id) {
-        return userPointTable.selectById(id);
+        return pointMetrics.timed(Operation.POINT, () -> {
+            // OPTIMISTIC 모드에서 charge/use 한 적 있는 유저는 셀이 최신 잔고
+            BalanceCell cell = optimistic() ? balanceCells.find(id) : null;
+            if (cell != null) {
+                return cell.current().userPoint();
+            }
+            UserPoint cached = userPointCache.get(id);
+            if (cached != null) {
+                return cached;
+            }
+            // 캐시에 없을 때만 lock 을 걸고 채움(동시에 진행중인 charge/use 결과를 덮어쓰지 않도록)
+            long waitStart = System.nanoTime();
+            Lock lock = acquireLock(id);
+            long lockedAt = pointMetrics.lockAcquired(Operation.POINT, waitStart);
+            try {
+                UserPoint loaded = userPointCache.peek(id);
+                return loaded != null ? loaded : fetchUserPoint(id);
+            } finally {
+                userLockRegistry.release(id, lock);
+                pointMetrics.lockReleased(Operation.POINT, lockedAt);
+            }
+        });
     }
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
      */
     public List<PointHistory> history(Long id) {
-        return pointHistoryTable.selectAllByUserId(id);
+        return pointMetrics.timed(Operation.HISTORY, () -> pointHistoryStore.findAllByUserId(id));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 커서 기반으로 한 페이지씩 조회함
+     * @param id
+     * @param query 커서, 건수, 기간, 트랜잭션 종류 조건
+     */
+    public PointHistorySlice history(Long id, PointHistoryQuery query) {
+        return pointMetrics.timed(Operation.HISTORY, () -> pointHistoryStore.page(id, query));
     }
 
     /**
@@ -54,25 +144,48 @@ public class PointService {
      *  최대잔고 5000
      */
     public UserPoint charge(@Valid PointHistoryDto pointHistoryDto) {
+        return admitted(pointHistoryDto.getUserId(), () -> pointMetrics.timed(Operation.CHARGE, () -> switch (concurrencyProperties.mode()) {
+            case OPTIMISTIC -> commitOptimistic(Operation.CHARGE, pointHistoryDto, this::charged);
+            case COMBINING -> commitCombined(Operation.CHARGE, pointHistoryDto, this::charged);
+            case LOCK -> withHistorySlot(() -> chargeInLock(pointHistoryDto));
+        }));
+    }
+
+    /**
+     * 충전 후 잔고를 계산함(OPTIMISTIC/COMBINING 모드, 검증 실패 시 예외)
+     */
+    private UserPoint charged(UserPoint currUserPoint, PointHistoryDto pointHistoryDto) {
+        if (!currUserPoint.canCharge(pointHistoryDto.getAmount())) {
+            pointMetrics.rejected(RejectCause.OVER_MAX_BALANCE);
+            throw new RuntimeException("최대잔고를 초과함");
+        }
+        return new UserPoint(currUserPoint.id(), currUserPoint.point() + pointHistoryDto.getAmount(), System.currentTimeMillis());
+    }
+
+    private UserPoint chargeInLock(PointHistoryDto pointHistoryDto) {
         Long userId = pointHistoryDto.getUserId();
 
-        Lock lock = getUserLock(userId);
-        lock.lock(); // 유저별로 lock 을 걸어줌
+        long waitStart = System.nanoTime();
+        Lock lock = acquireLock(userId); // 유저별로 lock 을 걸어줌
+        long lockedAt = pointMetrics.lockAcquired(Operation.CHARGE, waitStart);
         try {
             // 1. 유저포인트 객체를 가져온다.
-            UserPoint currUserPoint = userPointTable.selectById(pointHistoryDto.getUserId());
+            UserPoint currUserPoint = loadUserPoint(userId);
             if (!currUserPoint.canCharge(pointHistoryDto.getAmount())) {
+                pointMetrics.rejected(RejectCause.OVER_MAX_BALANCE);
                 throw new RuntimeException("최대잔고를 초과함");
             }
             // 2.1. 충전
             @Valid
-            UserPoint userPoint = userPointTable.insertOrUpdate(currUserPoint.id(), currUserPoint.point() + pointHistoryDto.getAmount());
+            UserPoint userPoint = pointMetrics.tableWrite(() -> balanceStore.insertOrUpdate(currUserPoint.id(), currUserPoint.point() + pointHistoryDto.getAmount()));
+            userPointCache.put(userPoint);
 
             // 2.2. 충전히스토리 저장
-            pointHistoryTable.insert(pointHistoryDto.getUserId(), pointHistoryDto.getAmount(), pointHistoryDto.getType(), pointHistoryDto.getUpdateMillis());
+            pointHistoryWriter.write(userPoint, pointHistoryDto.getAmount(), pointHistoryDto.getType(), pointHistoryDto.getUpdateMillis());
             return userPoint;
         } finally {
-            lock.unlock();  // 로직 종료 시 Lock 해제
+            userLockRegistry.release(userId, lock);  // 로직 종료 시 Lock 해제
+            pointMetrics.lockReleased(Operation.CHARGE, lockedAt);
         }
     }
 
@@ -83,32 +196,361 @@ public class PointService {
      *  충전 후 10초가 지나면 사용불가
      */
     public UserPoint use(@Valid PointHistoryDto pointHistoryDto) {
+        return admitted(pointHistoryDto.getUserId(), () -> pointMetrics.timed(Operation.USE, () -> switch (concurrencyProperties.mode()) {
+            case OPTIMISTIC -> commitOptimistic(Operation.USE, pointHistoryDto, this::used);
+            case COMBINING -> commitCombined(Operation.USE, pointHistoryDto, this::used);
+            case LOCK -> withHistorySlot(() -> useInLock(pointHistoryDto));
+        }));
+    }
+
+    /**
+     * 사용 후 잔고를 계산함(OPTIMISTIC/COMBINING 모드, 검증 실패 시 예외)
+     */
+    private UserPoint used(UserPoint currUserPoint, PointHistoryDto pointHistoryDto) {
+        if (currUserPoint.canUse(pointHistoryDto.getAmount())) {
+            pointMetrics.rejected(RejectCause.INSUFFICIENT_BALANCE);
+            throw new RuntimeException("포인트가 부족합니다.");
+        }
+        if (currUserPoint.isExpired(pointHistoryDto.getUpdateMillis())) {
+            pointMetrics.rejected(RejectCause.EXPIRED);
+            throw new RuntimeException("만료된 포인트입니다.");
+        }
+        return new UserPoint(currUserPoint.id(), currUserPoint.point() - pointHistoryDto.getAmount(), System.currentTimeMillis());
+    }
+
+    private UserPoint useInLock(PointHistoryDto pointHistoryDto) {
         Long userId = pointHistoryDto.getUserId();
 
-        Lock lock = getUserLock(userId);
-        lock.lock(); // 유저별로 lock 을 걸어줌
+        long waitStart = System.nanoTime();
+        Lock lock = acquireLock(userId); // 유저별로 lock 을 걸어줌
+        long lockedAt = pointMetrics.lockAcquired(Operation.USE, waitStart);
         try {
             // 1. 유저포인트객체를 가져온다.
-            UserPoint currUserPoint = userPointTable.selectById(pointHistoryDto.getUserId());
+            UserPoint currUserPoint = loadUserPoint(userId);
 
             // 2. 사용가능여부 검증
             if (currUserPoint.canUse(pointHistoryDto.getAmount())) {
+                pointMetrics.rejected(RejectCause.INSUFFICIENT_BALANCE);
                 throw new RuntimeException("포인트가 부족합니다.");
             }
             if (currUserPoint.isExpired(pointHistoryDto.getUpdateMillis())){
+                pointMetrics.rejected(RejectCause.EXPIRED);
                 throw new RuntimeException("만료된 포인트입니다.");
             }
 
             // 2.1 검증 후 포인트 사용
             @Valid
-            UserPoint uPoint = userPointTable.insertOrUpdate(currUserPoint.id(), currUserPoint.point() - pointHistoryDto.getAmount());
+            UserPoint uPoint = pointMetrics.tableWrite(() -> balanceStore.insertOrUpdate(currUserPoint.id(), currUserPoint.point() - pointHistoryDto.getAmount()));
+            userPointCache.put(uPoint);
 
             // 2.2. 사용히스토리 저장
-            pointHistoryTable.insert(pointHistoryDto.getUserId(), pointHistoryDto.getAmount(), pointHistoryDto.getType(), pointHistoryDto.getUpdateMillis());
+            pointHistoryWriter.write(uPoint, pointHistoryDto.getAmount(), pointHistoryDto.getType(), pointHistoryDto.getUpdateMillis());
 
             return uPoint;
         } finally {
-            lock.unlock();  // 로직 종료 시 Lock 해제
+            userLockRegistry.release(userId, lock);  // 로직 종료 시 Lock 해제
+            pointMetrics.lockReleased(Operation.USE, lockedAt);
+        }
+    }
+
+    /**
+     * 만료시간이 지난 잔고를 0 으로 만들고 만료 내역을 남김(PointExpiryWorker 에서 호출)
+     * - 등록한 뒤 잔고가 다시 바뀌었으면(수정시간이 다르면) 바뀔 때 새로 등록된 만료가 있으므로 건너뛴다.
+     * @param updateMillis 만료를 등록할 때의 잔고 수정시간
+     * @return 만료시킨 뒤의 유저 포인트(만료할 잔고가 없으면 null)
+     */
+    public UserPoint expire(long userId, long updateMillis) {
+        return pointMetrics.timed(Operation.EXPIRE, () -> {
+            long waitStart = System.nanoTime();
+            Lock lock = acquireLock(userId);
+            long lockedAt = pointMetrics.lockAcquired(Operation.EXPIRE, waitStart);
+            try {
+                // OPTIMISTIC 모드에서는 셀이 잔고의 원본이므로 셀에서 만료시킴(lock 밖의 compare-and-set 과 경합)
+                if (optimistic()) {
+                    return expireCell(balanceCells.cell(userId, this::loadCurrent), updateMillis);
+                }
+                UserPoint currUserPoint = loadUserPoint(userId);
+                if (!expirable(currUserPoint, updateMillis)) {
+                    return null;
+                }
+                UserPoint expired = withHistorySlot(() -> pointMetrics.tableWrite(() -> balanceStore.insertOrUpdate(userId, 0)));
+                userPointCache.put(expired);
+                pointHistoryWriter.write(expired, currUserPoint.point(), TransactionType.EXPIRE, expired.updateMillis());
+                pointMetrics.expired();
+                return expired;
+            } finally {
+                userLockRegistry.release(userId, lock);
+                pointMetrics.lockReleased(Operation.EXPIRE, lockedAt);
+            }
+        });
+    }
+
+    private UserPoint expireCell(BalanceCell cell, long updateMillis) {
+        pointHistoryWriter.reserve(1);
+        while (true) {
+            BalanceCell.Commit current = cell.current();
+            UserPoint currUserPoint = current.userPoint();
+            if (!expirable(currUserPoint, updateMillis)) {
+                pointHistoryWriter.release(1);
+                return null;
+            }
+            long now = System.currentTimeMillis();
+            UserPoint expired = new UserPoint(currUserPoint.id(), 0, now);
+            if (cell.compareAndSet(current, expired, currUserPoint.point(), TransactionType.EXPIRE, now) != null) {
+                drain(cell);
+                pointMetrics.expired();
+                return expired;
+            }
+        }
+    }
+
+    /**
+     * 등록 당시 그대로이고(수정시간이 같음) 만료시간이 지난 잔고인지 확인함
+     */
+    private static boolean expirable(UserPoint userPoint, long updateMillis) {
+        return userPoint.point() > 0
+                && userPoint.updateMillis() == updateMillis
+                && userPoint.isExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * 요청 수 제한을 통과한 요청만 실행함(한도를 넘으면 PointOverloadedException)
+     */
+    private UserPoint admitted(long userId, Supplier<UserPoint> body) {
+        admissionControl.enter(userId);
+        try {
+            return body.get();
+        } finally {
+            admissionControl.leave(userId);
         }
     }
+
+    /**
+     * 내역 대기열 자리를 하나 잡은 뒤 잔고를 바꿈(자리가 없으면 잔고를 바꾸지 않고 PointOverloadedException)
+     * - body 는 잔고를 바꾼 뒤 내역을 쓰고 끝나야 하며, 잔고를 바꾸기 전에 실패하면 자리를 돌려준다.
+     */
+    private UserPoint withHistorySlot(Supplier<UserPoint> body) {
+        pointHistoryWriter.reserve(1);
+        try {
+            return body.get();
+        } catch (RuntimeException e) {
+            pointHistoryWriter.release(1);
+            throw e;
+        }
+    }
+
+    /**
+     * 유저 lock 을 lockTimeout 까지만 기다림(못 얻으면 PointOverloadedException)
+     */
+    private Lock acquireLock(long userId) {
+        Lock lock = userLockRegistry.tryAcquire(userId, admissionControl.lockTimeout());
+        if (lock == null) {
+            pointMetrics.rejected(RejectCause.LOCK_TIMEOUT);
+            throw new PointOverloadedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return lock;
+    }
+
+    private boolean optimistic() {
+        return concurrencyProperties.mode() == PointConcurrencyProperties.Mode.OPTIMISTIC;
+    }
+
+    /**
+     * lock 없이 유저 잔고 셀을 compare-and-set 으로 갱신함(OPTIMISTIC 모드)
+     * - 재시도가 maxRetries 를 넘으면 유저 lock 을 잡고 마저 시도한다(lock 을 기다리는 스레드끼리는 경합하지 않음).
+     * - 커밋 후 내역 기록과 BalanceStore 저장은 셀에서 커밋 순서대로 모아서 한다.
+     *   내역 대기열 자리는 커밋 전에 잡아두므로, 누가 후처리하든 커밋된 내역은 거절되지 않는다.
+     * @param apply 현재 잔고로 검증하고 바뀐 잔고를 돌려줌
+     */
+    private UserPoint commitOptimistic(Operation operation, PointHistoryDto pointHistoryDto,
+                                       BiFunction<UserPoint, PointHistoryDto, UserPoint> apply) {
+        long userId = pointHistoryDto.getUserId();
+        BalanceCell cell = balanceCells.cell(userId, this::loadCurrent);
+        pointHistoryWriter.reserve(1);
+        BalanceCell.Commit commit;
+        try {
+            commit = tryCommit(cell, pointHistoryDto, apply, concurrencyProperties.maxRetries());
+            if (commit == null) {
+                pointMetrics.casFallback();
+                long waitStart = System.nanoTime();
+                Lock lock = acquireLock(userId);
+                long lockedAt = pointMetrics.lockAcquired(operation, waitStart);
+                try {
+                    commit = tryCommit(cell, pointHistoryDto, apply, Integer.MAX_VALUE);
+                } finally {
+                    userLockRegistry.release(userId, lock);
+                    pointMetrics.lockReleased(operation, lockedAt);
+                }
+            }
+        } catch (RuntimeException e) {
+            pointHistoryWriter.release(1);
+            throw e;
+        }
+
+        drain(cell);
+        return commit.userPoint();
+    }
+
+    /**
+     * 셀에 커밋된 내용을 커밋 순서대로 내역에 남기고 마지막 잔고만 저장함
+     * - 한 요청에서는 maxCombined 건까지만 처리하고 남은 커밋은 넘긴다.
+     * - 내역 자리는 커밋 전에 잡아두었으므로 write-behind 에서는 실패하지 않고, 동기 모드의 저장 실패나 잔고 저장 실패는
+     *   LOCK 모드처럼 요청에 그대로 던진다(실패한 내역은 다음 drain 에서 다시 기록).
+     */
+    private void drain(BalanceCell cell) {
+        cell.drain(
+                committed -> pointHistoryWriter.write(committed.userPoint(), committed.amount(), committed.type(), committed.updateMillis()),
+                latest -> pointMetrics.tableWrite(() -> balanceStore.insertOrUpdate(latest.id(), latest.point())),
+                concurrencyProperties.maxCombined(), balanceCells.handoff());
+    }
+
+    /**
+     * @return 성공한 커밋(maxRetries 번 재시도해도 실패하면 null)
+     */
+    private BalanceCell.Commit tryCommit(BalanceCell cell, PointHistoryDto pointHistoryDto,
+                                         BiFunction<UserPoint, PointHistoryDto, UserPoint> apply, int maxRetries) {
+        for (int retries = 0; ; retries++) {
+            BalanceCell.Commit current = cell.current();
+            UserPoint next = apply.apply(current.userPoint(), pointHistoryDto);
+            BalanceCell.Commit committed = cell.compareAndSet(current, next,
+                    pointHistoryDto.getAmount(), pointHistoryDto.getType(), pointHistoryDto.getUpdateMillis());
+            if (committed != null) {
+                return committed;
+            }
+            if (retries >= maxRetries) {
+                return null;
+            }
+            pointMetrics.casRetried();
+        }
+    }
+
+    /**
+     * 유저별 대기열에 요청을 넣고, 처리 중인 스레드가 없으면 직접 쌓인 요청을 모아 처리함(COMBINING 모드)
+     * - 처리하는 스레드만 유저 lock 을 잡고, 나머지는 lock 대신 자기 요청이 끝나기를 기다린다(park).
+     * - 처리를 마친 스레드는 대기열에 남은 첫 요청의 스레드를 깨워 다음 처리를 넘긴다.
+     * - 대기열은 넣은 스레드가 직접 참조하므로, map 에서 빠진 대기열에 넣은 요청도 그 스레드가 처리한다.
+     * @param apply 현재 잔고로 검증하고 바뀐 잔고를 돌려줌
+     */
+    private UserPoint commitCombined(Operation operation, PointHistoryDto pointHistoryDto,
+                                     BiFunction<UserPoint, PointHistoryDto, UserPoint> apply) {
+        long userId = pointHistoryDto.getUserId();
+        PendingOperation pending = new PendingOperation(pointHistoryDto, apply, new CompletableFuture<>(), Thread.currentThread());
+        Combiner combiner = combiners.computeIfAbsent(userId, id -> new Combiner());
+        combiner.queue.add(pending);
+
+        while (!pending.result().isDone()) {
+            if (!combiner.active.compareAndSet(false, true)) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                long waitStart = System.nanoTime();
+                Lock lock = acquireLock(userId);
+                long lockedAt = pointMetrics.lockAcquired(operation, waitStart);
+                try {
+                    combine(userId, combiner.queue);
+                } finally {
+                    userLockRegistry.release(userId, lock);
+                    pointMetrics.lockReleased(operation, lockedAt);
+                }
+            } catch (RuntimeException e) {
+                // lock 대기시간 초과 등으로 처리하지 못하면 내 요청만 빼서 실패시키고, 남은 요청은 다음 스레드에 넘김
+                if (combiner.queue.remove(pending)) {
+                    pending.fail(e);
+                }
+            } finally {
+                combiner.active.set(false);
+                PendingOperation next = combiner.queue.peek();
+                if (next != null) {
+                    LockSupport.unpark(next.thread());
+                } else {
+                    combiners.remove(userId, combiner);
+                }
+            }
+        }
+
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 대기열의 요청을 순서대로 잔고에 반영하고, 잔고는 마지막 값만 한 번 저장함(유저 lock 안에서 호출)
+     * - 검증에 실패한 요청만 실패로 끝나고 나머지는 이어서 반영된다.
+     * - 잔고를 저장하기 전에 반영한 요청 수만큼 내역 대기열 자리를 잡고, 못 잡으면 잔고를 저장하지 않고 모두 실패시킨다.
+     * - 요청마다 그 시점의 잔고로 내역을 남기고 결과로 돌려준다.
+     */
+    private void combine(long userId, Queue<PendingOperation> queue) {
+        List<PendingOperation> applied = new ArrayList<>();
+        List<UserPoint> results = new ArrayList<>();
+        UserPoint userPoint = loadUserPoint(userId);
+        PendingOperation pending;
+        while (applied.size() < concurrencyProperties.maxCombined() && (pending = queue.poll()) != null) {
+            try {
+                userPoint = pending.apply().apply(userPoint, pending.pointHistoryDto());
+                applied.add(pending);
+                results.add(userPoint);
+            } catch (RuntimeException rejected) {
+                pending.fail(rejected);
+            }
+        }
+        if (applied.isEmpty()) {
+            return;
+        }
+
+        try {
+            pointHistoryWriter.reserve(applied.size());
+        } catch (RuntimeException e) {
+            applied.forEach(operation -> operation.fail(e));
+            return;
+        }
+        long point = userPoint.point();
+        UserPoint saved;
+        try {
+            saved = pointMetrics.tableWrite(() -> balanceStore.insertOrUpdate(userId, point));
+        } catch (RuntimeException e) {
+            pointHistoryWriter.release(applied.size());
+            applied.forEach(operation -> operation.fail(e));
+            return;
+        }
+        userPointCache.put(saved);
+        results.set(results.size() - 1, saved);
+        pointMetrics.combined(applied.size());
+
+        for (int i = 0; i < applied.size(); i++) {
+            PendingOperation operation = applied.get(i);
+            PointHistoryDto pointHistoryDto = operation.pointHistoryDto();
+            try {
+                pointHistoryWriter.write(results.get(i), pointHistoryDto.getAmount(), pointHistoryDto.getType(), pointHistoryDto.getUpdateMillis());
+                operation.complete(results.get(i));
+            } catch (RuntimeException e) {
+                operation.fail(e);
+            }
+        }
+    }
+
+    /**
+     * 셀을 만들 때 쓸 현재 잔고(저널에서 복구한 캐시 값이 있으면 우선)
+     */
+    private UserPoint loadCurrent(long userId) {
+        UserPoint cached = userPointCache.peek(userId);
+        return cached != null ? cached : pointMetrics.tableRead(() -> balanceStore.selectById(userId));
+    }
+
+    /**
+     * 캐시에서 유저 포인트를 가져오고, 없으면 테이블에서 읽어 캐시에 채움(유저 lock 안에서 호출)
+     * @param userId
+     */
+    private UserPoint loadUserPoint(long userId) {
+        UserPoint cached = userPointCache.get(userId);
+        return cached != null ? cached : fetchUserPoint(userId);
+    }
+
+    private UserPoint fetchUserPoint(long userId) {
+        UserPoint userPoint = pointMetrics.tableRead(() -> balanceStore.selectById(userId));
+        userPointCache.put(userPoint);
+        return userPoint;
+    }
 }
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.admission;
+
+import io.hhplus.tdd.point.exception.PointOverloadedException;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointAdmissionControlTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PointMetrics pointMetrics;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pointMetrics = new PointMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("[요청수제한/실패] 유저별 한도를 넘은 요청만 거절하고, 끝난 요청만큼 다시 받는다")
+    public void 유저별_한도() {
+        // given: 유저당 2건
+        PointAdmissionControl admissionControl = new PointAdmissionControl(new PointAdmissionProperties(100, 2, Duration.ofSeconds(1)), pointMetrics, meterRegistry);
+        admissionControl.enter(10L);
+        admissionControl.enter(10L);
+
+        // when & then
+        assertThrows(PointOverloadedException.class, () -> admissionControl.enter(10L));
+        admissionControl.enter(20L);
+        admissionControl.leave(10L);
+        admissionControl.enter(10L);
+
+        assertEquals(3, admissionControl.inFlight());
+        assertEquals(2.0, meterRegistry.get("point.admission.user.depth.max").gauge().value());
+        assertEquals(2.0, meterRegistry.get("point.admission.users").gauge().value());
+        assertEquals(1.0, meterRegistry.get("point.rejected").tag("cause", "user_queue_full").counter().count());
+    }
+
+    @Test
+    @DisplayName("[요청수제한/실패] 서버 전체 한도를 넘으면 유저와 관계없이 거절한다")
+    public void 전체_한도() {
+        // given: 전체 2건
+        PointAdmissionControl admissionControl = new PointAdmissionControl(new PointAdmissionProperties(2, 10, Duration.ofSeconds(1)), pointMetrics, meterRegistry);
+        admissionControl.enter(10L);
+        admissionControl.enter(20L);
+
+        // when & then
+        assertThrows(PointOverloadedException.class, () -> admissionControl.enter(30L));
+        admissionControl.leave(10L);
+        admissionControl.leave(20L);
+
+        assertEquals(0, admissionControl.inFlight());
+        assertEquals(0.0, meterRegistry.get("point.admission.users").gauge().value());
+        assertEquals(1.0, meterRegistry.get("point.rejected").tag("cause", "in_flight_limit").counter().count());
+    }
+}
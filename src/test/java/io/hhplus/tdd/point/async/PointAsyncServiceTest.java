@@ -0,0 +1,144 @@
+package io.hhplus.tdd.point.async;
+
+import io.hhplus.tdd.point.batch.PointBatchService;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointOutcomeUnknownException;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyCache;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyProperties;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointAsyncServiceTest {
+
+    @Mock
+    private PointService pointService;
+
+    @Mock
+    private PointBatchService pointBatchService;
+
+    private ExecutorService executorService;
+    private PointAsyncService pointAsyncService;
+
+    @BeforeEach
+    public void setUp() {
+        // 처리 스레드 1개, 제한시간 100ms
+        executorService = Executors.newSingleThreadExecutor();
+        pointAsyncService = new PointAsyncService(pointService, pointBatchService, executorService, new PointAsyncProperties(Duration.ofMillis(100), 1, 10),
+                new PointIdempotencyCache(new PointIdempotencyProperties(Duration.ofMinutes(10), 1024, 255), new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("[비동기/성공] 처리 결과와 거절 사유를 그대로 전달한다")
+    public void 결과_전달() throws Exception {
+        // given
+        PointHistoryDto charge = new PointHistoryDto(10L, 500, TransactionType.CHARGE);
+        PointHistoryDto use = new PointHistoryDto(10L, 2000, TransactionType.USE);
+        when(pointService.charge(charge)).thenReturn(new UserPoint(10L, 1500, System.currentTimeMillis()));
+        when(pointService.use(use)).thenThrow(new RuntimeException("포인트가 부족합니다."));
+
+        // when
+        UserPoint charged = pointAsyncService.charge(charge).get(1, TimeUnit.SECONDS);
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> pointAsyncService.use(use).get(1, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(1500L, charged.point());
+        assertEquals("포인트가 부족합니다.", thrown.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("[비동기/실패] 처리 중 제한시간을 넘긴 충전은 반영 여부를 알 수 없음, 대기열에서 시간이 지난 요청은 취소하고 TimeoutException")
+    public void 제한시간_초과() throws Exception {
+        // given: 첫 요청이 처리 스레드를 300ms 동안 붙잡음
+        when(pointService.charge(any(PointHistoryDto.class))).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(300);
+            return new UserPoint(10L, 1500, System.currentTimeMillis());
+        });
+
+        // when
+        CompletableFuture<UserPoint> slow = pointAsyncService.charge(new PointHistoryDto(10L, 500, TransactionType.CHARGE));
+        CompletableFuture<UserPoint> queued = pointAsyncService.use(new PointHistoryDto(20L, 100, TransactionType.USE));
+
+        // then
+        ExecutionException slowThrown = assertThrows(ExecutionException.class, () -> slow.get(1, TimeUnit.SECONDS));
+        ExecutionException queuedThrown = assertThrows(ExecutionException.class, () -> queued.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(PointOutcomeUnknownException.class, slowThrown.getCause());
+        assertInstanceOf(TimeoutException.class, queuedThrown.getCause());
+
+        // 처리 스레드가 풀린 뒤에도 대기하던 사용 요청은 실행되지 않음
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.SECONDS);
+        verify(pointService, never()).use(any(PointHistoryDto.class));
+    }
+
+    @Test
+    @DisplayName("[비동기/멱등] 제한시간을 넘겼어도 반영된 충전은 같은 Idempotency-Key 재시도에 그 결과를 돌려준다")
+    public void 멱등키_재시도() throws Exception {
+        // given: 충전이 제한시간(100ms)보다 오래 걸림
+        UserPoint committed = new UserPoint(10L, 1500, System.currentTimeMillis());
+        when(pointService.charge(any(PointHistoryDto.class))).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(200);
+            return committed;
+        });
+        CompletableFuture<UserPoint> first = pointAsyncService.charge(new PointHistoryDto(10L, 500, TransactionType.CHARGE, "retry-1"));
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(PointOutcomeUnknownException.class, thrown.getCause());
+        TimeUnit.MILLISECONDS.sleep(300);
+
+        // when: 클라이언트가 같은 키로 재시도
+        CompletableFuture<UserPoint> retried = pointAsyncService.charge(new PointHistoryDto(10L, 500, TransactionType.CHARGE, "retry-1"));
+
+        // then: 처리 스레드를 거치지 않고 처음 결과를 돌려주며, 충전은 한 번만 반영됨
+        assertEquals(true, retried.isDone());
+        assertEquals(1500L, retried.get().point());
+        assertEquals(committed.updateMillis(), retried.get().updateMillis());
+        verify(pointService, times(1)).charge(any(PointHistoryDto.class));
+    }
+
+    @Test
+    @DisplayName("[비동기/실패] 처리 중 제한시간을 넘긴 조회는 잔고를 바꾸지 않으므로 TimeoutException")
+    public void 조회_제한시간_초과() {
+        // given
+        when(pointService.point(10L)).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(300);
+            return new UserPoint(10L, 1500, System.currentTimeMillis());
+        });
+
+        // when
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> pointAsyncService.point(10L).get(1, TimeUnit.SECONDS));
+
+        // then
+        assertInstanceOf(TimeoutException.class, thrown.getCause());
+    }
+}
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BalanceCellTest {
+
+    @Test
+    @DisplayName("[잔고셀/성공] 한 번의 drain 은 maxCommits 건까지만 처리하고 남은 커밋은 handoff 에 넘긴다")
+    public void 후처리_건수_제한() {
+        // given: 커밋 5건
+        BalanceCell cell = new BalanceCell(UserPoint.empty(10L));
+        commit(cell, 5);
+        List<Long> published = new ArrayList<>();
+        List<Long> persisted = new ArrayList<>();
+        List<Runnable> handedOff = new ArrayList<>();
+
+        // when
+        cell.drain(commit -> published.add(commit.userPoint().point()), userPoint -> persisted.add(userPoint.point()), 2, handedOff::add);
+
+        // then: 2건만 처리하고 나머지는 넘김
+        assertEquals(List.of(100L, 200L), published);
+        assertEquals(List.of(200L), persisted);
+        assertEquals(1, handedOff.size());
+
+        // 넘겨받은 쪽이 이어서 처리
+        handedOff.remove(0).run();
+        handedOff.remove(0).run();
+        assertEquals(List.of(100L, 200L, 300L, 400L, 500L), published);
+        assertEquals(List.of(200L, 400L, 500L), persisted);
+        assertEquals(0, handedOff.size());
+    }
+
+    @Test
+    @DisplayName("[잔고셀/실패] 내역 기록이 실패하면 호출한 쪽에 던지고, 실패한 커밋부터 다음 drain 에서 다시 기록한다")
+    public void 후처리_실패() {
+        // given: 커밋 3건, 두 번째 내역 기록이 한 번 실패
+        BalanceCell cell = new BalanceCell(UserPoint.empty(10L));
+        commit(cell, 3);
+        List<Long> published = new ArrayList<>();
+        boolean[] failed = {false};
+
+        // when & then
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> cell.drain(commit -> {
+            if (commit.userPoint().point() == 200L && !failed[0]) {
+                failed[0] = true;
+                throw new RuntimeException("내역 저장 실패");
+            }
+            published.add(commit.userPoint().point());
+        }, userPoint -> {}, 10, Runnable::run));
+        assertEquals("내역 저장 실패", thrown.getMessage());
+        assertEquals(List.of(100L), published);
+
+        cell.drain(commit -> published.add(commit.userPoint().point()), userPoint -> {}, 10, Runnable::run);
+        assertEquals(List.of(100L, 200L, 300L), published);
+    }
+
+    private static void commit(BalanceCell cell, int count) {
+        for (int i = 0; i < count; i++) {
+            BalanceCell.Commit current = cell.current();
+            UserPoint next = new UserPoint(10L, current.userPoint().point() + 100, i);
+            cell.compareAndSet(current, next, 100, TransactionType.CHARGE, i);
+        }
+    }
+}
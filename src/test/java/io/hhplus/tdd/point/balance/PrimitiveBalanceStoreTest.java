@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrimitiveBalanceStoreTest {
+
+    @Test
+    @DisplayName("[잔고저장소/성공] 저장한 잔고를 조회하고, 없는 유저는 0 포인트로 조회된다")
+    public void 잔고_저장_조회() {
+        // given
+        PrimitiveBalanceStore store = new PrimitiveBalanceStore(16);
+
+        // when
+        UserPoint saved = store.insertOrUpdate(10L, 1000L);
+        store.insertOrUpdate(10L, 1500L);
+        store.put(0L, 300L, 1L);
+        store.put(-5L, 700L, 2L);
+
+        // then
+        assertEquals(10L, saved.id());
+        assertEquals(1500L, store.selectById(10L).point());
+        assertEquals(new UserPoint(0L, 300L, 1L), store.selectById(0L));
+        assertEquals(new UserPoint(-5L, 700L, 2L), store.selectById(-5L));
+        assertEquals(0L, store.selectById(11L).point());
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    @DisplayName("[잔고저장소/성공] 초기 크기보다 많은 유저를 저장해도 모두 조회된다")
+    public void 배열_확장() {
+        // given
+        PrimitiveBalanceStore store = new PrimitiveBalanceStore(1);
+
+        // when
+        for (long userId = 1; userId <= 100_000; userId++) {
+            store.put(userId, userId % 5000, userId);
+        }
+
+        // then
+        assertEquals(100_000, store.size());
+        for (long userId = 1; userId <= 100_000; userId++) {
+            assertEquals(new UserPoint(userId, userId % 5000, userId), store.selectById(userId));
+        }
+    }
+
+    @Test
+    @DisplayName("[잔고저장소/동시성] 여러 스레드가 서로 다른 유저를 저장하고 조회해도 값이 섞이지 않는다")
+    public void 동시_저장_조회() throws Exception {
+        // given
+        PrimitiveBalanceStore store = new PrimitiveBalanceStore(1);
+        int threads = 8;
+        int usersPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when: 스레드마다 자기 유저를 저장하면서 바로 다시 읽음(다른 스레드의 배열 확장과 겹침)
+        List<Future<Integer>> mismatches = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * usersPerThread;
+            mismatches.add(executor.submit(() -> {
+                int mismatch = 0;
+                for (long userId = base + 1; userId <= base + usersPerThread; userId++) {
+                    store.put(userId, userId, userId);
+                    if (store.selectById(userId).point() != userId) {
+                        mismatch++;
+                    }
+                }
+                return mismatch;
+            }));
+        }
+
+        // then
+        for (Future<Integer> mismatch : mismatches) {
+            assertEquals(0, mismatch.get());
+        }
+        executor.shutdown();
+        assertEquals((long) threads * usersPerThread, store.size());
+    }
+}
@@ -0,0 +1,182 @@
+package io.hhplus.tdd.point.batch;
+
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.admission.PointAdmissionProperties;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.lock.RefCountedUserLockRegistry;
+import io.hhplus.tdd.point.lock.UserLockRegistry;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.service.PointConcurrencyProperties;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointBatchServiceTest {
+
+    @Mock
+    private PointService pointService;
+
+    private ExecutorService executorService;
+    private UserLockRegistry userLockRegistry;
+    private PointBatchService pointBatchService;
+
+    @BeforeEach
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        userLockRegistry = new RefCountedUserLockRegistry();
+        pointBatchService = pointBatchService(PointConcurrencyProperties.Mode.LOCK);
+    }
+
+    private PointBatchService pointBatchService(PointConcurrencyProperties.Mode mode) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointAdmissionControl admissionControl = new PointAdmissionControl(
+                new PointAdmissionProperties(10000, 64, Duration.ofMillis(100)), new PointMetrics(meterRegistry), meterRegistry);
+        return new PointBatchService(pointService, userLockRegistry, executorService, new PointBatchProperties(4, 100),
+                new PointConcurrencyProperties(mode, 8, 256), admissionControl);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("[일괄처리/성공] 유저별 요청 순서대로 처리하고 실패한 건이 있어도 나머지를 처리한다")
+    public void 일괄처리_부분실패() {
+        // given: 유저별 잔고를 map 으로 흉내냄(최대잔고 5000)
+        Map<Long, Long> balances = new ConcurrentHashMap<>();
+        when(pointService.charge(any(PointHistoryDto.class))).thenAnswer(invocation -> {
+            PointHistoryDto dto = invocation.getArgument(0);
+            long next = balances.getOrDefault(dto.getUserId(), 0L) + dto.getAmount();
+            if (next > 5000) {
+                throw new RuntimeException("최대잔고를 초과함");
+            }
+            balances.put(dto.getUserId(), next);
+            return new UserPoint(dto.getUserId(), next, System.currentTimeMillis());
+        });
+        when(pointService.use(any(PointHistoryDto.class))).thenAnswer(invocation -> {
+            PointHistoryDto dto = invocation.getArgument(0);
+            long next = balances.getOrDefault(dto.getUserId(), 0L) - dto.getAmount();
+            balances.put(dto.getUserId(), next);
+            return new UserPoint(dto.getUserId(), next, System.currentTimeMillis());
+        });
+
+        List<PointOperationDto> operations = List.of(
+                new PointOperationDto(1L, 3000, TransactionType.CHARGE),
+                new PointOperationDto(2L, 1000, TransactionType.CHARGE),
+                new PointOperationDto(1L, 3000, TransactionType.CHARGE), // 최대잔고 초과
+                new PointOperationDto(1L, 1000, TransactionType.USE),
+                new PointOperationDto(2L, 500, TransactionType.USE));
+
+        // when
+        List<PointOperationResult> results = pointBatchService.process(operations);
+
+        // then
+        assertEquals(5, results.size());
+        assertEquals(3000L, results.get(0).userPoint().point());
+        assertEquals(1000L, results.get(1).userPoint().point());
+        assertNull(results.get(2).userPoint());
+        assertNotNull(results.get(2).error());
+        assertEquals("최대잔고를 초과함", results.get(2).error().message());
+        assertEquals(2000L, results.get(3).userPoint().point());
+        assertEquals(500L, results.get(4).userPoint().point());
+    }
+
+    @Test
+    @DisplayName("[일괄처리/실패] LOCK 모드에서 유저 lock 을 lockTimeout 안에 얻지 못하면 그 유저의 요청만 429 로 실패한다")
+    public void 일괄처리_lock_대기시간_초과() throws Exception {
+        // given: 다른 스레드가 유저 1 의 lock 을 잡고 있음
+        when(pointService.charge(any(PointHistoryDto.class))).thenAnswer(invocation -> {
+            PointHistoryDto dto = invocation.getArgument(0);
+            return new UserPoint(dto.getUserId(), dto.getAmount(), System.currentTimeMillis());
+        });
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            Lock lock = userLockRegistry.acquire(1L);
+            try {
+                locked.countDown();
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                userLockRegistry.release(1L, lock);
+            }
+        });
+        locked.await(5, TimeUnit.SECONDS);
+
+        // when
+        List<PointOperationResult> results = pointBatchService.process(List.of(
+                new PointOperationDto(1L, 1000, TransactionType.CHARGE),
+                new PointOperationDto(2L, 1000, TransactionType.CHARGE),
+                new PointOperationDto(1L, 500, TransactionType.CHARGE)));
+        done.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals("429", results.get(0).error().code());
+        assertEquals("429", results.get(2).error().code());
+        assertEquals(1000L, results.get(1).userPoint().point());
+    }
+
+    @Test
+    @DisplayName("[일괄처리/성공] LOCK 이 아닌 모드에서는 바깥 유저 lock 을 잡지 않는다")
+    public void 일괄처리_lock_없이_처리() throws Exception {
+        // given: 다른 스레드가 유저 1 의 lock 을 잡고 있어도 OPTIMISTIC 모드는 기다리지 않음
+        PointBatchService optimistic = pointBatchService(PointConcurrencyProperties.Mode.OPTIMISTIC);
+        when(pointService.charge(any(PointHistoryDto.class))).thenAnswer(invocation -> {
+            PointHistoryDto dto = invocation.getArgument(0);
+            return new UserPoint(dto.getUserId(), dto.getAmount(), System.currentTimeMillis());
+        });
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            Lock lock = userLockRegistry.acquire(1L);
+            try {
+                locked.countDown();
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                userLockRegistry.release(1L, lock);
+            }
+        });
+        locked.await(5, TimeUnit.SECONDS);
+
+        // when
+        List<PointOperationResult> results = optimistic.process(List.of(new PointOperationDto(1L, 1000, TransactionType.CHARGE)));
+        done.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(1000L, results.get(0).userPoint().point());
+    }
+}
@@ -0,0 +1,136 @@
+package io.hhplus.tdd.point.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PointResponseCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ColumnarPointHistoryStore pointHistoryStore;
+    private PointResponseCodec pointResponseCodec;
+
+    @BeforeEach
+    public void setUp() {
+        pointHistoryStore = new ColumnarPointHistoryStore();
+        // 최소 크기(256 byte) 버퍼 1개를 돌려 씀
+        pointResponseCodec = new PointResponseCodec(new PointCodecProperties(1, 1));
+    }
+
+    @Test
+    @DisplayName("[직렬화/JSON] 잔고와 내역은 Jackson 과 같은 JSON 으로 쓴다")
+    public void JSON_Jackson_과_같음() throws IOException {
+        // given
+        UserPoint userPoint = new UserPoint(1L, 4200, 1_700_000_000_123L);
+        pointHistoryStore.insert(1L, 1000, TransactionType.CHARGE, 1_700_000_000_000L);
+        pointHistoryStore.insert(1L, Long.MAX_VALUE, TransactionType.USE, 0L);
+        pointHistoryStore.insert(1L, -1, TransactionType.EXPIRE, 1L);
+
+        // when
+        String point = json(userPoint);
+        String histories = json(page(1L));
+
+        // then
+        assertEquals(objectMapper.writeValueAsString(userPoint), point);
+        assertEquals(objectMapper.writeValueAsString(toList(page(1L))), histories);
+        assertEquals("[]", json(page(2L)));
+    }
+
+    @Test
+    @DisplayName("[직렬화/JSON] 버퍼보다 큰 페이지도 나눠 써서 같은 결과를 낸다")
+    public void 버퍼보다_큰_페이지() throws IOException {
+        // given: 1000건(약 100KB)
+        for (int i = 0; i < PointHistoryQuery.MAX_LIMIT; i++) {
+            pointHistoryStore.insert(1L, i * 100L, TransactionType.values()[i % 3], 1_700_000_000_000L + i);
+        }
+        PointHistoryQuery query = new PointHistoryQuery(null, PointHistoryQuery.MAX_LIMIT, null, null, null);
+
+        // when: 같은 버퍼를 두 번 빌려 씀
+        String first = json(pointHistoryStore.page(1L, query));
+        String second = json(pointHistoryStore.page(1L, query));
+
+        // then
+        assertEquals(objectMapper.writeValueAsString(toList(pointHistoryStore.page(1L, query))), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("[직렬화/BINARY] 잔고는 24 byte, 내역은 33 byte 고정 길이 big-endian 레코드로 쓴다")
+    public void 바이너리_레코드() throws IOException {
+        // given
+        UserPoint userPoint = new UserPoint(7L, 300, 1_700_000_000_000L);
+        pointHistoryStore.insert(7L, 500, TransactionType.CHARGE, 100L);
+        pointHistoryStore.insert(7L, 200, TransactionType.USE, 200L);
+
+        // when
+        ByteArrayOutputStream point = new ByteArrayOutputStream();
+        pointResponseCodec.write(userPoint, PointResponseFormat.BINARY, point);
+        ByteArrayOutputStream histories = new ByteArrayOutputStream();
+        pointResponseCodec.write(page(7L), PointResponseFormat.BINARY, histories);
+
+        // then
+        DataInputStream pointInput = new DataInputStream(new ByteArrayInputStream(point.toByteArray()));
+        assertEquals(PointResponseCodec.USER_POINT_BINARY_SIZE, point.size());
+        assertEquals(userPoint, new UserPoint(pointInput.readLong(), pointInput.readLong(), pointInput.readLong()));
+
+        assertEquals(2 * PointResponseCodec.POINT_HISTORY_BINARY_SIZE, histories.size());
+        DataInputStream historyInput = new DataInputStream(new ByteArrayInputStream(histories.toByteArray()));
+        List<PointHistory> decoded = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            decoded.add(new PointHistory(historyInput.readLong(), historyInput.readLong(), historyInput.readLong(),
+                    TransactionType.values()[historyInput.readByte()], historyInput.readLong()));
+        }
+        assertEquals(toList(page(7L)), decoded);
+    }
+
+    @Test
+    @DisplayName("[직렬화/협상] Accept 에 바이너리가 JSON 이상의 q 값으로 있을 때만 바이너리로 쓴다")
+    public void 형식_협상() {
+        assertEquals(PointResponseFormat.JSON, PointResponseFormat.negotiate(null));
+        assertEquals(PointResponseFormat.JSON, PointResponseFormat.negotiate("*/*"));
+        assertEquals(PointResponseFormat.JSON, PointResponseFormat.negotiate("application/json"));
+        assertEquals(PointResponseFormat.BINARY, PointResponseFormat.negotiate("application/x-point-binary"));
+        assertEquals(PointResponseFormat.BINARY, PointResponseFormat.negotiate("application/x-point-binary, application/json;q=0.5"));
+        assertEquals(PointResponseFormat.JSON, PointResponseFormat.negotiate("application/x-point-binary;q=0.5, */*"));
+        assertEquals(PointResponseFormat.JSON, PointResponseFormat.negotiate("application/x-point-binary;q=0"));
+    }
+
+    private PointHistorySlice page(long userId) {
+        return pointHistoryStore.page(userId, PointHistoryQuery.firstPage());
+    }
+
+    private String json(UserPoint userPoint) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        pointResponseCodec.write(userPoint, PointResponseFormat.JSON, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String json(PointHistorySlice slice) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        pointResponseCodec.write(slice, PointResponseFormat.JSON, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static List<PointHistory> toList(PointHistorySlice slice) {
+        List<PointHistory> histories = new ArrayList<>();
+        slice.forEach(histories::add);
+        return histories;
+    }
+}
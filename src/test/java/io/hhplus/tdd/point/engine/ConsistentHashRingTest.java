@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final int USERS = 100_000;
+
+    @Test
+    @DisplayName("[hash ring/성공] 연속된 유저 id 도 shard 마다 고르게 나뉜다")
+    public void 고르게_분배() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(8, 128);
+        int[] counts = new int[8];
+
+        // when
+        for (long userId = 1; userId <= USERS; userId++) {
+            counts[ring.shardOf(userId)]++;
+        }
+
+        // then: 평균(12500)에서 30% 이상 벗어난 shard 가 없음
+        for (int count : counts) {
+            assertTrue(Math.abs(count - USERS / 8) < USERS / 8 * 0.3, "shard 유저 수: " + count);
+        }
+    }
+
+    @Test
+    @DisplayName("[hash ring/성공] shard 를 하나 늘리면 새 shard 로 가는 유저만 옮겨진다")
+    public void shard_추가시_일부만_이동() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(4, 128);
+        ConsistentHashRing after = new ConsistentHashRing(5, 128);
+
+        // when
+        int moved = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            int from = before.shardOf(userId);
+            int to = after.shardOf(userId);
+            if (from != to) {
+                moved++;
+                assertEquals(4, to);
+            }
+        }
+
+        // then: 약 1/5 만 옮겨짐
+        assertTrue(moved > USERS * 0.1 && moved < USERS * 0.3, "옮겨진 유저 수: " + moved);
+    }
+}
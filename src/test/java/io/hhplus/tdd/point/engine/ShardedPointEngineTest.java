@@ -0,0 +1,195 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.admission.PointAdmissionProperties;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.exception.PointOutcomeUnknownException;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyCache;
+import io.hhplus.tdd.point.idempotency.PointIdempotencyProperties;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedPointEngineTest {
+
+    private static final int USERS = 64;
+
+    private ShardedPointEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        engine = engine(4, 10000, Duration.ofSeconds(5));
+    }
+
+    private static ShardedPointEngine engine(int shards, int queueCapacity, Duration timeout) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        PointAdmissionControl admissionControl = new PointAdmissionControl(new PointAdmissionProperties(10000, 64, Duration.ofSeconds(2)), pointMetrics, meterRegistry);
+        return new ShardedPointEngine(new PointEngineProperties(PointEngine.Type.SHARDED, shards, 128, queueCapacity),
+                1024, 1024, timeout, 1000, pointMetrics, admissionControl,
+                new PointIdempotencyCache(new PointIdempotencyProperties(Duration.ofMinutes(10), 1024, 255), meterRegistry),
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        engine.close();
+    }
+
+    @Test
+    @DisplayName("[shard/성공] 여러 shard 에서 동시에 충전해도 유저별 잔고와 내역이 맞고, 내역 id 는 shard 끼리 겹치지 않는다")
+    public void shard별_동시_충전() throws Exception {
+        // given: 유저마다 100 포인트씩 10번 충전
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (long userId = 1; userId <= USERS; userId++) {
+                futures.add(engine.charge(new PointHistoryDto(userId, 100, TransactionType.CHARGE)));
+            }
+        }
+
+        // when
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        Set<Integer> usedShards = new HashSet<>();
+        Set<Long> historyIds = new HashSet<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            usedShards.add(engine.shardOf(userId));
+            assertEquals(1000L, engine.point(userId).get().point());
+            List<PointHistory> histories = new ArrayList<>();
+            engine.history(userId, new PointHistoryQuery(null, 100, null, null, null)).get().forEach(histories::add);
+            assertEquals(10, histories.size());
+            histories.forEach(pointHistory -> historyIds.add(pointHistory.id()));
+        }
+        assertEquals(4, usedShards.size());
+        assertEquals(USERS * 10, historyIds.size());
+    }
+
+    @Test
+    @DisplayName("[shard/성공] 일괄 처리는 유저별 순서를 지키고 실패한 건만 실패로 돌려준다")
+    public void 일괄_처리() throws Exception {
+        // given
+        List<PointOperationDto> operations = List.of(
+                new PointOperationDto(1L, 1000, TransactionType.CHARGE),
+                new PointOperationDto(2L, 500, TransactionType.USE),
+                new PointOperationDto(1L, 300, TransactionType.USE),
+                new PointOperationDto(2L, 100, null));
+
+        // when
+        List<PointOperationResult> results = engine.batch(operations).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(1000L, results.get(0).userPoint().point());
+        assertEquals(700L, results.get(2).userPoint().point());
+        assertEquals("포인트가 부족합니다.", results.get(1).error().message());
+        assertEquals("트랜잭션 종류가 없습니다.", results.get(3).error().message());
+        assertNull(results.get(3).userPoint());
+    }
+
+    @Test
+    @DisplayName("[shard/실패] 사용 금액이 잔고보다 크면 실패한 future 를 돌려준다")
+    public void 잔고_부족() {
+        // when
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> engine.use(new PointHistoryDto(7L, 500, TransactionType.USE)).get(5, TimeUnit.SECONDS));
+
+        // then
+        assertEquals("포인트가 부족합니다.", thrown.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("[shard/실패] 금액이 100 미만이거나 0 이하면 검증에 실패하고 잔고는 그대로다")
+    public void 금액_검증() throws Exception {
+        // given
+        engine.charge(new PointHistoryDto(3L, 1000, TransactionType.CHARGE)).get(5, TimeUnit.SECONDS);
+
+        // when & then
+        for (PointHistoryDto invalid : List.of(
+                new PointHistoryDto(3L, 50, TransactionType.CHARGE),
+                new PointHistoryDto(3L, 0, TransactionType.CHARGE),
+                new PointHistoryDto(3L, -100, TransactionType.USE),
+                new PointHistoryDto(0L, 1000, TransactionType.CHARGE))) {
+            CompletableFuture<?> future = invalid.getType() == TransactionType.USE ? engine.use(invalid) : engine.charge(invalid);
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertTrue(thrown.getCause() instanceof ConstraintViolationException);
+        }
+        assertEquals(1000L, engine.point(3L).get().point());
+    }
+
+    @Test
+    @DisplayName("[shard/실패] 일괄 처리에서 금액 검증에 실패한 건만 실패로 돌려준다")
+    public void 일괄_금액_검증() throws Exception {
+        // given
+        List<PointOperationDto> operations = List.of(
+                new PointOperationDto(4L, 1000, TransactionType.CHARGE),
+                new PointOperationDto(4L, 50, TransactionType.CHARGE),
+                new PointOperationDto(4L, -100, TransactionType.USE));
+
+        // when
+        List<PointOperationResult> results = engine.batch(operations).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(1000L, results.get(0).userPoint().point());
+        assertNull(results.get(1).userPoint());
+        assertNull(results.get(2).userPoint());
+        assertEquals(1000L, engine.point(4L).get().point());
+    }
+
+    @Test
+    @DisplayName("[shard/실패] 일괄 처리 중 timeout 이나 대기열 거절이 나면 그 유저의 건만 503(시작 전)/504(처리 중) 실패로 채우고 전체는 정상 완료한다")
+    public void 일괄_처리_시간_초과() throws Exception {
+        // given: shard 1개, 대기열 1칸, timeout 1ns 라 대부분의 유저 묶음이 거절되거나 시간이 초과된다
+        engine.close();
+        engine = engine(1, 1, Duration.ofNanos(1));
+        List<PointOperationDto> operations = new ArrayList<>();
+        for (long userId = 1; userId <= 500; userId++) {
+            operations.add(new PointOperationDto(userId, 100, TransactionType.CHARGE));
+        }
+
+        // when
+        List<PointOperationResult> results = engine.batch(operations).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(500, results.size());
+        int failed = 0;
+        for (PointOperationResult result : results) {
+            assertNotNull(result);
+            if (result.error() != null) {
+                failed++;
+                if (result.error().code().equals("504")) {
+                    assertEquals(PointOutcomeUnknownException.MESSAGE, result.error().message());
+                } else {
+                    assertEquals("503", result.error().code());
+                    assertTrue(result.error().message().equals("요청 처리 시간이 초과되었습니다.")
+                            || result.error().message().equals("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+                }
+            }
+        }
+        assertTrue(failed > 0);
+    }
+}
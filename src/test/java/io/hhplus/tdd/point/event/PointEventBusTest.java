@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PointEventBusTest {
+
+    private PointEventBus pointEventBus;
+
+    @BeforeEach
+    public void setUp() {
+        // ring 크기 16
+        pointEventBus = new PointEventBus(new PointEventProperties(16, 4, Duration.ofMillis(20), Duration.ofSeconds(15), Duration.ofMinutes(30)),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("[이벤트 버스/성공] 구독자마다 자기 커서로 같은 이벤트를 순서대로 받는다")
+    public void 구독자별_커서() {
+        // given: 구독 A 는 처음부터, 구독 B 는 3건 발행 뒤부터
+        PointEventSubscription first = pointEventBus.subscribe(null);
+        publish(1L, 3);
+        PointEventSubscription second = pointEventBus.subscribe(null);
+        publish(2L, 2);
+
+        // when
+        List<PointEvent> firstEvents = new ArrayList<>();
+        List<PointEvent> secondEvents = new ArrayList<>();
+        first.poll(2, firstEvents::add);
+        second.poll(100, secondEvents::add);
+        first.poll(100, firstEvents::add);
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), firstEvents.stream().map(PointEvent::sequence).toList());
+        assertEquals(List.of(4L, 5L), secondEvents.stream().map(PointEvent::sequence).toList());
+        assertEquals(2L, secondEvents.get(0).userId());
+        assertEquals(100L, secondEvents.get(0).point());
+        assertEquals(5L, first.lastSequence());
+    }
+
+    @Test
+    @DisplayName("[이벤트 버스/성공] 뒤처진 구독자는 발행을 막지 않고 남아 있는 가장 오래된 이벤트로 건너뛴다")
+    public void 느린_구독자() {
+        // given: 읽지 않는 구독자, ring 크기(16)보다 많은 40건 발행
+        PointEventSubscription slow = pointEventBus.subscribe(null);
+        publish(1L, 40);
+
+        // when
+        List<PointEvent> events = new ArrayList<>();
+        slow.poll(100, events::add);
+
+        // then: 마지막 16건만 받고 24건은 놓친 것으로 기록
+        assertEquals(16, events.size());
+        assertEquals(25L, events.get(0).sequence());
+        assertEquals(40L, events.get(15).sequence());
+        assertEquals(24L, slow.lost());
+    }
+
+    @Test
+    @DisplayName("[이벤트 버스/성공] 마지막으로 받은 순번 이후부터 이어서 구독한다")
+    public void 이어받기() {
+        // given
+        publish(1L, 5);
+
+        // when
+        List<PointEvent> events = new ArrayList<>();
+        pointEventBus.subscribe(3L).poll(100, events::add);
+
+        // then
+        assertEquals(List.of(4L, 5L), events.stream().map(PointEvent::sequence).toList());
+    }
+
+    @Test
+    @DisplayName("[이벤트 버스/성공] 여러 스레드가 동시에 발행해도 순번이 빠짐없이 이어진다")
+    public void 동시_발행() throws Exception {
+        // given
+        PointEventBus bus = new PointEventBus(new PointEventProperties(4096, 4, Duration.ofMillis(20), Duration.ofSeconds(15), Duration.ofMinutes(30)),
+                new SimpleMeterRegistry());
+        PointEventSubscription subscription = bus.subscribe(null);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            long userId = i;
+            futures.add(executorService.submit(() -> {
+                for (int j = 0; j < 500; j++) {
+                    bus.publish(new PointHistory(j, userId, 100, TransactionType.CHARGE, j), new UserPoint(userId, 100, j));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // when
+        List<PointEvent> events = new ArrayList<>();
+        subscription.poll(10000, events::add);
+
+        // then
+        assertEquals(4000, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i + 1L, events.get(i).sequence());
+        }
+        assertEquals(0L, subscription.lost());
+    }
+
+    private void publish(long userId, int count) {
+        for (int i = 1; i <= count; i++) {
+            pointEventBus.publish(new PointHistory(i, userId, 100, TransactionType.CHARGE, i), new UserPoint(userId, 100L * i, i));
+        }
+    }
+}
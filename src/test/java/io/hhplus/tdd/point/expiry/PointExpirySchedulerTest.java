@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointExpirySchedulerTest {
+
+    @Test
+    @DisplayName("[만료 스케줄러/성공] 잔고가 남은 내역만 수정시간 + 만료시간 뒤에 만료시킨다")
+    public void 만료_등록() {
+        // given
+        long now = System.currentTimeMillis();
+        PointExpiryScheduler scheduler = new PointExpiryScheduler(new PointExpiryProperties(true, Duration.ofMillis(100), 4, 4, 16), new SimpleMeterRegistry());
+        scheduler.onCommitted(new PointHistory(1L, 1L, 1000, TransactionType.CHARGE, now), new UserPoint(1L, 1000, now));
+        scheduler.onCommitted(new PointHistory(2L, 2L, 500, TransactionType.USE, now), new UserPoint(2L, 0, now));
+        scheduler.onCommitted(new PointHistory(3L, 3L, 700, TransactionType.EXPIRE, now), new UserPoint(3L, 0, now));
+        scheduler.onCommitted(new PointHistory(4L, 4L, 100, TransactionType.CHARGE, now + 3000), new UserPoint(4L, 100, now + 3000));
+        List<long[]> expired = new ArrayList<>();
+
+        // when
+        int beforeExpiry = scheduler.advance(now + UserPoint.EXPIRE_MILLIS, (userId, version) -> expired.add(new long[]{userId, version}));
+        int afterFirst = scheduler.advance(now + UserPoint.EXPIRE_MILLIS + 200, (userId, version) -> expired.add(new long[]{userId, version}));
+        long pending = scheduler.pending();
+        int afterSecond = scheduler.advance(now + UserPoint.EXPIRE_MILLIS + 3200, (userId, version) -> expired.add(new long[]{userId, version}));
+
+        // then
+        assertEquals(0, beforeExpiry);
+        assertEquals(1, afterFirst);
+        assertEquals(1L, pending);
+        assertEquals(1, afterSecond);
+        assertEquals(1L, expired.get(0)[0]);
+        assertEquals(now, expired.get(0)[1]);
+        assertEquals(4L, expired.get(1)[0]);
+        assertTrue(scheduler.pending() == 0);
+    }
+}
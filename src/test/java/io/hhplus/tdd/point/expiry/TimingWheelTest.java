@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.expiry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("[타이밍 휠/성공] 여러 level 에 걸친 만료도 정확히 그 tick 에 만료된다")
+    public void 정확한_tick_에_만료() {
+        // given: 1 ~ 64^3 tick 뒤 사이의 임의 만료 10000건(key 에 만료 tick 을 담음)
+        long start = 1_000_003L;
+        TimingWheel wheel = new TimingWheel(3, start, 16);
+        for (int i = 0; i < 10000; i++) {
+            long deadline = start + 1 + ThreadLocalRandom.current().nextLong(64L * 64 * 64);
+            wheel.schedule(deadline, i, deadline);
+        }
+
+        // when: 한 tick 씩 진행하며 만료된 항목의 만료 tick 을 확인
+        List<Long> early = new ArrayList<>();
+        int expired = 0;
+        for (long tick = start + 1; tick <= start + 64L * 64 * 64; tick++) {
+            long now = tick;
+            expired += wheel.advance(tick, (key, version) -> {
+                if (key != now) {
+                    early.add(key);
+                }
+            });
+        }
+
+        // then
+        assertEquals(10000, expired);
+        assertEquals(List.of(), early);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("[타이밍 휠/성공] 최상위 level 보다 먼 만료와 이미 지난 만료도 처리한다")
+    public void 범위밖_만료() {
+        // given: level 2개(64^2 tick)보다 먼 만료, 이미 지난 만료
+        TimingWheel wheel = new TimingWheel(2, 0, 16);
+        long far = 64L * 64 * 3 + 17;
+        wheel.schedule(1L, 100L, far);
+        wheel.schedule(2L, 200L, -5);
+        List<long[]> fired = new ArrayList<>();
+
+        // when
+        int past = wheel.advance(1, (key, version) -> fired.add(new long[]{key, version}));
+        int beforeFar = wheel.advance(far - 1, (key, version) -> fired.add(new long[]{key, version}));
+        int atFar = wheel.advance(far, (key, version) -> fired.add(new long[]{key, version}));
+
+        // then
+        assertEquals(1, past);
+        assertEquals(0, beforeFar);
+        assertEquals(1, atFar);
+        assertEquals(2L, fired.get(0)[0]);
+        assertEquals(1L, fired.get(1)[0]);
+        assertEquals(100L, fired.get(1)[1]);
+    }
+
+    @Test
+    @DisplayName("[타이밍 휠/성공] 만료된 칸을 재사용해 같은 수의 항목을 다시 넣어도 풀이 늘어나지 않는다")
+    public void 항목_재사용() {
+        // given
+        TimingWheel wheel = new TimingWheel(4, 0, 1000);
+        for (int round = 0; round < 100; round++) {
+            long tick = wheel.currentTick();
+            for (int i = 0; i < 1000; i++) {
+                wheel.schedule(i, round, tick + 1 + i % 50);
+            }
+
+            // when
+            int expired = wheel.advance(tick + 50, (key, version) -> {
+            });
+
+            // then
+            assertEquals(1000, expired);
+        }
+        assertEquals(0, wheel.size());
+    }
+}
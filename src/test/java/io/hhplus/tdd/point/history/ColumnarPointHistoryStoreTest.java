@@ -0,0 +1,142 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ColumnarPointHistoryStoreTest {
+
+    @Test
+    @DisplayName("[내역저장소/성공] 저장한 내역을 유저별로 id 순서대로 그대로 조회한다")
+    public void 내역_저장_조회() {
+        // given: chunk 여러 개에 걸치도록 저장하고, 금액/시각이 크게 튀는 값도 섞음
+        ColumnarPointHistoryStore store = new ColumnarPointHistoryStore();
+        List<PointHistory> expected = new ArrayList<>();
+        for (int i = 0; i < ColumnarPointHistoryStore.CHUNK_ENTRIES * 3 + 5; i++) {
+            long amount = i % 7 == 0 ? Long.MAX_VALUE - i : 100L * (i % 50);
+            long updateMillis = i % 11 == 0 ? 1_000L - i : 1_700_000_000_000L + i * 1_000L;
+            TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            expected.add(store.insert(10L, amount, type, updateMillis));
+            store.insert(20L, 100L, TransactionType.CHARGE, updateMillis);
+        }
+
+        // when
+        List<PointHistory> histories = store.findAllByUserId(10L);
+
+        // then
+        assertEquals(expected, histories);
+        assertEquals(expected.size(), store.findAllByUserId(20L).size());
+        assertEquals(List.of(), store.findAllByUserId(30L));
+    }
+
+    @Test
+    @DisplayName("[내역저장소/성공] id 간격이 매우 크거나 금액이 100 단위가 아니어도 그대로 조회한다")
+    public void 큰_값_저장_조회() {
+        // given: 복제본처럼 id 가 정해진 내역을 넣음
+        ColumnarPointHistoryStore store = new ColumnarPointHistoryStore();
+        List<PointHistory> expected = List.of(
+                new PointHistory(1L, 10L, 150L, TransactionType.CHARGE, 5L),
+                new PointHistory(Long.MAX_VALUE - 10, 10L, 0L, TransactionType.EXPIRE, -5L),
+                new PointHistory(Long.MAX_VALUE - 9, 10L, Long.MIN_VALUE, TransactionType.USE, Long.MIN_VALUE),
+                new PointHistory(Long.MAX_VALUE - 8, 10L, -200L, TransactionType.CHARGE, Long.MAX_VALUE));
+
+        // when
+        expected.forEach(store::append);
+
+        // then
+        assertEquals(expected, store.findAllByUserId(10L));
+    }
+
+    @Test
+    @DisplayName("[내역저장소/성공] 페이지 조회 결과와 커서가 인덱스(TABLE) 저장소와 같다")
+    public void 페이지_조회_인덱스와_동일() {
+        // given: 같은 내역을 두 저장소에 넣음
+        ColumnarPointHistoryStore store = new ColumnarPointHistoryStore();
+        PointHistoryIndex index = new PointHistoryIndex(new PointHistoryTable());
+        Random random = new Random(7);
+        for (int i = 0; i < 1_000; i++) {
+            long userId = random.nextInt(3);
+            TransactionType type = random.nextBoolean() ? TransactionType.CHARGE : TransactionType.USE;
+            index.append(store.insert(userId, 100L * (random.nextInt(20) + 1), type, 1_000L + i));
+        }
+        List<PointHistoryQuery> queries = List.of(
+                PointHistoryQuery.firstPage(),
+                new PointHistoryQuery(null, 7, null, null, TransactionType.USE),
+                new PointHistoryQuery(null, 50, 1_200L, 1_700L, null),
+                new PointHistoryQuery(null, 1_000, null, null, null));
+
+        // when & then: 커서를 따라 끝까지 넘기며 페이지마다 비교
+        for (long userId = 0; userId < 3; userId++) {
+            for (PointHistoryQuery first : queries) {
+                PointHistoryQuery query = first;
+                while (true) {
+                    PointHistorySlice expected = index.page(userId, query);
+                    PointHistorySlice actual = store.page(userId, query);
+                    assertEquals(toList(expected), toList(actual));
+                    assertEquals(expected.nextCursor(), actual.nextCursor());
+                    if (actual.nextCursor() == null) {
+                        break;
+                    }
+                    query = new PointHistoryQuery(PointHistoryCursor.decode(actual.nextCursor()), query.limit(), query.from(), query.to(), query.type());
+                }
+            }
+        }
+        assertNull(store.page(99L, PointHistoryQuery.firstPage()).nextCursor());
+    }
+
+    @Test
+    @DisplayName("[내역저장소/성공] limit 건을 채워도 조건에 맞는 내역이 더 없으면 다음 커서를 내려주지 않는다")
+    public void 마지막_페이지_커서() {
+        // given: 충전 2건 뒤에 사용 내역만 chunk 를 넘겨 이어짐
+        ColumnarPointHistoryStore store = new ColumnarPointHistoryStore();
+        PointHistoryIndex index = new PointHistoryIndex(new PointHistoryTable());
+        index.append(store.insert(10L, 1000L, TransactionType.CHARGE, 1L));
+        index.append(store.insert(10L, 1000L, TransactionType.CHARGE, 2L));
+        for (int i = 0; i < ColumnarPointHistoryStore.CHUNK_ENTRIES + 3; i++) {
+            index.append(store.insert(10L, 100L, TransactionType.USE, 3L + i));
+        }
+        PointHistoryQuery charges = new PointHistoryQuery(null, 2, null, null, TransactionType.CHARGE);
+        PointHistoryQuery early = new PointHistoryQuery(null, 2, null, 3L, null);
+
+        // when & then
+        for (PointHistoryStore pointHistoryStore : List.of(store, index)) {
+            assertEquals(2, toList(pointHistoryStore.page(10L, charges)).size());
+            assertNull(pointHistoryStore.page(10L, charges).nextCursor());
+            assertNull(pointHistoryStore.page(10L, early).nextCursor());
+        }
+    }
+
+    @Test
+    @DisplayName("[내역저장소/성공] 복구 후에는 복구 원본에서 내역을 읽고 id 를 이어서 매긴다")
+    public void 복구_후_id_이어서() {
+        // given
+        ColumnarPointHistoryStore store = new ColumnarPointHistoryStore();
+        List<PointHistory> restored = List.of(
+                new PointHistory(3L, 10L, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(8L, 10L, 300L, TransactionType.USE, 2L));
+        store.restore(userId -> userId == 10L ? restored : List.of(), 8L);
+
+        // when
+        PointHistory inserted = store.insert(10L, 500L, TransactionType.CHARGE, 3L);
+
+        // then
+        assertEquals(9L, inserted.id());
+        assertEquals(List.of(restored.get(0), restored.get(1), inserted), store.findAllByUserId(10L));
+    }
+
+    private static List<PointHistory> toList(PointHistorySlice slice) {
+        List<PointHistory> histories = new ArrayList<>();
+        slice.forEach(histories::add);
+        return histories;
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointOverloadedException;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointHistoryWriterTest {
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(pointHistoryTable);
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("[내역저장/성공] write-behind 로 저장한 내역은 flush 후 순서대로 조회된다")
+    public void 내역_비동기_저장_flush() throws Exception {
+        // given
+        PointHistoryWriter writer = new PointHistoryWriter(pointHistoryIndex,
+                new PointHistoryWriterProperties(true, 2, Duration.ofMillis(5), 10, Duration.ofSeconds(1)), pointMetrics, List.of());
+        writer.start();
+
+        // when
+        writer.reserve(3);
+        writer.write(new UserPoint(10L, 1000, 1L), 1000, TransactionType.CHARGE, 1L);
+        writer.write(new UserPoint(10L, 700, 2L), 300, TransactionType.USE, 2L);
+        writer.write(new UserPoint(10L, 1200, 3L), 500, TransactionType.CHARGE, 3L);
+
+        // then
+        assertTrue(writer.flush(5000));
+        List<PointHistory> histories = pointHistoryIndex.findAllByUserId(10L);
+        assertEquals(3, histories.size());
+        assertEquals(List.of(1000L, 300L, 500L), histories.stream().map(PointHistory::amount).toList());
+        writer.close();
+    }
+
+    @Test
+    @DisplayName("[내역저장/성공] 종료 시 대기열에 남은 내역을 모두 저장한다")
+    public void 내역_종료시_flush() throws Exception {
+        // given: linger 를 길게 두어 종료 전까지 배치가 저장되지 않도록 함
+        PointHistoryWriter writer = new PointHistoryWriter(pointHistoryIndex,
+                new PointHistoryWriterProperties(true, 100, Duration.ofSeconds(10), 10, Duration.ofSeconds(1)), pointMetrics, List.of());
+        writer.start();
+        writer.reserve(2);
+        writer.write(new UserPoint(20L, 1000, 1L), 1000, TransactionType.CHARGE, 1L);
+        writer.write(new UserPoint(20L, 800, 2L), 200, TransactionType.USE, 2L);
+
+        // when
+        writer.close();
+
+        // then
+        assertEquals(2, pointHistoryIndex.findAllByUserId(20L).size());
+        assertThrows(PointOverloadedException.class, () -> writer.reserve(1));
+    }
+
+    @Test
+    @DisplayName("[내역저장/실패] 대기열 자리를 모두 잡았으면 offerTimeout 뒤 거절하고, 돌려준 자리는 다시 잡을 수 있다")
+    public void 내역_대기열_자리_부족() throws Exception {
+        // given: linger 를 길게 두어 자리가 저장으로 돌아오지 않도록 함
+        PointHistoryWriter writer = new PointHistoryWriter(pointHistoryIndex,
+                new PointHistoryWriterProperties(true, 100, Duration.ofSeconds(10), 2, Duration.ofMillis(10)), pointMetrics, List.of());
+        writer.start();
+        writer.reserve(2);
+
+        // when & then
+        assertThrows(PointOverloadedException.class, () -> writer.reserve(1));
+        writer.release(1);
+        writer.reserve(1);
+        writer.release(2);
+        writer.close();
+    }
+
+    @Test
+    @DisplayName("[내역저장/성공] 기본 저장소(COLUMNAR)에서는 worker 하나로 대기열 크기 이상의 내역을 막힘 없이 저장한다")
+    public void 내역_비동기_저장_처리량() throws Exception {
+        // given: 대기열 1000칸에 유저 100명의 내역 20000건
+        ColumnarPointHistoryStore store = new ColumnarPointHistoryStore();
+        PointHistoryWriter writer = new PointHistoryWriter(store,
+                new PointHistoryWriterProperties(true, 100, Duration.ofMillis(5), 1000, Duration.ofSeconds(1)), pointMetrics, List.of());
+        writer.start();
+
+        // when: 대기열이 worker 보다 빨리 차면 reserve 가 offerTimeout 뒤 429 로 거절됨
+        for (int i = 0; i < 20000; i++) {
+            writer.reserve(1);
+            writer.write(new UserPoint(i % 100, 100L * (i / 100 + 1), i), 100, TransactionType.CHARGE, i);
+        }
+
+        // then
+        assertTrue(writer.flush(5000));
+        for (long userId = 0; userId < 100; userId++) {
+            assertEquals(200, store.findAllByUserId(userId).size());
+        }
+        writer.close();
+    }
+}
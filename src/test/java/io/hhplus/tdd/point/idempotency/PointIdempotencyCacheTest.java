@@ -0,0 +1,211 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.async.PointAsyncTasks;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointIdempotencyConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointIdempotencyCacheTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long TTL = Duration.ofMinutes(10).toMillis();
+
+    private PointIdempotencyCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        // 최소 크기(8-way * 64 segment = 512칸)
+        cache = new PointIdempotencyCache(new PointIdempotencyProperties(Duration.ofMillis(TTL), 1, 255), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("[멱등/성공] 같은 키로 다시 오면 body 를 실행하지 않고 처음 결과를 돌려준다")
+    public void 같은_키_재시도() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        PointHistoryDto charge = new PointHistoryDto(1L, 500, TransactionType.CHARGE, "key-1");
+        UserPoint first = execute(charge, () -> new UserPoint(1L, 500 * executed.incrementAndGet(), 123L), NOW);
+
+        // when
+        UserPoint retried = execute(new PointHistoryDto(1L, 500, TransactionType.CHARGE, "key-1"),
+                () -> new UserPoint(1L, 500 * executed.incrementAndGet(), 456L), NOW + 1000);
+
+        // then
+        assertEquals(1, executed.get());
+        assertEquals(first, retried);
+        assertEquals(first, cache.find(charge, NOW + TTL - 1));
+        // 다른 유저의 같은 키는 다른 요청
+        assertNull(cache.find(new PointHistoryDto(2L, 500, TransactionType.CHARGE, "key-1"), NOW));
+    }
+
+    @Test
+    @DisplayName("[멱등/성공] 키가 없으면 매번 실행하고, ttl 이 지난 키는 다시 실행한다")
+    public void 키_없음_ttl_만료() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        PointHistoryDto withoutKey = new PointHistoryDto(1L, 500, TransactionType.CHARGE);
+        PointHistoryDto withKey = new PointHistoryDto(1L, 500, TransactionType.CHARGE, "key-1");
+
+        // when
+        execute(withoutKey, () -> new UserPoint(1L, executed.incrementAndGet(), NOW), NOW);
+        execute(withoutKey, () -> new UserPoint(1L, executed.incrementAndGet(), NOW), NOW);
+        execute(withKey, () -> new UserPoint(1L, executed.incrementAndGet(), NOW), NOW);
+        UserPoint expired = execute(withKey, () -> new UserPoint(1L, executed.incrementAndGet(), NOW), NOW + TTL);
+
+        // then
+        assertEquals(4, executed.get());
+        assertEquals(4L, expired.point());
+    }
+
+    @Test
+    @DisplayName("[멱등/실패] 같은 키로 종류나 금액이 다른 요청은 거절하고, 키 길이를 제한한다")
+    public void 내용이_다른_요청() {
+        // given
+        execute(new PointHistoryDto(1L, 500, TransactionType.CHARGE, "key-1"), () -> new UserPoint(1L, 500, NOW), NOW);
+
+        // when & then
+        assertThrows(PointIdempotencyConflictException.class,
+                () -> execute(new PointHistoryDto(1L, 600, TransactionType.CHARGE, "key-1"), () -> new UserPoint(1L, 1100, NOW), NOW));
+        assertThrows(PointIdempotencyConflictException.class,
+                () -> execute(new PointHistoryDto(1L, 500, TransactionType.USE, "key-1"), () -> new UserPoint(1L, 0, NOW), NOW));
+        assertThrows(RuntimeException.class,
+                () -> execute(new PointHistoryDto(1L, 500, TransactionType.USE, "k".repeat(256)), () -> new UserPoint(1L, 0, NOW), NOW));
+        assertTrue(cache.submit(new PointHistoryDto(1L, 500, TransactionType.USE, " "), () -> new UserPoint(1L, 0, NOW), PointAsyncTasks::supplyNow, NOW)
+                .isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("[멱등/성공] 실패한 요청은 보관하지 않아 같은 키로 다시 처리한다")
+    public void 실패는_보관하지_않음() {
+        // given
+        PointHistoryDto use = new PointHistoryDto(1L, 500, TransactionType.USE, "key-1");
+        assertThrows(RuntimeException.class, () -> execute(use, () -> {
+            throw new RuntimeException("포인트가 부족합니다.");
+        }, NOW));
+
+        // when
+        UserPoint retried = execute(use, () -> new UserPoint(1L, 0, NOW), NOW);
+
+        // then
+        assertEquals(0L, retried.point());
+    }
+
+    @Test
+    @DisplayName("[멱등/성공] 칸 수보다 많은 키가 와도 메모리는 고정이고, 오래된 키부터 밀려난다")
+    public void 크기_제한() {
+        // given
+        int capacity = cache.capacity();
+
+        // when: 칸 수의 100배만큼 서로 다른 키를 1ms 간격으로 저장
+        int keys = capacity * 100;
+        for (int i = 0; i < keys; i++) {
+            execute(new PointHistoryDto(1L, 100, TransactionType.CHARGE, "key-" + i), () -> new UserPoint(1L, 100, NOW), NOW + i);
+        }
+
+        // then: 칸 수는 그대로이고, 최근 키는 대부분 남아 있으며 가장 오래된 키는 밀려남
+        assertEquals(512, capacity);
+        long now = NOW + keys;
+        assertNull(cache.find(new PointHistoryDto(1L, 100, TransactionType.CHARGE, "key-0"), now));
+        int recent = 0;
+        for (int i = keys - capacity / 4; i < keys; i++) {
+            if (cache.find(new PointHistoryDto(1L, 100, TransactionType.CHARGE, "key-" + i), now) != null) {
+                recent++;
+            }
+        }
+        assertTrue(recent > capacity / 4 * 0.9, "최근 키 " + recent + "개만 남음");
+    }
+
+    @Test
+    @DisplayName("[멱등/동시성] 같은 키가 동시에 처리 중이면 처리 스레드를 쓰지 않고 먼저 온 요청의 결과를 이어받아 한 번만 반영한다")
+    public void 동시_요청() throws Exception {
+        // given: 처리 스레드 1개가 첫 요청을 처리하며 붙잡혀 있음
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        Supplier<UserPoint> body = () -> {
+            executed.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new UserPoint(1L, 500, NOW);
+        };
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        results.add(cache.submit(new PointHistoryDto(1L, 500, TransactionType.CHARGE, "key-1"), body,
+                task -> CompletableFuture.supplyAsync(task, executor), NOW));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // when: 같은 키의 재시도 7건(처리 스레드에 넘기면 첫 요청 뒤에서 기다리게 됨)
+        for (int i = 0; i < 7; i++) {
+            results.add(cache.submit(new PointHistoryDto(1L, 500, TransactionType.CHARGE, "key-1"), body,
+                    task -> CompletableFuture.supplyAsync(task, executor), NOW));
+        }
+        // 다른 키 요청은 첫 요청이 끝나면 바로 처리 스레드를 얻음
+        CompletableFuture<UserPoint> other = cache.submit(new PointHistoryDto(2L, 100, TransactionType.CHARGE, "key-2"),
+                () -> new UserPoint(2L, 100, NOW), task -> CompletableFuture.supplyAsync(task, executor), NOW);
+
+        // then: 재시도는 처리 스레드에 들어가지 않고 첫 요청의 결과를 기다림
+        for (CompletableFuture<UserPoint> result : results) {
+            assertFalse(result.isDone());
+        }
+        release.countDown();
+        for (CompletableFuture<UserPoint> result : results) {
+            assertEquals(500L, result.get(1, TimeUnit.SECONDS).point());
+        }
+        assertEquals(100L, other.get(1, TimeUnit.SECONDS).point());
+        assertEquals(1, executed.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("[멱등/실패] 첫 요청이 시작 전에 취소되거나 거절되면 이어받은 요청도 같이 실패하고, 같은 키로 다시 처리할 수 있다")
+    public void 시작_전_취소() {
+        // given: 처리 스레드가 body 를 실행하지 않고 끝냄
+        PointHistoryDto charge = new PointHistoryDto(1L, 500, TransactionType.CHARGE, "key-1");
+        CompletableFuture<UserPoint> cancelled = new CompletableFuture<>();
+        CompletableFuture<UserPoint> first = cache.submit(charge, () -> new UserPoint(1L, 500, NOW), task -> cancelled, NOW);
+        CompletableFuture<UserPoint> joined = cache.submit(charge, () -> new UserPoint(1L, 500, NOW), PointAsyncTasks::supplyNow, NOW);
+
+        // when
+        cancelled.completeExceptionally(new RuntimeException("요청 처리 시간이 초과되었습니다."));
+
+        // then
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(joined.isCompletedExceptionally());
+        assertEquals(700L, execute(charge, () -> new UserPoint(1L, 700, NOW), NOW).point());
+    }
+
+    private UserPoint execute(PointHistoryDto pointHistoryDto, Supplier<UserPoint> body, long nowMillis) {
+        try {
+            return cache.submit(pointHistoryDto, body, PointAsyncTasks::supplyNow, nowMillis).join();
+        } catch (CompletionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+}
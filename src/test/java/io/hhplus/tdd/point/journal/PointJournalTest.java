@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.journal.PointJournalProperties.FsyncPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PointJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("[저널/성공] 기록한 내역과 잔고를 segment 를 넘어가며 순서대로 재생한다")
+    public void 저널_재생() throws IOException {
+        // given: segment 하나에 3건씩, 7건 기록
+        PointJournal journal = new PointJournal(new PointJournalProperties(true, directory.toString(), 3, FsyncPolicy.BATCH));
+        journal.replay((pointHistory, userPoint) -> {});
+        List<PointHistory> written = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            PointHistory pointHistory = new PointHistory(id, id % 2, 100 * id, id % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, 1000 + id);
+            journal.onCommitted(pointHistory, new UserPoint(pointHistory.userId(), 10 * id, 2000 + id));
+            written.add(pointHistory);
+        }
+        journal.onBatchCommitted();
+        journal.close();
+
+        // when
+        List<PointHistory> replayed = new ArrayList<>();
+        List<UserPoint> balances = new ArrayList<>();
+        PointJournal reopened = new PointJournal(new PointJournalProperties(true, directory.toString(), 3, FsyncPolicy.BATCH));
+        long records = reopened.replay((pointHistory, userPoint) -> {
+            replayed.add(pointHistory);
+            balances.add(userPoint);
+        });
+        reopened.close();
+
+        // then
+        assertEquals(7, records);
+        assertEquals(3, segmentCount());
+        assertEquals(written, replayed);
+        assertEquals(new UserPoint(1L, 70L, 2007L), balances.get(6));
+    }
+
+    @Test
+    @DisplayName("[저널/성공] 마지막 segment 의 깨진 꼬리는 버리고 그 자리에 이어서 기록한다")
+    public void 저널_깨진꼬리_복구() throws IOException {
+        // given: 2건 기록 후 쓰다 만 레코드를 흉내내어 절반만 덧붙임
+        PointJournal journal = new PointJournal(new PointJournalProperties(true, directory.toString(), 100, FsyncPolicy.ALWAYS));
+        journal.replay((pointHistory, userPoint) -> {});
+        journal.onCommitted(new PointHistory(1L, 10L, 1000, TransactionType.CHARGE, 1L), new UserPoint(10L, 1000, 1L));
+        journal.onCommitted(new PointHistory(2L, 10L, 300, TransactionType.USE, 2L), new UserPoint(10L, 700, 2L));
+        journal.close();
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[PointJournal.RECORD_SIZE / 2]));
+        }
+
+        // when: 재생 후 한 건 더 기록
+        PointJournal reopened = new PointJournal(new PointJournalProperties(true, directory.toString(), 100, FsyncPolicy.ALWAYS));
+        long records = reopened.replay((pointHistory, userPoint) -> {});
+        reopened.onCommitted(new PointHistory(3L, 10L, 500, TransactionType.CHARGE, 3L), new UserPoint(10L, 1200, 3L));
+        reopened.close();
+
+        // then
+        assertEquals(2, records);
+        List<Long> ids = new ArrayList<>();
+        PointJournal verify = new PointJournal(new PointJournalProperties(true, directory.toString(), 100, FsyncPolicy.ALWAYS));
+        verify.replay((pointHistory, userPoint) -> ids.add(pointHistory.id()));
+        verify.close();
+        assertEquals(List.of(1L, 2L, 3L), ids);
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.journal.PointJournalProperties.FsyncPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PointSnapshotTest {
+
+    private static final int USER_COUNT = 100;
+    private static final int TAIL = 50;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("[스냅샷/성공] 내역이 늘어나도 기동 시에는 스냅샷 이후의 꼬리만 재생한다")
+    public void 스냅샷_꼬리만_재생() throws IOException {
+        for (int history : new int[]{1_000, 10_000, 100_000}) {
+            // given: history 건 기록 -> 스냅샷 -> 꼬리 TAIL 건 기록
+            Path journalDirectory = Files.createDirectory(directory.resolve("history-" + history));
+            write(journalDirectory, history, true, false);
+
+            // when
+            PointJournal journal = journal(journalDirectory);
+            PointSnapshot snapshot = store(journalDirectory, false).loadLatest();
+            long[] replayed = new long[1];
+            long records = journal.replay(snapshot, (pointHistory, userPoint) -> replayed[0]++);
+
+            // then: 재생 건수는 전체 내역과 상관없이 꼬리 건수로 일정하고, 잔고/내역은 모두 복구됨
+            assertEquals(TAIL, records);
+            assertEquals(TAIL, replayed[0]);
+            assertEquals(history + TAIL, journal.lastHistoryId());
+            assertEquals(USER_COUNT, journal.userPoints().size());
+            assertEquals(expectedBalance(1L, history + TAIL).point() / 100, journal.readHistory(1L).size());
+            assertEquals(expectedBalance(1L, history + TAIL), journal.userPoints().stream()
+                    .filter(userPoint -> userPoint.id() == 1L).findFirst().orElseThrow());
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("[스냅샷/성공] 스냅샷 없이 재생해도 유저별 내역을 이전 순번을 따라 id 오름차순으로 읽는다")
+    public void 스냅샷없이_내역_조회() throws IOException {
+        // given
+        write(directory, 1_000, false, false);
+
+        // when
+        PointJournal journal = journal(directory);
+        long records = journal.replay(null, (pointHistory, userPoint) -> {});
+        List<PointHistory> histories = journal.readHistory(7L);
+
+        // then
+        assertEquals(1_000 + TAIL, records);
+        assertEquals(expectedBalance(7L, 1_000 + TAIL).point() / 100, histories.size());
+        for (int i = 0; i < histories.size(); i++) {
+            assertEquals(7L + (long) i * USER_COUNT, histories.get(i).id());
+            assertEquals(7L, histories.get(i).userId());
+        }
+        assertEquals(List.of(), journal.readHistory(USER_COUNT + 1));
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("[스냅샷/성공] 스냅샷에 반영된 segment 를 삭제해도 잔고는 복구되고, 내역은 남은 segment 만 조회된다")
+    public void 저널_잘라내기() throws IOException {
+        // given: segment 하나에 1000건, 10000건 + 꼬리 기록 후 스냅샷 저장과 함께 잘라냄
+        write(directory, 10_000, true, true);
+
+        // when
+        PointJournal journal = journal(directory);
+        PointSnapshot snapshot = store(directory, true).loadLatest();
+        long records = journal.replay(snapshot, (pointHistory, userPoint) -> {});
+
+        // then: 스냅샷을 저장할 때 기록 중이던 segment(9000~) 앞의 9개는 지워지고, 9000~/10000~ segment 만 남음
+        assertEquals(TAIL, records);
+        assertEquals(2, segmentCount(directory));
+        assertEquals(expectedBalance(1L, 10_000 + TAIL), journal.userPoints().stream()
+                .filter(userPoint -> userPoint.id() == 1L).findFirst().orElseThrow());
+        List<Long> ids = journal.readHistory(1L).stream().map(PointHistory::id).toList();
+        assertEquals(List.of(9001L, 9101L, 9201L, 9301L, 9401L, 9501L, 9601L, 9701L, 9801L, 9901L, 10001L), ids);
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("[스냅샷/성공] 기록을 멈추지 않고 복사한 스냅샷으로도 잔고와 내역 수가 그대로 복구된다")
+    public void 기록중_스냅샷() throws Exception {
+        // given: 다른 스레드가 기록하는 동안 스냅샷을 여러 번 저장
+        int history = 20_000;
+        PointJournal journal = journal(directory);
+        journal.replay(null, (pointHistory, userPoint) -> {});
+        PointSnapshotter snapshotter = new PointSnapshotter(journal, store(directory, false),
+                new PointSnapshotProperties(Duration.ZERO, 2, false));
+        Thread writer = new Thread(() -> {
+            for (long id = 1; id <= history; id++) {
+                long userId = (id - 1) % USER_COUNT + 1;
+                journal.onCommitted(new PointHistory(id, userId, 100, TransactionType.CHARGE, id), expectedBalance(userId, id));
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            snapshotter.snapshot();
+        }
+        writer.join();
+        journal.close();
+
+        // when
+        PointJournal reopened = journal(directory);
+        reopened.replay(store(directory, false).loadLatest(), (pointHistory, userPoint) -> {});
+
+        // then: 스냅샷 순번 뒤인데 유저 상태에 이미 반영된 레코드는 두 번 세지 않음
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            UserPoint expected = expectedBalance(userId, history);
+            assertEquals(expected, reopened.userPoints().stream()
+                    .filter(userPoint -> userPoint.id() == expected.id()).findFirst().orElseThrow());
+            assertEquals(expected.point() / 100, reopened.readHistory(userId).size());
+        }
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("[스냅샷/성공] 최신 스냅샷이 손상되면 이전 스냅샷을 불러온다")
+    public void 손상된_스냅샷_건너뛰기() throws IOException {
+        // given
+        PointSnapshotStore store = store(directory, false);
+        store.write(new PointSnapshot(10, 10, List.of(new PointSnapshot.UserEntry(1L, 100, 1L, 9, 10))));
+        store.write(new PointSnapshot(20, 20, List.of(new PointSnapshot.UserEntry(1L, 200, 2L, 19, 20))));
+        Path latest;
+        try (Stream<Path> files = Files.list(directory)) {
+            latest = files.max(Comparator.naturalOrder()).orElseThrow();
+        }
+        byte[] bytes = Files.readAllBytes(latest);
+        bytes[bytes.length - 10] ^= 1;
+        Files.write(latest, bytes);
+
+        // when
+        PointSnapshot snapshot = store.loadLatest();
+
+        // then
+        assertEquals(10, snapshot.sequence());
+        assertEquals(100, snapshot.users().get(0).point());
+        assertNull(store(directory.resolve("empty"), false).loadLatest());
+    }
+
+    /**
+     * history 건을 유저 USER_COUNT 명에게 번갈아 기록하고, 스냅샷을 저장한 뒤 꼬리 TAIL 건을 더 기록함
+     */
+    private void write(Path journalDirectory, int history, boolean snapshot, boolean truncate) throws IOException {
+        PointJournal journal = journal(journalDirectory);
+        journal.replay(null, (pointHistory, userPoint) -> {});
+        PointSnapshotter snapshotter = new PointSnapshotter(journal, store(journalDirectory, truncate),
+                new PointSnapshotProperties(Duration.ZERO, 2, truncate));
+        for (long id = 1; id <= history + TAIL; id++) {
+            long userId = (id - 1) % USER_COUNT + 1;
+            journal.onCommitted(new PointHistory(id, userId, 100, TransactionType.CHARGE, id), expectedBalance(userId, id));
+            if (id == history && snapshot) {
+                snapshotter.snapshot();
+            }
+        }
+        journal.close();
+    }
+
+    private static UserPoint expectedBalance(long userId, long id) {
+        // id 번째 기록 직후 유저가 받은 충전 건수만큼의 잔고
+        long last = id - (id - userId) % USER_COUNT;
+        return new UserPoint(userId, 100 * ((last - 1) / USER_COUNT + 1), last);
+    }
+
+    private static PointJournal journal(Path journalDirectory) {
+        return new PointJournal(new PointJournalProperties(true, journalDirectory.toString(), 1_000, FsyncPolicy.NEVER));
+    }
+
+    private static PointSnapshotStore store(Path journalDirectory, boolean truncate) {
+        return new PointSnapshotStore(new PointJournalProperties(true, journalDirectory.toString(), 1_000, FsyncPolicy.NEVER),
+                new PointSnapshotProperties(Duration.ZERO, 2, truncate));
+    }
+
+    private static long segmentCount(Path journalDirectory) throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            return files.filter(path -> path.toString().endsWith(".journal")).count();
+        }
+    }
+}
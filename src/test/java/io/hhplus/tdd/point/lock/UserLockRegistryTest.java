@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserLockRegistryTest {
+
+    @Test
+    @DisplayName("[참조수 lock/성공] 모든 스레드가 해제하면 유저 lock 이 제거된다")
+    public void 참조수_lock_회수() throws InterruptedException {
+        // given
+        RefCountedUserLockRegistry registry = new RefCountedUserLockRegistry();
+
+        // when: 같은 스레드에서 중첩 획득
+        Lock outer = registry.acquire(10L);
+        Lock inner = registry.acquire(10L);
+        registry.acquire(20L);
+
+        // then
+        assertEquals(2, registry.size());
+        registry.release(10L, inner);
+        assertEquals(2, registry.size());
+        registry.release(10L, outer);
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    @DisplayName("[lock/성공] 두 방식 모두 같은 유저의 작업은 하나씩만 실행된다")
+    public void 유저별_상호배제() throws InterruptedException {
+        for (UserLockRegistry registry : new UserLockRegistry[]{new StripedUserLockRegistry(4), new RefCountedUserLockRegistry()}) {
+            // given
+            int threads = 8;
+            int loops = 1000;
+            long[] counter = new long[1];
+            ExecutorService executorService = Executors.newFixedThreadPool(threads);
+            CountDownLatch done = new CountDownLatch(threads);
+
+            // when: lock 없이는 값이 유실되는 증가 연산을 동시에 수행
+            for (int t = 0; t < threads; t++) {
+                executorService.submit(() -> {
+                    for (int i = 0; i < loops; i++) {
+                        Lock lock = registry.acquire(10L);
+                        try {
+                            counter[0]++;
+                        } finally {
+                            registry.release(10L, lock);
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+
+            // then
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals((long) threads * loops, counter[0]);
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("[lock/실패] 다른 스레드가 보유 중이면 timeout 후 null 을 돌려주고 참조 수를 남기지 않는다")
+    public void 제한시간_획득() throws Exception {
+        for (UserLockRegistry registry : new UserLockRegistry[]{new StripedUserLockRegistry(4), new RefCountedUserLockRegistry()}) {
+            // given: 다른 스레드가 유저 10 의 lock 을 보유
+            ExecutorService executorService = Executors.newSingleThreadExecutor();
+            Lock held = executorService.submit(() -> registry.acquire(10L)).get();
+
+            // when
+            Lock timedOut = registry.tryAcquire(10L, Duration.ofMillis(50));
+            executorService.submit(() -> registry.release(10L, held)).get();
+            Lock acquired = registry.tryAcquire(10L, Duration.ofMillis(50));
+
+            // then
+            assertNull(timedOut);
+            assertNotNull(acquired);
+            registry.release(10L, acquired);
+            if (registry instanceof RefCountedUserLockRegistry) {
+                assertEquals(0, registry.size());
+            }
+            executorService.shutdown();
+        }
+    }
+}
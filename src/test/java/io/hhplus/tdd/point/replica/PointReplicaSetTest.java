@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.replica;
+
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.journal.PointJournalProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointReplicaSetTest {
+
+    private PointReplicaSet replicaSet;
+
+    @BeforeEach
+    public void setUp() {
+        replicaSet = new PointReplicaSet(new PointReplicationProperties(2, Duration.ofSeconds(1), 1024),
+                journal(false), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        replicaSet.close();
+    }
+
+    @Test
+    @DisplayName("[복제/성공] 저장된 내역과 잔고가 모든 복제본에 반영되고, 조회는 복제본을 돌아가며 쓴다")
+    public void 복제본_반영() throws Exception {
+        // given
+        replicaSet.onCommitted(new PointHistory(1, 10L, 1000, TransactionType.CHARGE, 100L), new UserPoint(10L, 1000, 100L));
+        replicaSet.onCommitted(new PointHistory(2, 10L, 300, TransactionType.USE, 200L), new UserPoint(10L, 700, 200L));
+        PointReadToken token = PointReadToken.of(new UserPoint(10L, 700, 200L));
+
+        // when: 두 복제본 모두 마지막 쓰기를 반영할 때까지 기다림
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            PointReplica replica = awaitReplica(10L, token);
+            used.add(replica.index());
+
+            // then
+            assertEquals(700L, replica.point(10L).point());
+            List<PointHistory> histories = new ArrayList<>();
+            replica.history(10L, PointHistoryQuery.firstPage()).forEach(histories::add);
+            assertEquals(List.of(1L, 2L), histories.stream().map(PointHistory::id).toList());
+            assertEquals(0L, replica.lagMillis(System.currentTimeMillis()));
+        }
+        assertEquals(Set.of(0, 1), used);
+        // 받은 적 없는 유저는 빈 잔고로 답하지 않고 원본에서 읽음
+        assertNull(replicaSet.select(20L, null));
+    }
+
+    @Test
+    @DisplayName("[복제/성공] 뒤처진 시간은 복제본에 전달된 시각이 아니라 원본의 커밋 시각부터 잰다")
+    public void 커밋_시각_기준_lag() throws Exception {
+        // given: 커밋한 지 5초 지난 변경이 복제본 대기열에 들어감(반영 스레드는 멈춤)
+        PointReplica replica = new PointReplica(0, 16);
+        replica.close();
+        long committedMillis = System.currentTimeMillis() - 5000;
+
+        // when
+        replica.offer(new PointHistory(1, 10L, 1000, TransactionType.CHARGE, committedMillis), new UserPoint(10L, 1000, committedMillis));
+
+        // then: 전달 직후여도 5초 이상 뒤처진 것으로 봄
+        assertTrue(replica.lagMillis(System.currentTimeMillis()) >= 5000);
+    }
+
+    @Test
+    @DisplayName("[복제/성공] 토큰의 쓰기를 반영한 복제본이 없으면 원본에서 읽도록 null 을 돌려준다")
+    public void 토큰_미반영() throws Exception {
+        // given
+        replicaSet.onCommitted(new PointHistory(1, 10L, 1000, TransactionType.CHARGE, 100L), new UserPoint(10L, 1000, 100L));
+        awaitReplica(10L, PointReadToken.of(new UserPoint(10L, 1000, 100L)));
+
+        // when & then: 아직 복제본에 오지 않은 쓰기, 같은 밀리초의 다른 잔고, 받은 적 없는 유저
+        assertNull(replicaSet.select(10L, PointReadToken.of(new UserPoint(10L, 1500, 101L))));
+        assertNull(replicaSet.select(10L, PointReadToken.of(new UserPoint(10L, 1500, 100L))));
+        assertNull(replicaSet.select(20L, PointReadToken.of(new UserPoint(20L, 100, 100L))));
+        // 더 오래된 쓰기의 토큰은 만족함
+        assertNotNull(replicaSet.select(10L, PointReadToken.of(new UserPoint(10L, 500, 50L))));
+    }
+
+    @Test
+    @DisplayName("[복제/성공] 복제본이 없거나 저널이 켜져 있으면 항상 원본에서 읽는다")
+    public void 복제본_없음() throws InterruptedException {
+        // given
+        PointReplicaSet none = new PointReplicaSet(new PointReplicationProperties(0, Duration.ofSeconds(1), 1024),
+                journal(false), new SimpleMeterRegistry());
+        PointReplicaSet journaled = new PointReplicaSet(new PointReplicationProperties(2, Duration.ofSeconds(1), 1024),
+                journal(true), new SimpleMeterRegistry());
+
+        // when
+        none.onCommitted(new PointHistory(1, 10L, 1000, TransactionType.CHARGE, 100L), new UserPoint(10L, 1000, 100L));
+
+        // then
+        assertNull(none.select(10L, null));
+        assertEquals(0, journaled.size());
+        assertNull(journaled.select(10L, null));
+        none.close();
+        journaled.close();
+    }
+
+    @Test
+    @DisplayName("[복제/토큰] 토큰은 문자열로 주고받을 수 있고, 잘못된 토큰은 실패한다")
+    public void 토큰_인코딩() {
+        // given
+        PointReadToken token = new PointReadToken(1_700_000_000_000L, 4200);
+
+        // when & then
+        assertEquals(token, PointReadToken.decode(token.encode()));
+        assertNull(PointReadToken.decode(null));
+        assertThrows(RuntimeException.class, () -> PointReadToken.decode("잘못된토큰"));
+    }
+
+    private PointReplica awaitReplica(long userId, PointReadToken token) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (System.nanoTime() < deadline) {
+            PointReplica replica = replicaSet.select(userId, token);
+            if (replica != null) {
+                return replica;
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        throw new AssertionError("복제본이 반영하지 못함");
+    }
+
+    private static PointJournalProperties journal(boolean enabled) {
+        return new PointJournalProperties(enabled, null, 0, null);
+    }
+}
@@ -0,0 +1,144 @@
+package io.hhplus.tdd.point.rollup;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointRollupStoreTest {
+
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    // 2024-03-01 00:00 (+09:00)
+    private static final long DAY_1 = OffsetDateTime.of(2024, 3, 1, 0, 0, 0, 0, KST).toInstant().toEpochMilli();
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    private ColumnarPointHistoryStore pointHistoryStore;
+    private PointRollupStore pointRollupStore;
+
+    @BeforeEach
+    public void setUp() {
+        pointHistoryStore = new ColumnarPointHistoryStore();
+        pointRollupStore = new PointRollupStore(pointHistoryStore,
+                new PointRollupProperties(KST, Duration.ofDays(1), Duration.ofDays(31), Duration.ofDays(400), 1440));
+    }
+
+    @Test
+    @DisplayName("[집계/성공] 저장된 내역을 일/시간 구간별 종류별 건수와 금액으로 집계한다")
+    public void 구간별_집계() {
+        // given: 1일 01시 충전 2건/사용 1건, 1일 23시 사용 1건, 2일 00시 만료 1건
+        commit(1L, 1000, TransactionType.CHARGE, DAY_1 + HOUR + 1);
+        commit(1L, 500, TransactionType.CHARGE, DAY_1 + HOUR + 2);
+        commit(1L, 300, TransactionType.USE, DAY_1 + HOUR + 3);
+        commit(1L, 200, TransactionType.USE, DAY_1 + 23 * HOUR);
+        commit(1L, 1000, TransactionType.EXPIRE, DAY_1 + DAY);
+        commit(2L, 9999, TransactionType.CHARGE, DAY_1 + HOUR);
+
+        // when
+        PointSummary daily = pointRollupStore.summary(1L, RollupGranularity.DAY, DAY_1, DAY_1 + 2 * DAY);
+        PointSummary hourly = pointRollupStore.summary(1L, RollupGranularity.HOUR, DAY_1, DAY_1 + DAY);
+
+        // then: 내역이 있는 구간만 내려옴
+        assertEquals(List.of(
+                new PointRollupBucket(DAY_1, 2, 1500, 2, 500, 0, 0),
+                new PointRollupBucket(DAY_1 + DAY, 0, 0, 0, 0, 1, 1000)
+        ), daily.buckets());
+        assertEquals(new PointRollupBucket(DAY_1, 2, 1500, 2, 500, 1, 1000), daily.total());
+        assertEquals(List.of(
+                new PointRollupBucket(DAY_1 + HOUR, 2, 1500, 1, 300, 0, 0),
+                new PointRollupBucket(DAY_1 + 23 * HOUR, 0, 0, 1, 200, 0, 0)
+        ), hourly.buckets());
+    }
+
+    @Test
+    @DisplayName("[집계/성공] 조회 시작시각은 그 시각이 속한 구간의 시작으로 맞추고, 종료시각은 포함하지 않는다")
+    public void 조회_구간_경계() {
+        // given
+        commit(1L, 1000, TransactionType.CHARGE, DAY_1 + 10 * HOUR);
+        commit(1L, 500, TransactionType.CHARGE, DAY_1 + DAY);
+
+        // when
+        PointSummary summary = pointRollupStore.summary(1L, RollupGranularity.DAY, DAY_1 + 12 * HOUR, DAY_1 + DAY);
+
+        // then
+        assertEquals(DAY_1, summary.from());
+        assertEquals(List.of(new PointRollupBucket(DAY_1, 1, 1000, 0, 0, 0, 0)), summary.buckets());
+    }
+
+    @Test
+    @DisplayName("[집계/성공] 집계 전에 저장된 내역은 처음 쓰거나 읽을 때 한 번만 반영한다")
+    public void 기존_내역_재구성() {
+        // given: 집계가 모르는 상태로 저장된 내역(저널 복구 등)
+        pointHistoryStore.insert(1L, 1000, TransactionType.CHARGE, DAY_1 + HOUR);
+        pointHistoryStore.insert(1L, 300, TransactionType.USE, DAY_1 + 2 * HOUR);
+
+        // when: 이후 새 내역이 저장되고 listener 로 전달됨
+        commit(1L, 200, TransactionType.USE, DAY_1 + 3 * HOUR);
+        PointSummary summary = pointRollupStore.summary(1L, RollupGranularity.DAY, DAY_1, DAY_1 + DAY);
+
+        // then
+        assertEquals(new PointRollupBucket(DAY_1, 1, 1000, 2, 500, 0, 0), summary.total());
+
+        // rebuild 해도 같은 결과
+        pointRollupStore.rebuild(1L);
+        assertEquals(summary, pointRollupStore.summary(1L, RollupGranularity.DAY, DAY_1, DAY_1 + DAY));
+    }
+
+    @Test
+    @DisplayName("[집계/성공] 보관 기간이 지난 구간은 지운다")
+    public void 보관_기간() {
+        // given: MINUTE 보관 기간은 1일
+        commit(1L, 1000, TransactionType.CHARGE, DAY_1);
+        commit(1L, 500, TransactionType.CHARGE, DAY_1 + 2 * DAY);
+
+        // when
+        PointSummary minutes = pointRollupStore.summary(1L, RollupGranularity.MINUTE, DAY_1, DAY_1 + 60_000);
+        PointSummary days = pointRollupStore.summary(1L, RollupGranularity.DAY, DAY_1, DAY_1 + 3 * DAY);
+
+        // then
+        assertEquals(List.of(), minutes.buckets());
+        assertEquals(2, days.buckets().size());
+    }
+
+    @Test
+    @DisplayName("[집계/성공] 내역이 없는 유저를 조회하면 집계를 만들지 않고 빈 집계를 돌려준다")
+    public void 내역_없는_유저() {
+        // when
+        PointSummary summary = pointRollupStore.summary(99L, RollupGranularity.DAY, DAY_1 + 12 * HOUR, DAY_1 + DAY);
+
+        // then
+        assertEquals(DAY_1, summary.from());
+        assertEquals(List.of(), summary.buckets());
+        assertEquals(new PointRollupBucket(DAY_1, 0, 0, 0, 0, 0, 0), summary.total());
+        assertEquals(0, pointRollupStore.size());
+
+        // 집계 전에 저장된 내역이 있으면 조회할 때 만듦
+        pointHistoryStore.insert(99L, 1000, TransactionType.CHARGE, DAY_1 + HOUR);
+        assertEquals(new PointRollupBucket(DAY_1, 1, 1000, 0, 0, 0, 0),
+                pointRollupStore.summary(99L, RollupGranularity.DAY, DAY_1, DAY_1 + DAY).total());
+        assertEquals(1, pointRollupStore.size());
+    }
+
+    @Test
+    @DisplayName("[집계/실패] 시작시각이 종료시각보다 늦거나 구간 수가 최대를 넘으면 실패한다")
+    public void 조회_조건_검증() {
+        assertThrows(RuntimeException.class, () -> pointRollupStore.summary(1L, RollupGranularity.DAY, DAY_1 + DAY, DAY_1));
+        assertThrows(RuntimeException.class, () -> pointRollupStore.summary(1L, RollupGranularity.MINUTE, DAY_1, DAY_1 + 2 * DAY));
+    }
+
+    private void commit(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = pointHistoryStore.insert(userId, amount, type, updateMillis);
+        pointRollupStore.onCommitted(pointHistory, new UserPoint(userId, 0, updateMillis));
+    }
+}
@@ -2,24 +2,49 @@ package io.hhplus.tdd.point.service;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.admission.PointAdmissionControl;
+import io.hhplus.tdd.point.admission.PointAdmissionProperties;
+import io.hhplus.tdd.point.balance.BalanceCells;
+import io.hhplus.tdd.point.balance.PrimitiveBalanceStore;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.cache.UserPointCacheProperties;
 import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointOverloadedException;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryCursor;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.PointHistorySlice;
+import io.hhplus.tdd.point.history.PointHistoryWriter;
+import io.hhplus.tdd.point.history.PointHistoryWriterProperties;
+import io.hhplus.tdd.point.lock.RefCountedUserLockRegistry;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,8 +56,12 @@ class PointServiceTest {
     @Mock
     private PointHistoryTable pointHistoryTable;
 
-    @InjectMocks
     private PointService pointService;
+    private PointHistoryIndex pointHistoryIndex;
+    private UserPointCache userPointCache;
+    private SimpleMeterRegistry meterRegistry;
+    private PointMetrics pointMetrics;
+    private PointAdmissionControl admissionControl;
 
     private UserPoint currUserPoint;
     private Lock lock;
@@ -44,6 +73,16 @@ class PointServiceTest {
         currUserPoint = new UserPoint(10L, 1000L,System.currentTimeMillis());  // ID: 10, 포인트: 1000
         lock = new ReentrantLock();
         userPointMap = new ConcurrentHashMap<>();
+        // 내역 저장은 동기 모드로 두어 charge/use 반환 시점에 바로 검증할 수 있게 함
+        pointHistoryIndex = new PointHistoryIndex(pointHistoryTable);
+        meterRegistry = new SimpleMeterRegistry();
+        pointMetrics = new PointMetrics(meterRegistry);
+        admissionControl = new PointAdmissionControl(new PointAdmissionProperties(10000, 64, Duration.ofSeconds(2)), pointMetrics, meterRegistry);
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryIndex,
+                new PointHistoryWriterProperties(false, 100, Duration.ofMillis(5), 100, Duration.ofSeconds(1)), pointMetrics, List.of());
+        userPointCache = new UserPointCache(new UserPointCacheProperties(1000));
+        pointService = new PointService(new UserPointTableBalanceStore(userPointTable), pointHistoryWriter, pointHistoryIndex, userPointCache, new RefCountedUserLockRegistry(), pointMetrics,
+                new BalanceCells(), new PointConcurrencyProperties(PointConcurrencyProperties.Mode.LOCK, 8, 256), admissionControl);
     }
     @Test
     @DisplayName("[포인트충전/성공] 포인트 충전 성공")
@@ -58,6 +97,8 @@ class PointServiceTest {
         // 충전 후 포인트는 4000
         UserPoint updatedUserPoint = new UserPoint(10L, 4000, System.currentTimeMillis());
         when(userPointTable.insertOrUpdate(currUserPoint.id(), currUserPoint.point() + pointHistoryDto.getAmount())).thenReturn(updatedUserPoint);
+        when(pointHistoryTable.insert(10L, 3000, TransactionType.CHARGE, pointHistoryDto.getUpdateMillis()))
+                .thenReturn(new PointHistory(1L, 10L, 3000, TransactionType.CHARGE, pointHistoryDto.getUpdateMillis()));
 
         // when
         UserPoint resultUserPoint = pointService.charge(pointHistoryDto);
@@ -82,6 +123,25 @@ class PointServiceTest {
         assertEquals("최대잔고를 초과함", thrown.getMessage());
     }
 
+    @Test
+    @DisplayName("[지표/성공] 거절된 요청은 사유별로 집계된다")
+    public void 거절_사유_집계() {
+        // given: 잔고 1000, 충전 후 11초 지남
+        UserPoint expiredUserPoint = new UserPoint(10L, 1000, System.currentTimeMillis() - 11000);
+        when(userPointTable.selectById(10L)).thenReturn(expiredUserPoint);
+
+        // when
+        assertThrows(RuntimeException.class, () -> pointService.charge(new PointHistoryDto(10L, 4500, TransactionType.CHARGE)));
+        assertThrows(RuntimeException.class, () -> pointService.use(new PointHistoryDto(10L, 2000, TransactionType.USE)));
+        assertThrows(RuntimeException.class, () -> pointService.use(new PointHistoryDto(10L, 100, TransactionType.USE)));
+
+        // then
+        assertEquals(1.0, meterRegistry.get("point.rejected").tag("cause", "over_max_balance").counter().count());
+        assertEquals(1.0, meterRegistry.get("point.rejected").tag("cause", "insufficient_balance").counter().count());
+        assertEquals(1.0, meterRegistry.get("point.rejected").tag("cause", "expired").counter().count());
+        assertEquals(3, meterRegistry.get("point.lock.wait").timers().stream().mapToLong(timer -> timer.count()).sum());
+    }
+
     @Test
     @DisplayName("[포인트사용/성공] 포인트 사용 성공")
     public void 포인트_사용_성공() throws Exception {
@@ -95,6 +155,8 @@ class PointServiceTest {
         // 예상 결과: 1000에서 100을 사용하고 남은 포인트는 900
         UserPoint updatedUserPoint = new UserPoint(10L, 900, System.currentTimeMillis());
         when(userPointTable.insertOrUpdate(currUserPoint.id(), currUserPoint.point() - pointHistoryDto.getAmount())).thenReturn(updatedUserPoint);
+        when(pointHistoryTable.insert(10L, 100, TransactionType.USE, pointHistoryDto.getUpdateMillis()))
+                .thenReturn(new PointHistory(1L, 10L, 100, TransactionType.USE, pointHistoryDto.getUpdateMillis()));
 
         // when
         UserPoint resultUserPoint = pointService.use(pointHistoryDto);
@@ -139,6 +201,79 @@ class PointServiceTest {
         assertEquals("만료된 포인트입니다.", thrown.getMessage());
     }
 
+    @Test
+    @DisplayName("[포인트조회/성공] 조회 및 충전 이후의 조회는 캐시에서 응답")
+    public void 포인트_조회_캐시() {
+        // given
+        when(userPointTable.selectById(10L)).thenReturn(currUserPoint);
+        UserPoint charged = new UserPoint(10L, 1500L, System.currentTimeMillis());
+        when(userPointTable.insertOrUpdate(10L, 1500L)).thenReturn(charged);
+        PointHistoryDto pointHistoryDto = new PointHistoryDto(10L, 500, TransactionType.CHARGE);
+        when(pointHistoryTable.insert(10L, 500, TransactionType.CHARGE, pointHistoryDto.getUpdateMillis()))
+                .thenReturn(new PointHistory(1L, 10L, 500, TransactionType.CHARGE, pointHistoryDto.getUpdateMillis()));
+
+        // when
+        UserPoint first = pointService.point(10L);
+        pointService.charge(pointHistoryDto);
+        UserPoint afterCharge = pointService.point(10L);
+
+        // then: 테이블 조회는 최초 1회뿐이고 충전 결과가 그대로 조회된다
+        assertEquals(1000L, first.point());
+        assertEquals(charged, afterCharge);
+        verify(userPointTable, times(1)).selectById(10L);
+        assertEquals(1, userPointCache.stats().misses());
+        assertEquals(2, userPointCache.stats().hits());
+    }
+
+    @Test
+    @DisplayName("[포인트내역조회/성공] 충전 후 내역 조회는 인덱스에서 조회")
+    public void 포인트_내역_조회_인덱스() {
+        // given
+        PointHistoryDto pointHistoryDto = new PointHistoryDto(10L, 500, TransactionType.CHARGE);
+        PointHistory saved = new PointHistory(1L, 10L, 500, TransactionType.CHARGE, pointHistoryDto.getUpdateMillis());
+
+        when(userPointTable.selectById(10L)).thenReturn(currUserPoint);
+        when(userPointTable.insertOrUpdate(10L, 1500L)).thenReturn(new UserPoint(10L, 1500L, System.currentTimeMillis()));
+        when(pointHistoryTable.insert(10L, 500, TransactionType.CHARGE, pointHistoryDto.getUpdateMillis())).thenReturn(saved);
+
+        // when
+        pointService.charge(pointHistoryDto);
+        List<PointHistory> first = pointService.history(10L);
+        List<PointHistory> second = pointService.history(10L);
+
+        // then: 첫 충전이나 조회에서도 테이블 전체 스캔은 일어나지 않는다
+        assertEquals(List.of(saved), first);
+        assertEquals(List.of(saved), second);
+        verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("[포인트내역조회/성공] 커서 기반 페이지 조회 및 종류 필터")
+    public void 포인트_내역_페이지_조회() {
+        // given: 충전/사용 내역 5건
+        List<PointHistory> saved = List.of(
+                new PointHistory(1L, 10L, 1000, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, 10L, 100, TransactionType.USE, 2L),
+                new PointHistory(3L, 10L, 500, TransactionType.CHARGE, 3L),
+                new PointHistory(4L, 10L, 200, TransactionType.USE, 4L),
+                new PointHistory(5L, 10L, 300, TransactionType.CHARGE, 5L));
+        saved.forEach(pointHistoryIndex::append);
+
+        // when: 충전 내역만 2건씩 조회
+        PointHistorySlice firstPage = pointService.history(10L, new PointHistoryQuery(null, 2, null, null, TransactionType.CHARGE));
+        List<PointHistory> first = new ArrayList<>();
+        firstPage.forEach(first::add);
+
+        PointHistorySlice secondPage = pointService.history(10L, new PointHistoryQuery(PointHistoryCursor.decode(firstPage.nextCursor()), 2, null, null, TransactionType.CHARGE));
+        List<PointHistory> second = new ArrayList<>();
+        secondPage.forEach(second::add);
+
+        // then
+        assertEquals(List.of(saved.get(0), saved.get(2)), first);
+        assertEquals(List.of(saved.get(4)), second);
+        assertNull(secondPage.nextCursor());
+    }
+
     @Test
     @DisplayName("[포인트 사용 및 충전/성공] 동시성 테스트 ")
     public void 동시성_테스트() throws InterruptedException, ExecutionException {
@@ -165,6 +300,9 @@ class PointServiceTest {
             userPointMap.put(id, new UserPoint(id, newPoint, System.currentTimeMillis()));
             return userPointMap.get(id);
         });
+        AtomicLong historyCursor = new AtomicLong(1);
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> new PointHistory(
+                historyCursor.getAndIncrement(), invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
 
         ExecutorService executorService = Executors.newFixedThreadPool(10);
         CountDownLatch latch = new CountDownLatch(1);
@@ -235,4 +373,252 @@ class PointServiceTest {
             executorService.shutdownNow(); // 모든 작업이 종료되지 않으면 강제로 종료
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[포인트 사용 및 충전/성공] OPTIMISTIC 모드 동시성 테스트")
+    public void 낙관적_동시성_테스트() throws InterruptedException, ExecutionException {
+        // given: 잔고 2500 인 유저에게 충전/사용 100 을 동시에 요청(재시도 1번 후 lock 으로 넘어감)
+        long userId = 10L;
+        PrimitiveBalanceStore balanceStore = new PrimitiveBalanceStore(16);
+        balanceStore.insertOrUpdate(userId, 2500);
+        List<PointHistory> histories = new CopyOnWriteArrayList<>();
+        AtomicLong historyCursor = new AtomicLong(1);
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            PointHistory pointHistory = new PointHistory(historyCursor.getAndIncrement(), invocation.getArgument(0),
+                    invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3));
+            histories.add(pointHistory);
+            return pointHistory;
+        });
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(pointHistoryTable);
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryIndex,
+                new PointHistoryWriterProperties(false, 100, Duration.ofMillis(5), 100, Duration.ofSeconds(1)), pointMetrics, List.of());
+        PointService optimisticService = new PointService(balanceStore, pointHistoryWriter, pointHistoryIndex,
+                userPointCache, new RefCountedUserLockRegistry(), pointMetrics,
+                new BalanceCells(), new PointConcurrencyProperties(PointConcurrencyProperties.Mode.OPTIMISTIC, 1, 256), admissionControl);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            futures.add(executorService.submit(() -> {
+                latch.await(1, TimeUnit.SECONDS);
+                for (int j = 0; j < 200; j++) {
+                    PointHistoryDto pointHistoryDto = new PointHistoryDto(userId, 100, type);
+                    try {
+                        if (type == TransactionType.CHARGE) {
+                            optimisticService.charge(pointHistoryDto);
+                        } else {
+                            optimisticService.use(pointHistoryDto);
+                        }
+                        succeeded.incrementAndGet();
+                    } catch (RuntimeException rejected) {
+                        // 최대잔고 초과/잔고부족 거절
+                    }
+                }
+                return null;
+            }));
+        }
+        latch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then: 내역을 순서대로 반영한 잔고가 조회/저장된 잔고와 같다
+        long replayed = 2500;
+        for (PointHistory pointHistory : histories) {
+            replayed += pointHistory.type() == TransactionType.CHARGE ? pointHistory.amount() : -pointHistory.amount();
+            assertTrue(replayed >= 0 && replayed <= 5000);
+        }
+        assertEquals(succeeded.get(), histories.size());
+        assertEquals(replayed, optimisticService.point(userId).point());
+        assertEquals(replayed, balanceStore.selectById(userId).point());
+    }
+
+    @Test
+    @DisplayName("[포인트사용/실패] OPTIMISTIC 모드에서도 같은 사유로 거절")
+    public void 낙관적_사용_잔고부족() {
+        // given
+        PrimitiveBalanceStore balanceStore = new PrimitiveBalanceStore(16);
+        balanceStore.insertOrUpdate(10L, 1000);
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(pointHistoryTable);
+        PointService optimisticService = new PointService(balanceStore,
+                new PointHistoryWriter(pointHistoryIndex, new PointHistoryWriterProperties(false, 100, Duration.ofMillis(5), 100, Duration.ofSeconds(1)), pointMetrics, List.of()),
+                pointHistoryIndex, userPointCache, new RefCountedUserLockRegistry(), pointMetrics,
+                new BalanceCells(), new PointConcurrencyProperties(PointConcurrencyProperties.Mode.OPTIMISTIC, 8, 256), admissionControl);
+
+        // when & then
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> optimisticService.use(new PointHistoryDto(10L, 2000, TransactionType.USE)));
+        assertEquals("포인트가 부족합니다.", thrown.getMessage());
+        thrown = assertThrows(RuntimeException.class, () -> optimisticService.charge(new PointHistoryDto(10L, 4500, TransactionType.CHARGE)));
+        assertEquals("최대잔고를 초과함", thrown.getMessage());
+        assertEquals(1000L, optimisticService.point(10L).point());
+        assertEquals(1.0, meterRegistry.get("point.rejected").tag("cause", "insufficient_balance").counter().count());
+    }
+
+    @Test
+    @DisplayName("[포인트충전/성공] COMBINING 모드는 몰린 요청의 잔고를 모아서 저장")
+    public void 요청_모아서_처리() throws InterruptedException, ExecutionException {
+        // given: 잔고 저장에 5ms 가 걸리는 테이블에 16 스레드가 100 씩 3번 충전
+        long userId = 10L;
+        Map<Long, UserPoint> userPointMap = new ConcurrentHashMap<>();
+        AtomicInteger tableWrites = new AtomicInteger();
+        when(userPointTable.selectById(userId)).thenAnswer(invocation -> userPointMap.getOrDefault(userId, UserPoint.empty(userId)));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(5);
+            tableWrites.incrementAndGet();
+            UserPoint userPoint = new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis());
+            userPointMap.put(userPoint.id(), userPoint);
+            return userPoint;
+        });
+        AtomicLong historyCursor = new AtomicLong(1);
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> new PointHistory(
+                historyCursor.getAndIncrement(), invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(pointHistoryTable);
+        PointService combiningService = new PointService(new UserPointTableBalanceStore(userPointTable),
+                new PointHistoryWriter(pointHistoryIndex, new PointHistoryWriterProperties(false, 100, Duration.ofMillis(5), 100, Duration.ofSeconds(1)), pointMetrics, List.of()),
+                pointHistoryIndex, userPointCache, new RefCountedUserLockRegistry(), pointMetrics,
+                new BalanceCells(), new PointConcurrencyProperties(PointConcurrencyProperties.Mode.COMBINING, 8, 256), admissionControl);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Future<List<UserPoint>>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(executorService.submit(() -> {
+                latch.await(1, TimeUnit.SECONDS);
+                List<UserPoint> results = new ArrayList<>();
+                for (int j = 0; j < 3; j++) {
+                    results.add(combiningService.charge(new PointHistoryDto(userId, 100, TransactionType.CHARGE)));
+                }
+                return results;
+            }));
+        }
+        latch.countDown();
+        List<Long> points = new ArrayList<>();
+        for (Future<List<UserPoint>> future : futures) {
+            future.get().forEach(userPoint -> points.add(userPoint.point()));
+        }
+        executorService.shutdown();
+
+        // then: 각 요청은 자기 차례의 잔고를 받고, 잔고 저장 횟수는 요청 수보다 적다
+        assertEquals(4800L, userPointMap.get(userId).point());
+        assertEquals(48, points.stream().distinct().count());
+        assertEquals(48, pointHistoryIndex.findAllByUserId(userId).size());
+        assertTrue(tableWrites.get() < 48);
+    }
+
+    @Test
+    @DisplayName("[포인트사용/실패] COMBINING 모드에서 거절된 요청만 실패")
+    public void 모아서_처리_거절() {
+        // given: 잔고 1000
+        when(userPointTable.selectById(10L)).thenReturn(currUserPoint);
+        when(userPointTable.insertOrUpdate(10L, 1500L)).thenReturn(new UserPoint(10L, 1500L, System.currentTimeMillis()));
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> new PointHistory(
+                1L, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(pointHistoryTable);
+        PointService combiningService = new PointService(new UserPointTableBalanceStore(userPointTable),
+                new PointHistoryWriter(pointHistoryIndex, new PointHistoryWriterProperties(false, 100, Duration.ofMillis(5), 100, Duration.ofSeconds(1)), pointMetrics, List.of()),
+                pointHistoryIndex, userPointCache, new RefCountedUserLockRegistry(), pointMetrics,
+                new BalanceCells(), new PointConcurrencyProperties(PointConcurrencyProperties.Mode.COMBINING, 8, 256), admissionControl);
+
+        // when & then
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> combiningService.use(new PointHistoryDto(10L, 2000, TransactionType.USE)));
+        assertEquals("포인트가 부족합니다.", thrown.getMessage());
+        assertEquals(1500L, combiningService.charge(new PointHistoryDto(10L, 500, TransactionType.CHARGE)).point());
+        verify(userPointTable, times(1)).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("[포인트충전/실패] 유저 lock 을 lockTimeout 안에 얻지 못하면 바로 거절")
+    public void 락_대기시간_초과() throws Exception {
+        // given: 다른 스레드가 유저 10 의 lock 을 보유
+        RefCountedUserLockRegistry userLockRegistry = new RefCountedUserLockRegistry();
+        PointAdmissionControl shortWait = new PointAdmissionControl(new PointAdmissionProperties(10000, 64, Duration.ofMillis(50)), pointMetrics, new SimpleMeterRegistry());
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex(pointHistoryTable);
+        PointService timeoutService = new PointService(new UserPointTableBalanceStore(userPointTable),
+                new PointHistoryWriter(pointHistoryIndex, new PointHistoryWriterProperties(false, 100, Duration.ofMillis(5), 100, Duration.ofSeconds(1)), pointMetrics, List.of()),
+                pointHistoryIndex, userPointCache, userLockRegistry, pointMetrics,
+                new BalanceCells(), new PointConcurrencyProperties(PointConcurrencyProperties.Mode.LOCK, 8, 256), shortWait);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Lock held = executorService.submit(() -> userLockRegistry.acquire(10L)).get();
+
+        // when & then
+        assertThrows(PointOverloadedException.class, () -> timeoutService.charge(new PointHistoryDto(10L, 500, TransactionType.CHARGE)));
+        assertEquals(1.0, meterRegistry.get("point.rejected").tag("cause", "lock_timeout").counter().count());
+        assertEquals(0, shortWait.inFlight());
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+
+        executorService.submit(() -> userLockRegistry.release(10L, held)).get();
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("[포인트충전/실패] 내역 대기열 자리가 없으면 잔고를 바꾸지 않고 거절")
+    public void 내역_대기열_가득참() throws Exception {
+        for (PointConcurrencyProperties.Mode mode : PointConcurrencyProperties.Mode.values()) {
+            // given: 자리가 하나뿐인 write-behind 대기열을 미리 잡아둠
+            PrimitiveBalanceStore balanceStore = new PrimitiveBalanceStore(16);
+            balanceStore.insertOrUpdate(10L, 1000);
+            ColumnarPointHistoryStore pointHistoryStore = new ColumnarPointHistoryStore();
+            PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryStore,
+                    new PointHistoryWriterProperties(true, 100, Duration.ofMillis(5), 1, Duration.ofMillis(10)), pointMetrics, List.of());
+            pointHistoryWriter.start();
+            pointHistoryWriter.reserve(1);
+            PointService fullService = new PointService(balanceStore, pointHistoryWriter, pointHistoryStore,
+                    new UserPointCache(new UserPointCacheProperties(16)), new RefCountedUserLockRegistry(), pointMetrics,
+                    new BalanceCells(), new PointConcurrencyProperties(mode, 8, 256), admissionControl);
+
+            // when & then
+            assertThrows(PointOverloadedException.class, () -> fullService.charge(new PointHistoryDto(10L, 500, TransactionType.CHARGE)));
+            assertEquals(1000L, fullService.point(10L).point());
+            assertEquals(1000L, balanceStore.selectById(10L).point());
+
+            // 자리가 나면 다시 처리됨
+            pointHistoryWriter.release(1);
+            assertEquals(1500L, fullService.charge(new PointHistoryDto(10L, 500, TransactionType.CHARGE)).point());
+            assertTrue(pointHistoryWriter.flush(5000));
+            assertEquals(1, pointHistoryStore.findAllByUserId(10L).size());
+            pointHistoryWriter.close();
+        }
+    }
+
+    @Test
+    @DisplayName("[만료/성공] 만료시간이 지난 잔고만 0 으로 만들고 만료 내역을 남긴다(등록 뒤 잔고가 바뀌었으면 건너뜀)")
+    public void 만료_처리() {
+        for (PointConcurrencyProperties.Mode mode : List.of(PointConcurrencyProperties.Mode.LOCK, PointConcurrencyProperties.Mode.OPTIMISTIC)) {
+            // given: 20초 전에 충전한 유저(1), 방금 충전한 유저(2)
+            long now = System.currentTimeMillis();
+            long stale = now - 20000;
+            PrimitiveBalanceStore balanceStore = new PrimitiveBalanceStore(16);
+            balanceStore.put(1L, 1500, stale);
+            balanceStore.put(2L, 1000, now);
+            ColumnarPointHistoryStore pointHistoryStore = new ColumnarPointHistoryStore();
+            PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryStore,
+                    new PointHistoryWriterProperties(false, 100, Duration.ofMillis(5), 100, Duration.ofSeconds(1)), pointMetrics, List.of());
+            PointService expiringService = new PointService(balanceStore, pointHistoryWriter, pointHistoryStore,
+                    new UserPointCache(new UserPointCacheProperties(16)), new RefCountedUserLockRegistry(), pointMetrics,
+                    new BalanceCells(), new PointConcurrencyProperties(mode, 8, 256), admissionControl);
+
+            // when
+            UserPoint expired = expiringService.expire(1L, stale);
+            UserPoint again = expiringService.expire(1L, stale);
+            UserPoint notYet = expiringService.expire(2L, now);
+            UserPoint otherVersion = expiringService.expire(2L, stale);
+
+            // then
+            assertEquals(0L, expired.point());
+            assertEquals(0L, expiringService.point(1L).point());
+            assertNull(again);
+            assertNull(notYet);
+            assertNull(otherVersion);
+            assertEquals(1000L, expiringService.point(2L).point());
+            List<PointHistory> histories = pointHistoryStore.findAllByUserId(1L);
+            assertEquals(1, histories.size());
+            assertEquals(TransactionType.EXPIRE, histories.get(0).type());
+            assertEquals(1500L, histories.get(0).amount());
+            assertTrue(pointHistoryStore.findAllByUserId(2L).isEmpty());
+        }
+    }
+}